@@ -1,5 +1,7 @@
 package de.ferderer.guard4j.examples.finstream;
 
+import de.ferderer.guard4j.error.ErrorRegistry;
+import de.ferderer.guard4j.examples.finstream.common.error.FinStreamError;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -45,6 +47,7 @@ public class App {
         System.out.println("📊 Metrics: /actuator/prometheus");
         System.out.println("❤️  Health: /actuator/health");
 
+        ErrorRegistry.register(FinStreamError.class);
         SpringApplication.run(App.class, args);
 
         System.out.println("✅ FinStream application started successfully!");
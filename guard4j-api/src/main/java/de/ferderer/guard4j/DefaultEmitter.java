@@ -3,6 +3,7 @@ package de.ferderer.guard4j;
 import de.ferderer.guard4j.classification.Level;
 import de.ferderer.guard4j.observability.ObservabilityProcessor;
 import de.ferderer.guard4j.observability.ObservableEvent;
+import java.util.function.Supplier;
 
 /**
  * Default implementation of the Emitter interface.
@@ -11,6 +12,12 @@ import de.ferderer.guard4j.observability.ObservableEvent;
  * {@link ObservabilityProcessor}, adding the appropriate logging level
  * and class name context.
  *
+ * <p>Each emitter caches the effective level published by the processor
+ * through {@link ObservabilityProcessor#effectiveLevel(String)}. Events below
+ * that level are dropped after a single field read, and lazily supplied
+ * events are never constructed. The cached level is refreshed by
+ * {@link EmitterFactory} whenever the processor changes.
+ *
  * <p>If no processor is configured, events are silently ignored to
  * prevent application failures due to observability issues.
  *
@@ -18,17 +25,33 @@ import de.ferderer.guard4j.observability.ObservableEvent;
  */
 class DefaultEmitter implements Emitter {
 
+    /** Threshold used when no level is processed at all. */
+    private static final int DISABLED = Integer.MAX_VALUE;
+
     private final String className;
 
+    /** Ordinal of the lowest processed level, or {@link #DISABLED}. */
+    private volatile int threshold;
+
     /**
      * Creates a new DefaultEmitter for the specified class.
      *
      * @param className the fully qualified class name
-     * @param processor the observability processor, may be null (for compatibility)
+     * @param processor the current observability processor, may be null
      */
     DefaultEmitter(String className, ObservabilityProcessor processor) {
         this.className = className;
-        // Note: We don't store the processor as it may be updated in the factory
+        refreshLevel(processor);
+    }
+
+    /**
+     * Re-reads the effective level from the given processor.
+     *
+     * @param processor the current observability processor, may be null
+     */
+    void refreshLevel(ObservabilityProcessor processor) {
+        Level level = processor != null ? processor.effectiveLevel(className) : null;
+        threshold = level != null ? level.ordinal() : DISABLED;
     }
 
     @Override
@@ -56,10 +79,85 @@ class DefaultEmitter implements Emitter {
         processWithLevel(event, Level.ERROR);
     }
 
+    @Override
+    public void trace(Supplier<? extends ObservableEvent> event) {
+        processWithLevel(event, Level.TRACE);
+    }
+
+    @Override
+    public void debug(Supplier<? extends ObservableEvent> event) {
+        processWithLevel(event, Level.DEBUG);
+    }
+
+    @Override
+    public void info(Supplier<? extends ObservableEvent> event) {
+        processWithLevel(event, Level.INFO);
+    }
+
+    @Override
+    public void warn(Supplier<? extends ObservableEvent> event) {
+        processWithLevel(event, Level.WARN);
+    }
+
+    @Override
+    public void error(Supplier<? extends ObservableEvent> event) {
+        processWithLevel(event, Level.ERROR);
+    }
+
+    @Override
+    public boolean isTraceEnabled() {
+        return isEnabled(Level.TRACE);
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return isEnabled(Level.DEBUG);
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return isEnabled(Level.INFO);
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return isEnabled(Level.WARN);
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+        return isEnabled(Level.ERROR);
+    }
+
+    @Override
+    public void timed(Level level, ObservableEvent event, long durationNanos) {
+        if (level == null) {
+            throw new NullPointerException("Level cannot be null");
+        }
+        if (event == null) {
+            throw new NullPointerException("Event cannot be null");
+        }
+        if (durationNanos < 0) {
+            throw new IllegalArgumentException("durationNanos must not be negative");
+        }
+        if (!isEnabled(level)) {
+            return;
+        }
+
+        ObservabilityProcessor currentProcessor = EmitterFactory.processor;
+        if (currentProcessor != null) {
+            currentProcessor.processTimed(event, durationNanos, level, className);
+        }
+    }
+
+    boolean isEnabled(Level level) {
+        return level.ordinal() >= threshold;
+    }
+
     /**
      * Processes an event with the specified level.
      *
-     * <p>Updates the processor reference from the factory to handle
+     * <p>Reads the processor reference from the factory to handle
      * cases where the processor is set after emitter creation.
      *
      * @param event the event to process
@@ -69,6 +167,9 @@ class DefaultEmitter implements Emitter {
         if (event == null) {
             throw new NullPointerException("Event cannot be null");
         }
+        if (!isEnabled(level)) {
+            return;
+        }
 
         // Get the current processor (may have been updated since emitter creation)
         ObservabilityProcessor currentProcessor = EmitterFactory.processor;
@@ -76,4 +177,20 @@ class DefaultEmitter implements Emitter {
             currentProcessor.processWithLevel(event, level, className);
         }
     }
+
+    /**
+     * Processes a lazily created event with the specified level.
+     *
+     * @param supplier the supplier of the event to process
+     * @param level the logging level
+     */
+    private void processWithLevel(Supplier<? extends ObservableEvent> supplier, Level level) {
+        if (supplier == null) {
+            throw new NullPointerException("Event supplier cannot be null");
+        }
+        if (!isEnabled(level)) {
+            return;
+        }
+        processWithLevel(supplier.get(), level);
+    }
 }
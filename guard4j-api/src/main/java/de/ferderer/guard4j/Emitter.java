@@ -1,6 +1,9 @@
 package de.ferderer.guard4j;
 
+import de.ferderer.guard4j.classification.Level;
 import de.ferderer.guard4j.observability.ObservableEvent;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
 
 /**
  * Emitter interface for logging observability events at different levels.
@@ -20,6 +23,30 @@ import de.ferderer.guard4j.observability.ObservableEvent;
  * }
  * }</pre>
  *
+ * <p>Events emitted in hot paths at verbose levels can be guarded or built lazily,
+ * so that nothing is allocated when the level is disabled:
+ * <pre>{@code
+ * if (events.isDebugEnabled()) {
+ *     events.debug(new CacheLookupEvent(key));
+ * }
+ *
+ * events.debug(() -> new CacheLookupEvent(key));
+ * }</pre>
+ *
+ * <p>Durations are measured with {@link System#nanoTime()} and emitted together
+ * with an event, so processors can record them, e.g. in a timer metric. A
+ * {@link Timing} handle can be kept and restarted, so repeated measurements do
+ * not allocate:
+ * <pre>{@code
+ * private final Timing checkoutTiming = events.timing(Level.INFO, new CheckoutEvent());
+ *
+ * try (Timing timing = checkoutTiming.start()) {
+ *     checkout(cart);
+ * }
+ *
+ * Receipt receipt = events.time(Level.INFO, new CheckoutEvent(), () -> checkout(cart));
+ * }</pre>
+ *
  * @since 2.0.0
  */
 public interface Emitter {
@@ -58,4 +85,256 @@ public interface Emitter {
      * @param event the event to emit, must not be null
      */
     void error(ObservableEvent event);
+
+    /**
+     * Emit a lazily created event at TRACE level.
+     *
+     * <p>The supplier is only invoked if TRACE is enabled for this emitter.
+     *
+     * @param event supplier of the event to emit, must not be null and must not return null
+     * @since 2.2.0
+     */
+    default void trace(Supplier<? extends ObservableEvent> event) {
+        if (event == null) {
+            throw new NullPointerException("Event supplier cannot be null");
+        }
+        if (isTraceEnabled()) {
+            trace(event.get());
+        }
+    }
+
+    /**
+     * Emit a lazily created event at DEBUG level.
+     *
+     * <p>The supplier is only invoked if DEBUG is enabled for this emitter.
+     *
+     * @param event supplier of the event to emit, must not be null and must not return null
+     * @since 2.2.0
+     */
+    default void debug(Supplier<? extends ObservableEvent> event) {
+        if (event == null) {
+            throw new NullPointerException("Event supplier cannot be null");
+        }
+        if (isDebugEnabled()) {
+            debug(event.get());
+        }
+    }
+
+    /**
+     * Emit a lazily created event at INFO level.
+     *
+     * <p>The supplier is only invoked if INFO is enabled for this emitter.
+     *
+     * @param event supplier of the event to emit, must not be null and must not return null
+     * @since 2.2.0
+     */
+    default void info(Supplier<? extends ObservableEvent> event) {
+        if (event == null) {
+            throw new NullPointerException("Event supplier cannot be null");
+        }
+        if (isInfoEnabled()) {
+            info(event.get());
+        }
+    }
+
+    /**
+     * Emit a lazily created event at WARN level.
+     *
+     * <p>The supplier is only invoked if WARN is enabled for this emitter.
+     *
+     * @param event supplier of the event to emit, must not be null and must not return null
+     * @since 2.2.0
+     */
+    default void warn(Supplier<? extends ObservableEvent> event) {
+        if (event == null) {
+            throw new NullPointerException("Event supplier cannot be null");
+        }
+        if (isWarnEnabled()) {
+            warn(event.get());
+        }
+    }
+
+    /**
+     * Emit a lazily created event at ERROR level.
+     *
+     * <p>The supplier is only invoked if ERROR is enabled for this emitter.
+     *
+     * @param event supplier of the event to emit, must not be null and must not return null
+     * @since 2.2.0
+     */
+    default void error(Supplier<? extends ObservableEvent> event) {
+        if (event == null) {
+            throw new NullPointerException("Event supplier cannot be null");
+        }
+        if (isErrorEnabled()) {
+            error(event.get());
+        }
+    }
+
+    /**
+     * Whether events emitted at TRACE level are processed.
+     *
+     * <p>The default implementation returns true, so events are always handed to
+     * {@link #trace(ObservableEvent)}.
+     *
+     * @return true if TRACE is enabled for this emitter
+     * @since 2.2.0
+     */
+    default boolean isTraceEnabled() {
+        return true;
+    }
+
+    /**
+     * Whether events emitted at DEBUG level are processed.
+     *
+     * <p>The default implementation returns true, so events are always handed to
+     * {@link #debug(ObservableEvent)}.
+     *
+     * @return true if DEBUG is enabled for this emitter
+     * @since 2.2.0
+     */
+    default boolean isDebugEnabled() {
+        return true;
+    }
+
+    /**
+     * Whether events emitted at INFO level are processed.
+     *
+     * <p>The default implementation returns true, so events are always handed to
+     * {@link #info(ObservableEvent)}.
+     *
+     * @return true if INFO is enabled for this emitter
+     * @since 2.2.0
+     */
+    default boolean isInfoEnabled() {
+        return true;
+    }
+
+    /**
+     * Whether events emitted at WARN level are processed.
+     *
+     * <p>The default implementation returns true, so events are always handed to
+     * {@link #warn(ObservableEvent)}.
+     *
+     * @return true if WARN is enabled for this emitter
+     * @since 2.2.0
+     */
+    default boolean isWarnEnabled() {
+        return true;
+    }
+
+    /**
+     * Whether events emitted at ERROR level are processed.
+     *
+     * <p>The default implementation returns true, so events are always handed to
+     * {@link #error(ObservableEvent)}.
+     *
+     * @return true if ERROR is enabled for this emitter
+     * @since 2.2.0
+     */
+    default boolean isErrorEnabled() {
+        return true;
+    }
+
+    /**
+     * Emit an event together with a measured duration.
+     *
+     * <p>The default implementation emits the event at the given level without the
+     * duration; {@link Level#FATAL} events are emitted at ERROR level.
+     *
+     * @param level the level to emit the event at, must not be null
+     * @param event the event to emit, must not be null
+     * @param durationNanos the measured duration in nanoseconds, must not be negative
+     * @throws IllegalArgumentException if the duration is negative
+     * @since 2.2.0
+     */
+    default void timed(Level level, ObservableEvent event, long durationNanos) {
+        if (level == null) {
+            throw new NullPointerException("Level cannot be null");
+        }
+        if (durationNanos < 0) {
+            throw new IllegalArgumentException("durationNanos must not be negative");
+        }
+        switch (level) {
+            case TRACE -> trace(event);
+            case DEBUG -> debug(event);
+            case INFO -> info(event);
+            case WARN -> warn(event);
+            case ERROR, FATAL -> error(event);
+        }
+    }
+
+    /**
+     * Create a reusable handle that measures a duration and emits it with the given event.
+     *
+     * @param level the level to emit the event at, must not be null
+     * @param event the event emitted on every {@link Timing#stop() stop}, must not be null
+     * @return a new timing handle, not yet started
+     * @since 2.2.0
+     */
+    default Timing timing(Level level, ObservableEvent event) {
+        if (level == null) {
+            throw new NullPointerException("Level cannot be null");
+        }
+        if (event == null) {
+            throw new NullPointerException("Event cannot be null");
+        }
+        return new Timing(this, level, event);
+    }
+
+    /**
+     * Run an action and emit its duration with the given event.
+     *
+     * <p>The duration is emitted even if the action throws. If the level is
+     * disabled, the action runs without being measured.
+     *
+     * @param level the level to emit the event at, must not be null
+     * @param event the event to emit, must not be null
+     * @param action the action to measure, must not be null
+     * @since 2.2.0
+     */
+    default void time(Level level, ObservableEvent event, Runnable action) {
+        if (action == null) {
+            throw new NullPointerException("Action cannot be null");
+        }
+        if (!Timing.isEnabled(this, level)) {
+            action.run();
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            timed(level, event, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Call an action and emit its duration with the given event.
+     *
+     * <p>The duration is emitted even if the action throws. If the level is
+     * disabled, the action is called without being measured.
+     *
+     * @param level the level to emit the event at, must not be null
+     * @param event the event to emit, must not be null
+     * @param action the action to measure, must not be null
+     * @param <T> the result type of the action
+     * @return the result of the action
+     * @throws Exception if the action throws
+     * @since 2.2.0
+     */
+    default <T> T time(Level level, ObservableEvent event, Callable<T> action) throws Exception {
+        if (action == null) {
+            throw new NullPointerException("Action cannot be null");
+        }
+        if (!Timing.isEnabled(this, level)) {
+            return action.call();
+        }
+        long start = System.nanoTime();
+        try {
+            return action.call();
+        } finally {
+            timed(level, event, System.nanoTime() - start);
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package de.ferderer.guard4j;
 
+import de.ferderer.guard4j.observability.AsyncConfig;
+import de.ferderer.guard4j.observability.AsyncObservabilityProcessor;
 import de.ferderer.guard4j.observability.ObservabilityProcessor;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -15,12 +17,16 @@ import java.util.concurrent.ConcurrentHashMap;
  * before emitters can process events. This is typically done by framework
  * integrations during application startup.
  *
+ * <p>By default events are processed synchronously on the emitting thread.
+ * Passing an {@link AsyncConfig} to {@link #setProcessor(ObservabilityProcessor, AsyncConfig)}
+ * switches to asynchronous dispatch through a lock-free ring buffer.
+ *
  * @since 2.0.0
  */
 public class EmitterFactory {
 
-    private static final Map<String, Emitter> emitterCache = new ConcurrentHashMap<>();
-    static ObservabilityProcessor processor;
+    private static final Map<String, DefaultEmitter> emitterCache = new ConcurrentHashMap<>();
+    static volatile ObservabilityProcessor processor;
 
     /**
      * Private constructor to prevent instantiation.
@@ -41,7 +47,50 @@ public class EmitterFactory {
      *                  or null to disable event processing
      */
     public static void setProcessor(ObservabilityProcessor processor) {
+        ObservabilityProcessor previous = EmitterFactory.processor;
         EmitterFactory.processor = processor;
+        refreshLevels();
+        if (previous instanceof AsyncObservabilityProcessor async && previous != processor) {
+            async.close();
+        }
+    }
+
+    /**
+     * Sets the observability processor with asynchronous dispatch.
+     *
+     * <p>Emitters publish events into a pre-allocated ring buffer and return
+     * immediately; a dedicated dispatcher thread drains the buffer and calls
+     * the given processor. A previously installed asynchronous processor is
+     * closed after its buffered events have been dispatched.
+     *
+     * @param processor the observability processor to dispatch events to,
+     *                  or null to disable event processing
+     * @param config the ring buffer configuration, or null for synchronous processing
+     * @since 2.2.0
+     */
+    public static void setProcessor(ObservabilityProcessor processor, AsyncConfig config) {
+        if (processor == null || config == null) {
+            setProcessor(processor);
+        } else {
+            setProcessor(new AsyncObservabilityProcessor(processor, config));
+        }
+    }
+
+    /**
+     * Re-reads the effective level of every cached emitter from the current processor.
+     *
+     * <p>Called automatically when the processor changes. Processors whose level
+     * configuration changes at runtime (e.g. a logging configuration reload) should
+     * call this method so that emitters stop skipping newly enabled levels, or start
+     * skipping newly disabled ones.
+     *
+     * @since 2.2.0
+     */
+    public static void refreshLevels() {
+        ObservabilityProcessor current = processor;
+        for (DefaultEmitter emitter : emitterCache.values()) {
+            emitter.refreshLevel(current);
+        }
     }
 
     /**
@@ -55,8 +104,15 @@ public class EmitterFactory {
      * @return an emitter instance for the specified class name, never null
      */
     public static Emitter getEmitter(String className) {
-        return emitterCache.computeIfAbsent(className, name ->
-            new DefaultEmitter(name, processor));
+        ObservabilityProcessor current = processor;
+        DefaultEmitter emitter = emitterCache.computeIfAbsent(className, name ->
+            new DefaultEmitter(name, current));
+        if (processor != current) {
+            // The processor changed while the emitter was created, and refreshLevels()
+            // may have iterated the cache before the emitter was added to it
+            emitter.refreshLevel(processor);
+        }
+        return emitter;
     }
 
     /**
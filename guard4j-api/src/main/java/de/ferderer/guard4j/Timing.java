@@ -0,0 +1,101 @@
+package de.ferderer.guard4j;
+
+import de.ferderer.guard4j.classification.Level;
+import de.ferderer.guard4j.observability.ObservableEvent;
+
+/**
+ * Reusable handle that measures a duration and emits it together with an event.
+ *
+ * <p>Handles are created by {@link Emitter#timing(Level, ObservableEvent)} and can
+ * be started and stopped any number of times; {@link #start()} returns the handle
+ * itself, so a timed scope does not allocate:
+ * <pre>{@code
+ * try (Timing timing = checkoutTiming.start()) {
+ *     checkout(cart);
+ * }
+ * }</pre>
+ *
+ * <p>The clock is only read if the level is enabled when the handle is started.
+ *
+ * <p>A handle measures one scope at a time and is not thread-safe. Keep one handle
+ * per thread, e.g. in a field of a single-threaded worker, or use
+ * {@link Emitter#time(Level, ObservableEvent, Runnable)} for concurrent callers.
+ *
+ * @since 2.2.0
+ */
+public final class Timing implements AutoCloseable {
+
+    /** Start time of a handle that is not measuring. */
+    private static final long NOT_STARTED = Long.MIN_VALUE;
+
+    private final Emitter emitter;
+    private final Level level;
+    private final ObservableEvent event;
+    private long startNanos = NOT_STARTED;
+
+    Timing(Emitter emitter, Level level, ObservableEvent event) {
+        this.emitter = emitter;
+        this.level = level;
+        this.event = event;
+    }
+
+    /**
+     * Start measuring, discarding a measurement that was not stopped.
+     *
+     * @return this handle
+     */
+    public Timing start() {
+        startNanos = isEnabled(emitter, level) ? System.nanoTime() : NOT_STARTED;
+        return this;
+    }
+
+    /**
+     * Stop measuring and emit the event with the measured duration.
+     *
+     * <p>Does nothing if the handle was not started or the level was disabled at start.
+     *
+     * @return the measured duration in nanoseconds, or -1 if nothing was measured
+     */
+    public long stop() {
+        if (startNanos == NOT_STARTED) {
+            return -1;
+        }
+        long durationNanos = System.nanoTime() - startNanos;
+        startNanos = NOT_STARTED;
+        emitter.timed(level, event, durationNanos);
+        return durationNanos;
+    }
+
+    /**
+     * Whether the handle is currently measuring.
+     *
+     * @return true between a {@link #start()} with the level enabled and the next {@link #stop()}
+     */
+    public boolean isRunning() {
+        return startNanos != NOT_STARTED;
+    }
+
+    /**
+     * Same as {@link #stop()}, for use in try-with-resources.
+     */
+    @Override
+    public void close() {
+        stop();
+    }
+
+    /**
+     * Whether the emitter processes events at the given level.
+     */
+    static boolean isEnabled(Emitter emitter, Level level) {
+        if (emitter instanceof DefaultEmitter defaultEmitter) {
+            return defaultEmitter.isEnabled(level);
+        }
+        return switch (level) {
+            case TRACE -> emitter.isTraceEnabled();
+            case DEBUG -> emitter.isDebugEnabled();
+            case INFO -> emitter.isInfoEnabled();
+            case WARN -> emitter.isWarnEnabled();
+            case ERROR, FATAL -> emitter.isErrorEnabled();
+        };
+    }
+}
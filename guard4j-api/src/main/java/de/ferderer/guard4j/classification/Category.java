@@ -12,6 +12,11 @@ package de.ferderer.guard4j.classification;
  *   <li><strong>EXTERNAL</strong> - External service failures (retryable)</li>
  * </ul>
  *
+ * <p>BUSINESS and VALIDATION errors do not capture a stack trace by default. They
+ * describe expected outcomes whose throw site carries no diagnostic value, so
+ * skipping the stack walk keeps 4xx responses cheap under load. SECURITY errors
+ * keep theirs, as the throw site of a rejected access is forensic evidence.
+ *
  * @since 1.0.0
  */
 public enum Category {
@@ -22,7 +27,7 @@ public enum Category {
      * <p>Examples: insufficient funds, order already shipped, product out of stock.
      * These represent expected business rules and should not be retried.
      */
-    BUSINESS(false),
+    BUSINESS(false, false),
 
     /**
      * Input validation failures.
@@ -30,15 +35,16 @@ public enum Category {
      * <p>Examples: missing required fields, invalid email format, malformed JSON.
      * These indicate client errors and should not be retried.
      */
-    VALIDATION(false),
+    VALIDATION(false, false),
 
     /**
      * Security-related errors.
      *
      * <p>Examples: invalid credentials, insufficient permissions, expired tokens.
-     * These should not be retried to avoid security issues.
+     * These should not be retried to avoid security issues. They capture a stack
+     * trace for later investigation.
      */
-    SECURITY(false),
+    SECURITY(false, true),
 
     /**
      * Internal system errors.
@@ -46,7 +52,7 @@ public enum Category {
      * <p>Examples: database connection failures, configuration errors, internal bugs.
      * These may be transient and could be retried.
      */
-    SYSTEM(true),
+    SYSTEM(true, true),
 
     /**
      * External service failures.
@@ -54,12 +60,14 @@ public enum Category {
      * <p>Examples: payment gateway timeouts, third-party API errors, network issues.
      * These are often transient and should be retried.
      */
-    EXTERNAL(true);
+    EXTERNAL(true, true);
 
     private final boolean retryable;
+    private final boolean capturesStackTrace;
 
-    Category(boolean retryable) {
+    Category(boolean retryable, boolean capturesStackTrace) {
         this.retryable = retryable;
+        this.capturesStackTrace = capturesStackTrace;
     }
 
     /**
@@ -70,4 +78,14 @@ public enum Category {
     public boolean isRetryable() {
         return retryable;
     }
+
+    /**
+     * Whether exceptions for errors in this category should capture a stack trace.
+     *
+     * @return true if errors in this category capture a stack trace
+     * @since 2.2.0
+     */
+    public boolean capturesStackTrace() {
+        return capturesStackTrace;
+    }
 }
@@ -1,7 +1,5 @@
 package de.ferderer.guard4j.classification;
 
-import java.util.Objects;
-
 /**
  * Framework-agnostic HTTP status representation.
  *
@@ -91,14 +89,38 @@ public interface HttpStatus {
     /**
      * Create custom HTTP status.
      *
+     * <p>Standard status codes with their standard reason phrase are served from
+     * a pre-built table of shared instances; only custom codes or custom reason
+     * phrases allocate a new instance.
+     *
      * @param value the HTTP status code
      * @param reason the HTTP reason phrase
-     * @return a new HttpStatus instance
+     * @return an HttpStatus instance
      */
     static HttpStatus of(int value, String reason) {
+        SimpleHttpStatus standard = SimpleHttpStatus.standard(value);
+        if (standard != null && standard.reason().equals(reason)) {
+            return standard;
+        }
         return new SimpleHttpStatus(value, reason);
     }
 
+    /**
+     * Get the standard HTTP status for a status code.
+     *
+     * @param value the HTTP status code
+     * @return the shared HttpStatus instance with the standard reason phrase
+     * @throws IllegalArgumentException if the status code is not a standard one
+     * @since 2.2.0
+     */
+    static HttpStatus of(int value) {
+        SimpleHttpStatus standard = SimpleHttpStatus.standard(value);
+        if (standard == null) {
+            throw new IllegalArgumentException("No standard HTTP status for code " + value);
+        }
+        return standard;
+    }
+
     /**
      * Check if this is an informational status (1xx).
      */
@@ -142,6 +164,46 @@ public interface HttpStatus {
     }
 
     record SimpleHttpStatus(int value, String reason) implements HttpStatus {
+
+        private static final int MIN_VALUE = 100;
+        private static final SimpleHttpStatus[] STANDARD = standardStatuses();
+
+        static SimpleHttpStatus standard(int value) {
+            int index = value - MIN_VALUE;
+            return index >= 0 && index < STANDARD.length ? STANDARD[index] : null;
+        }
+
+        private static SimpleHttpStatus[] standardStatuses() {
+            SimpleHttpStatus[] table = new SimpleHttpStatus[600 - MIN_VALUE];
+            Object[] statuses = {
+                100, "Continue", 101, "Switching Protocols", 102, "Processing", 103, "Early Hints",
+                200, "OK", 201, "Created", 202, "Accepted", 203, "Non-Authoritative Information",
+                204, "No Content", 205, "Reset Content", 206, "Partial Content", 207, "Multi-Status",
+                208, "Already Reported", 226, "IM Used",
+                300, "Multiple Choices", 301, "Moved Permanently", 302, "Found", 303, "See Other",
+                304, "Not Modified", 305, "Use Proxy", 307, "Temporary Redirect", 308, "Permanent Redirect",
+                400, "Bad Request", 401, "Unauthorized", 402, "Payment Required", 403, "Forbidden",
+                404, "Not Found", 405, "Method Not Allowed", 406, "Not Acceptable",
+                407, "Proxy Authentication Required", 408, "Request Timeout", 409, "Conflict",
+                410, "Gone", 411, "Length Required", 412, "Precondition Failed",
+                413, "Payload Too Large", 414, "URI Too Long", 415, "Unsupported Media Type",
+                416, "Range Not Satisfiable", 417, "Expectation Failed", 418, "I'm a teapot",
+                421, "Misdirected Request", 422, "Unprocessable Entity", 423, "Locked",
+                424, "Failed Dependency", 425, "Too Early", 426, "Upgrade Required",
+                428, "Precondition Required", 429, "Too Many Requests",
+                431, "Request Header Fields Too Large", 451, "Unavailable For Legal Reasons",
+                500, "Internal Server Error", 501, "Not Implemented", 502, "Bad Gateway",
+                503, "Service Unavailable", 504, "Gateway Timeout", 505, "HTTP Version Not Supported",
+                506, "Variant Also Negotiates", 507, "Insufficient Storage", 508, "Loop Detected",
+                510, "Not Extended", 511, "Network Authentication Required"
+            };
+            for (int i = 0; i < statuses.length; i += 2) {
+                int value = (Integer) statuses[i];
+                table[value - MIN_VALUE] = new SimpleHttpStatus(value, (String) statuses[i + 1]);
+            }
+            return table;
+        }
+
         @Override
         public boolean equals(Object obj) {
             return obj instanceof SimpleHttpStatus other && value == other.value;
@@ -149,7 +211,7 @@ public interface HttpStatus {
 
         @Override
         public int hashCode() {
-            return Objects.hash(value);
+            return Integer.hashCode(value);
         }
 
         @Override
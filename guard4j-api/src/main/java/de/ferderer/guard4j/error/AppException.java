@@ -1,7 +1,6 @@
 package de.ferderer.guard4j.error;
 
 import de.ferderer.guard4j.observability.ObservableEvent;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -28,6 +27,19 @@ import java.util.Objects;
  *     .withData("availableBalance", 250.00);
  * }</pre>
  *
+ * <h3>Allocation-light Factories</h3>
+ * <pre>{@code
+ * throw AppException.of(ErrorCodes.INSUFFICIENT_FUNDS,
+ *     "accountId", accountId,
+ *     "requestedAmount", amount);
+ * }</pre>
+ *
+ * <h3>Stack Traces</h3>
+ * <p>Whether a stack trace is captured is decided by {@link Error#capturesStackTrace()}.
+ * By default expected BUSINESS and VALIDATION errors are created stackless, which
+ * avoids the stack walk that dominates the cost of throwing them; SYSTEM, EXTERNAL
+ * and SECURITY errors capture one. The cause, if any, keeps its own stack trace.
+ *
  * <h3>Framework Integration</h3>
  * <pre>{@code
  * // In a service class
@@ -52,7 +64,7 @@ import java.util.Objects;
 public class AppException extends RuntimeException {
 
     private final Error errorCode;
-    private final Map<String, Object> data = new HashMap<>();
+    private CompactDataMap data;
 
     /**
      * Create an AppException with the specified error code.
@@ -61,8 +73,7 @@ public class AppException extends RuntimeException {
      * @throws NullPointerException if errorCode is null
      */
     public AppException(Error errorCode) {
-        super(errorCode.message());
-        this.errorCode = Objects.requireNonNull(errorCode, "errorCode cannot be null");
+        this(errorCode, null);
     }
 
     /**
@@ -77,10 +88,84 @@ public class AppException extends RuntimeException {
      * @throws NullPointerException if errorCode is null
      */
     public AppException(Error errorCode, Throwable cause) {
-        super(errorCode.message(), cause);
+        this(errorCode.message(), errorCode, cause, errorCode.capturesStackTrace());
+    }
+
+    /**
+     * Create an AppException with explicit control over stack trace capture.
+     *
+     * <p>Overrides the policy of {@link Error#capturesStackTrace()} for this instance.
+     *
+     * @param errorCode the error code that describes this exception
+     * @param cause the underlying cause of this exception, may be null
+     * @param writableStackTrace whether the stack trace should be captured
+     * @throws NullPointerException if errorCode is null
+     * @since 2.2.0
+     */
+    public AppException(Error errorCode, Throwable cause, boolean writableStackTrace) {
+        this(errorCode.message(), errorCode, cause, writableStackTrace);
+    }
+
+    private AppException(String message, Error errorCode, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, true, writableStackTrace);
         this.errorCode = Objects.requireNonNull(errorCode, "errorCode cannot be null");
     }
 
+    /**
+     * Create an AppException with one data entry.
+     *
+     * @param errorCode the error code that describes this exception
+     * @param k1 the data key
+     * @param v1 the data value (null values are allowed)
+     * @return a new AppException with the given data
+     * @throws NullPointerException if errorCode or a key is null
+     * @since 2.2.0
+     */
+    public static AppException of(Error errorCode, String k1, Object v1) {
+        AppException exception = new AppException(errorCode);
+        exception.data = new CompactDataMap(1);
+        return exception.withData(k1, v1);
+    }
+
+    /**
+     * Create an AppException with two data entries.
+     *
+     * @param errorCode the error code that describes this exception
+     * @param k1 the first data key
+     * @param v1 the first data value (null values are allowed)
+     * @param k2 the second data key
+     * @param v2 the second data value (null values are allowed)
+     * @return a new AppException with the given data
+     * @throws NullPointerException if errorCode or a key is null
+     * @since 2.2.0
+     */
+    public static AppException of(Error errorCode, String k1, Object v1, String k2, Object v2) {
+        AppException exception = new AppException(errorCode);
+        exception.data = new CompactDataMap(2);
+        return exception.withData(k1, v1).withData(k2, v2);
+    }
+
+    /**
+     * Create an AppException with three data entries.
+     *
+     * @param errorCode the error code that describes this exception
+     * @param k1 the first data key
+     * @param v1 the first data value (null values are allowed)
+     * @param k2 the second data key
+     * @param v2 the second data value (null values are allowed)
+     * @param k3 the third data key
+     * @param v3 the third data value (null values are allowed)
+     * @return a new AppException with the given data
+     * @throws NullPointerException if errorCode or a key is null
+     * @since 2.2.0
+     */
+    public static AppException of(Error errorCode, String k1, Object v1, String k2, Object v2,
+                                  String k3, Object v3) {
+        AppException exception = new AppException(errorCode);
+        exception.data = new CompactDataMap(3);
+        return exception.withData(k1, v1).withData(k2, v2).withData(k3, v3);
+    }
+
     /**
      * Get the error code associated with this exception.
      *
@@ -93,12 +178,32 @@ public class AppException extends RuntimeException {
     /**
      * Get the contextual data associated with this exception.
      *
+     * <p>The returned map is the exception's own, mutable map and preserves
+     * insertion order; {@link #withData(String, Object)} is the fluent way to
+     * add entries. The map is allocated on the first call or entry.
+     *
      * @return the contextual data map
      */
     public Map<String, Object> data() {
+        if (data == null) {
+            data = new CompactDataMap();
+        }
         return data;
     }
 
+    /**
+     * Whether this exception carries contextual data.
+     *
+     * <p>Unlike {@code data().isEmpty()}, this does not allocate the data map,
+     * so handlers can skip exceptions without data cheaply.
+     *
+     * @return true if the exception has at least one data entry
+     * @since 2.2.0
+     */
+    public boolean hasData() {
+        return data != null && !data.isEmpty();
+    }
+
     /**
      * Add contextual data to this exception.
      *
@@ -112,7 +217,10 @@ public class AppException extends RuntimeException {
      */
     public AppException withData(String key, Object value) {
         Objects.requireNonNull(key, "data key cannot be null");
-        data.put(key, value);
+        if (data == null) {
+            data = new CompactDataMap(4);
+        }
+        data.add(key, value);
         return this;
     }
 
@@ -121,7 +229,7 @@ public class AppException extends RuntimeException {
         return "AppException{" +
                 "errorCode=" + errorCode.name() +
                 ", message='" + getMessage() + '\'' +
-                ", data=" + data +
+                ", data=" + (data != null ? data : Map.of()) +
                 '}';
     }
 }
@@ -0,0 +1,197 @@
+package de.ferderer.guard4j.error;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Small insertion-ordered map backing {@link AppException#data()}.
+ *
+ * <p>Most exceptions carry zero to three data entries, so entries are kept in a
+ * flat key/value array and looked up by linear scan. Past {@link #INLINE_LIMIT}
+ * entries the map switches to a {@link LinkedHashMap}. Like the {@code HashMap} it
+ * replaced, the map is mutable through the {@link Map} interface, and
+ * {@link #add(String, Object)} is the non-returning variant of {@link #put}.
+ *
+ * @since 2.2.0
+ */
+final class CompactDataMap extends AbstractMap<String, Object> implements Serializable {
+
+    /** Maximum number of entries kept in the inline array. */
+    static final int INLINE_LIMIT = 8;
+
+    private static final Object[] EMPTY = {};
+
+    private Object[] table;
+    private int size;
+    private LinkedHashMap<String, Object> spill;
+
+    /**
+     * Create an empty map that allocates its array on the first entry.
+     */
+    CompactDataMap() {
+        this.table = EMPTY;
+    }
+
+    /**
+     * Create a map sized for the expected number of entries.
+     *
+     * @param expectedSize the expected number of entries
+     */
+    CompactDataMap(int expectedSize) {
+        this.table = new Object[Math.max(1, Math.min(expectedSize, INLINE_LIMIT)) * 2];
+    }
+
+    /**
+     * Add or replace an entry.
+     *
+     * @param key the key
+     * @param value the value, may be null
+     */
+    void add(String key, Object value) {
+        if (spill != null) {
+            spill.put(key, value);
+            return;
+        }
+
+        int index = indexOf(key);
+        if (index >= 0) {
+            table[index + 1] = value;
+            return;
+        }
+
+        if (size == INLINE_LIMIT) {
+            spill = new LinkedHashMap<>(INLINE_LIMIT * 4);
+            for (int i = 0; i < size * 2; i += 2) {
+                spill.put((String) table[i], table[i + 1]);
+            }
+            spill.put(key, value);
+            table = null;
+            size = 0;
+            return;
+        }
+
+        if (size * 2 == table.length) {
+            Object[] grown = new Object[Math.min(Math.max(size * 2, 2), INLINE_LIMIT) * 2];
+            System.arraycopy(table, 0, grown, 0, table.length);
+            table = grown;
+        }
+        table[size * 2] = key;
+        table[size * 2 + 1] = value;
+        size++;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Object previous = get(key);
+        add(key, value);
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (spill != null) {
+            return spill.remove(key);
+        }
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        Object previous = table[index + 1];
+        removeAt(index);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        table = table == null || table.length == 0 ? EMPTY : new Object[table.length];
+        spill = null;
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        return spill != null ? spill.size() : size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return spill != null ? spill.containsKey(key) : indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (spill != null) {
+            return spill.get(key);
+        }
+        int index = indexOf(key);
+        return index >= 0 ? table[index + 1] : null;
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        if (spill != null) {
+            return spill.entrySet();
+        }
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<String, Object>> iterator() {
+                return new Iterator<>() {
+                    private int next;
+                    private boolean removable;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < size;
+                    }
+
+                    @Override
+                    public Map.Entry<String, Object> next() {
+                        if (next >= size) {
+                            throw new NoSuchElementException();
+                        }
+                        int index = next++ * 2;
+                        removable = true;
+                        return new SimpleImmutableEntry<>((String) table[index], table[index + 1]);
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (!removable) {
+                            throw new IllegalStateException();
+                        }
+                        removeAt(--next * 2);
+                        removable = false;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < size * 2; i += 2) {
+            if (Objects.equals(table[i], key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(int index) {
+        System.arraycopy(table, index + 2, table, index, size * 2 - index - 2);
+        size--;
+        table[size * 2] = null;
+        table[size * 2 + 1] = null;
+    }
+}
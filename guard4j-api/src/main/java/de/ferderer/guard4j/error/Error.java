@@ -62,13 +62,27 @@ public interface Error extends Serializable {
         return category().isRetryable();
     }
 
+    /**
+     * Whether an {@link AppException} for this error captures a stack trace.
+     * Based on category: all but BUSINESS and VALIDATION capture one.
+     *
+     * <p>Override to force or suppress stack traces for individual errors.
+     *
+     * @return true if the stack trace should be captured
+     * @since 2.2.0
+     */
+    default boolean capturesStackTrace() {
+        return category().capturesStackTrace();
+    }
+
     /**
      * Client-friendly error code (kebab-case).
      * Converts enum names like AUTH_ACCESS_DENIED to auth-access-denied.
+     * Registered errors serve the code cached by {@link ErrorRegistry}.
      *
      * @return the client-friendly error code
      */
     default String code() {
-        return name().toLowerCase().replace('_', '-');
+        return ErrorRegistry.codeOf(this);
     }
 }
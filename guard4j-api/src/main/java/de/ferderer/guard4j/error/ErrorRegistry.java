@@ -0,0 +1,205 @@
+package de.ferderer.guard4j.error;
+
+import de.ferderer.guard4j.classification.Category;
+import de.ferderer.guard4j.classification.HttpStatus;
+import de.ferderer.guard4j.classification.Level;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Global index of {@link Error} implementations.
+ *
+ * <p>Each registered error is assigned a dense int id, starting at 0 in
+ * registration order, together with its cached code, HTTP status, level and
+ * category. Lookups by error, id, name and code are O(1), so per-error data
+ * such as counters or response templates can be kept in plain arrays of
+ * {@link #size()} elements indexed by {@link #id(Error)}.
+ *
+ * <p>{@link CoreError} is always registered. Error enums of framework integrations
+ * register themselves in their static initializer; applications should register
+ * theirs at startup:
+ * <pre>{@code
+ * ErrorRegistry.register(FinStreamError.class);
+ * }</pre>
+ * Enum constants that were never registered are registered on first use. Other
+ * errors, e.g. created per request, are only registered explicitly, so the
+ * registry does not grow with them; lookups of such errors return an entry with
+ * the id {@link #UNREGISTERED}, and callers fall back to the error itself.
+ *
+ * <p>Names and codes are expected to be unique. When two registered errors
+ * share a name or code, lookups by that name or code return the one
+ * registered first; both still get their own id.
+ *
+ * @since 2.2.0
+ */
+public final class ErrorRegistry {
+
+    /**
+     * Cached attributes of a registered error.
+     *
+     * @param id the dense id of the error
+     * @param error the error itself
+     * @param code the client-friendly error code
+     * @param httpStatus the HTTP status of the error
+     * @param level the severity level of the error
+     * @param category the category of the error
+     */
+    public record Entry(
+        int id,
+        Error error,
+        String code,
+        HttpStatus httpStatus,
+        Level level,
+        Category category
+    ) {}
+
+    /** Id of the entries returned for errors that are not registered. */
+    public static final int UNREGISTERED = -1;
+
+    private static final Map<Error, Entry> byError = new ConcurrentHashMap<>();
+    private static final Map<String, Entry> byName = new ConcurrentHashMap<>();
+    private static final Map<String, Entry> byCode = new ConcurrentHashMap<>();
+    private static volatile Entry[] byId = new Entry[0];
+
+    static {
+        register(CoreError.class);
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     * This is a utility class with only static methods.
+     */
+    private ErrorRegistry() {}
+
+    /**
+     * Register all constants of an error enum.
+     *
+     * <p>Constants that are already registered keep their id.
+     *
+     * @param errorType the enum class implementing {@link Error}
+     * @param <E> the enum type
+     */
+    public static synchronized <E extends Enum<E> & Error> void register(Class<E> errorType) {
+        for (E error : errorType.getEnumConstants()) {
+            register(error);
+        }
+    }
+
+    /**
+     * Register a single error.
+     *
+     * @param error the error to register
+     * @return the registry entry of the error, existing or new
+     * @throws NullPointerException if error is null
+     */
+    public static synchronized Entry register(Error error) {
+        Entry existing = byError.get(error);
+        if (existing != null) {
+            return existing;
+        }
+
+        Entry[] entries = byId;
+        Entry entry = new Entry(
+            entries.length,
+            error,
+            error.code(),
+            error.httpStatus(),
+            error.level(),
+            error.category()
+        );
+
+        Entry[] grown = Arrays.copyOf(entries, entries.length + 1);
+        grown[entry.id()] = entry;
+        byId = grown;
+        byName.putIfAbsent(error.name(), entry);
+        byCode.putIfAbsent(entry.code(), entry);
+        byError.put(error, entry);
+        return entry;
+    }
+
+    /**
+     * Get the registry entry of an error, registering enum constants if necessary.
+     *
+     * @param error the error
+     * @return the registry entry, never null; an entry with the id {@link #UNREGISTERED}
+     *         for errors that are neither registered nor enum constants
+     * @throws NullPointerException if error is null
+     */
+    public static Entry entry(Error error) {
+        Entry entry = byError.get(error);
+        if (entry != null) {
+            return entry;
+        }
+        if (error instanceof Enum<?>) {
+            return register(error);
+        }
+        return new Entry(UNREGISTERED, error, error.code(), error.httpStatus(), error.level(), error.category());
+    }
+
+    /**
+     * Get the dense id of an error, registering enum constants if necessary.
+     *
+     * @param error the error
+     * @return the id, between 0 and {@link #size()} - 1, or {@link #UNREGISTERED}
+     *         for errors that are neither registered nor enum constants
+     * @throws NullPointerException if error is null
+     */
+    public static int id(Error error) {
+        return entry(error).id();
+    }
+
+    /**
+     * Get the registry entry for an id.
+     *
+     * @param id the dense id
+     * @return the registry entry
+     * @throws IndexOutOfBoundsException if no error has this id
+     */
+    public static Entry byId(int id) {
+        return byId[id];
+    }
+
+    /**
+     * Find a registered error by its name.
+     *
+     * @param name the error name, e.g. {@code RESOURCE_NOT_FOUND}
+     * @return the registry entry if an error with this name is registered
+     */
+    public static Optional<Entry> byName(String name) {
+        return Optional.ofNullable(byName.get(name));
+    }
+
+    /**
+     * Find a registered error by its client-friendly code.
+     *
+     * @param code the error code, e.g. {@code resource-not-found}
+     * @return the registry entry if an error with this code is registered
+     */
+    public static Optional<Entry> byCode(String code) {
+        return Optional.ofNullable(byCode.get(code));
+    }
+
+    /**
+     * Number of registered errors, i.e. the upper bound (exclusive) of all ids.
+     *
+     * @return the number of registered errors
+     */
+    public static int size() {
+        return byId.length;
+    }
+
+    /**
+     * Client-friendly code of an error, served from the registry when available.
+     *
+     * <p>Backs the default implementation of {@link Error#code()}; does not register.
+     *
+     * @param error the error
+     * @return the kebab-case code of the error name
+     */
+    static String codeOf(Error error) {
+        Entry entry = byError.get(error);
+        return entry != null ? entry.code() : error.name().toLowerCase().replace('_', '-');
+    }
+}
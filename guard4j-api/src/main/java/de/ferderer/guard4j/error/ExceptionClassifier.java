@@ -0,0 +1,162 @@
+package de.ferderer.guard4j.error;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Maps exceptions to {@link Error} codes, taking subclasses and causes into account.
+ *
+ * <p>For each exception the classifier walks the superclass chain of its concrete
+ * class and returns the mapping of the nearest mapped class, so subclasses of a
+ * mapped exception are classified like their parent unless mapped themselves.
+ * If the exception's class hierarchy has no mapping, its cause chain is searched
+ * the same way, up to {@link Builder#maxDepth(int) maxDepth} exceptions in total.
+ *
+ * <p>The hierarchy result is memoized per concrete class in a {@link ClassValue},
+ * so after warm-up classifying an exception costs one cache hit per inspected
+ * exception in the cause chain.
+ *
+ * <p>Mappings can be declared by class or by class name. Class names allow
+ * mapping exceptions of optional libraries without loading them:
+ * <pre>{@code
+ * ExceptionClassifier<Error> classifier = ExceptionClassifier.<Error>builder()
+ *     .map("org.springframework.dao.DuplicateKeyException", CoreError.RESOURCE_ALREADY_EXISTS)
+ *     .map(PaymentDeclinedException.class, PaymentError.PAYMENT_DECLINED)
+ *     .build();
+ *
+ * Error error = classifier.classify(ex).orElse(CoreError.INTERNAL_ERROR);
+ * }</pre>
+ *
+ * <p>Instances are immutable and thread-safe.
+ *
+ * @param <E> the error type produced by this classifier
+ * @since 2.2.0
+ */
+public final class ExceptionClassifier<E extends Error> {
+
+    /** Default maximum number of exceptions inspected along the cause chain. */
+    public static final int DEFAULT_MAX_DEPTH = 8;
+
+    private final Map<String, E> mappings;
+    private final int maxDepth;
+    private final ClassValue<Optional<E>> byClass = new ClassValue<>() {
+        @Override
+        protected Optional<E> computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    private ExceptionClassifier(Builder<E> builder) {
+        this.mappings = Map.copyOf(builder.mappings);
+        this.maxDepth = builder.maxDepth;
+    }
+
+    /**
+     * Create a new builder.
+     *
+     * @param <E> the error type produced by the classifier
+     * @return a new, empty builder
+     */
+    public static <E extends Error> Builder<E> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Classify an exception.
+     *
+     * @param exception the exception to classify, may be null
+     * @return the error mapped to the exception or one of its causes,
+     *         empty if there is no mapping or the exception is null
+     */
+    public Optional<E> classify(Throwable exception) {
+        Throwable current = exception;
+        for (int depth = 0; current != null && depth < maxDepth; depth++) {
+            Optional<E> error = byClass.get(current.getClass());
+            if (error.isPresent()) {
+                return error;
+            }
+            current = current.getCause();
+        }
+        return Optional.empty();
+    }
+
+    private Optional<E> resolve(Class<?> type) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            E error = mappings.get(current.getName());
+            if (error != null) {
+                return Optional.of(error);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Builder for {@link ExceptionClassifier}.
+     *
+     * <p>Later mappings for the same class replace earlier ones, so applications
+     * can override default mappings.
+     *
+     * @param <E> the error type produced by the classifier
+     */
+    public static final class Builder<E extends Error> {
+
+        private final Map<String, E> mappings = new HashMap<>();
+        private int maxDepth = DEFAULT_MAX_DEPTH;
+
+        private Builder() {}
+
+        /**
+         * Map an exception class and its subclasses to an error.
+         *
+         * @param exceptionType the exception class
+         * @param error the error to map to
+         * @return this builder
+         */
+        public Builder<E> map(Class<? extends Throwable> exceptionType, E error) {
+            return map(exceptionType.getName(), error);
+        }
+
+        /**
+         * Map an exception class, given by its fully qualified name, and its subclasses to an error.
+         *
+         * @param exceptionClassName the fully qualified exception class name
+         * @param error the error to map to
+         * @return this builder
+         */
+        public Builder<E> map(String exceptionClassName, E error) {
+            if (exceptionClassName == null || exceptionClassName.isBlank()) {
+                throw new IllegalArgumentException("exceptionClassName is required");
+            }
+            if (error == null) {
+                throw new IllegalArgumentException("error is required");
+            }
+            mappings.put(exceptionClassName, error);
+            return this;
+        }
+
+        /**
+         * Set the maximum number of exceptions inspected along the cause chain,
+         * including the classified exception itself.
+         *
+         * @param maxDepth the maximum depth, 1 to disable cause inspection
+         * @return this builder
+         */
+        public Builder<E> maxDepth(int maxDepth) {
+            if (maxDepth < 1) {
+                throw new IllegalArgumentException("maxDepth must be at least 1");
+            }
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        /**
+         * Build an immutable classifier from the current mappings.
+         *
+         * @return the classifier
+         */
+        public ExceptionClassifier<E> build() {
+            return new ExceptionClassifier<>(this);
+        }
+    }
+}
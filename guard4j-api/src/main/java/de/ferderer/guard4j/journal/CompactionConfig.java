@@ -0,0 +1,67 @@
+package de.ferderer.guard4j.journal;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the {@link JournalCompactor}.
+ *
+ * <p>Sealed segments are compressed with the codec, and the oldest sealed segments
+ * are deleted while the journal is larger than {@code maxTotalBytes} or once their
+ * latest event is older than {@code maxAge}. The segment being written is never
+ * deleted, so a journal may exceed its byte limit by up to one segment.
+ *
+ * @param codec compresses the blocks of sealed segments
+ * @param maxTotalBytes size limit of all segment and index files, {@link #UNBOUNDED} for none
+ * @param maxAge age after which segments are deleted, or null to keep them regardless of age
+ * @param maxBytesPerSecond limit of the bytes read and written by compaction, {@link #UNBOUNDED} for none
+ * @param interval time between two compaction runs
+ * @since 2.2.0
+ */
+public record CompactionConfig(
+    JournalCodec codec,
+    long maxTotalBytes,
+    Duration maxAge,
+    long maxBytesPerSecond,
+    Duration interval
+) {
+
+    /** No limit for {@link #maxTotalBytes()} or {@link #maxBytesPerSecond()}. */
+    public static final long UNBOUNDED = Long.MAX_VALUE;
+
+    /**
+     * Create a CompactionConfig that compresses with deflate at up to 16 MiB per
+     * second every minute, without retention limits.
+     */
+    public CompactionConfig() {
+        this(JournalCodec.deflate(), UNBOUNDED, null, 16 << 20, Duration.ofMinutes(1));
+    }
+
+    /**
+     * Create a CompactionConfig with deflate and default throttling that keeps the
+     * journal within the given limits.
+     *
+     * @param maxTotalBytes size limit of all segment and index files, {@link #UNBOUNDED} for none
+     * @param maxAge age after which segments are deleted, or null to keep them regardless of age
+     */
+    public CompactionConfig(long maxTotalBytes, Duration maxAge) {
+        this(JournalCodec.deflate(), maxTotalBytes, maxAge, 16 << 20, Duration.ofMinutes(1));
+    }
+
+    public CompactionConfig {
+        if (codec == null) {
+            throw new IllegalArgumentException("codec is required");
+        }
+        if (maxTotalBytes <= 0) {
+            throw new IllegalArgumentException("maxTotalBytes must be positive");
+        }
+        if (maxAge != null && (maxAge.isNegative() || maxAge.isZero())) {
+            throw new IllegalArgumentException("maxAge must be positive");
+        }
+        if (maxBytesPerSecond <= 0) {
+            throw new IllegalArgumentException("maxBytesPerSecond must be positive");
+        }
+        if (interval == null || interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("interval must be positive");
+        }
+    }
+}
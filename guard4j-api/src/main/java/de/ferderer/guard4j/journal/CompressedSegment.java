@@ -0,0 +1,240 @@
+package de.ferderer.guard4j.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongConsumer;
+
+/**
+ * A sealed segment rewritten in block-compressed form by {@link JournalCompactor},
+ * stored with the extension {@code .g4z}.
+ *
+ * <p>The written part of the segment, from its header to the end of its records, is
+ * compressed in blocks that start at the block offsets of its {@link SegmentIndex}.
+ * The index therefore stays valid, and a reader decompresses only the blocks it
+ * selected, at their original offsets. All values are little endian:
+ * <pre>
+ *  0  int   magic ("G4JZ")
+ *  4  int   format version
+ *  8  long  segment sequence number
+ * 16  long  segment creation time, epoch microseconds
+ * 24  int   uncompressed length
+ * 28  int   block count
+ * 32  ubyte codec name length
+ * 33        codec name, ASCII
+ * 64        blocks, each: int uncompressed offset, int uncompressed length,
+ *                         long compressed offset, int compressed length
+ *           compressed blocks
+ * </pre>
+ *
+ * @since 2.2.0
+ */
+final class CompressedSegment {
+
+    static final int MAGIC = 0x5A4A3447;
+    static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 64;
+    private static final int CODEC_OFFSET = 32;
+    private static final int MAX_CODEC_NAME_LENGTH = 31;
+    private static final int BLOCK_ENTRY_SIZE = 20;
+
+    private final ByteBuffer buffer;
+    private final JournalCodec codec;
+    private final int length;
+    private final int blockCount;
+
+    private CompressedSegment(ByteBuffer buffer, JournalCodec codec) {
+        this.buffer = buffer;
+        this.codec = codec;
+        this.length = buffer.getInt(24);
+        this.blockCount = buffer.getInt(28);
+    }
+
+    /**
+     * Map a compressed segment file.
+     *
+     * @throws IOException if the file cannot be mapped, is not a compressed segment
+     *     or its codec is not available
+     */
+    static CompressedSegment open(Path file) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        buffer.order(JournalFormat.ORDER);
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a compressed journal segment: " + file);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported compressed journal version " + buffer.getInt(4) + " in " + file);
+        }
+        int blockCount = buffer.getInt(28);
+        if (blockCount < 0 || HEADER_SIZE + (long) blockCount * BLOCK_ENTRY_SIZE > buffer.capacity()) {
+            throw new IOException("Corrupt compressed journal segment: " + file);
+        }
+        byte[] name = new byte[Math.min(Byte.toUnsignedInt(buffer.get(CODEC_OFFSET)), MAX_CODEC_NAME_LENGTH)];
+        buffer.get(CODEC_OFFSET + 1, name);
+        return new CompressedSegment(buffer, JournalCodec.forName(new String(name, StandardCharsets.US_ASCII)));
+    }
+
+    /**
+     * Whether a mapped file starts like a compressed segment.
+     */
+    static boolean isCompressed(ByteBuffer buffer) {
+        return buffer.capacity() >= HEADER_SIZE && buffer.getInt(0) == MAGIC;
+    }
+
+    /**
+     * Decompress the blocks starting in the given ranges of uncompressed offsets.
+     * The ranges of a {@link SegmentIndex} start at block offsets, so the result
+     * holds whole records.
+     *
+     * @param ranges ascending pairs of start (inclusive) and end (exclusive) offsets
+     * @return the uncompressed blocks, concatenated from position zero
+     * @throws IOException if a block is corrupt
+     */
+    ByteBuffer decompress(int[] ranges) throws IOException {
+        int size = 0;
+        for (int block = 0; block < blockCount; block++) {
+            if (selected(block, ranges)) {
+                size += buffer.getInt(HEADER_SIZE + block * BLOCK_ENTRY_SIZE + 4);
+            }
+        }
+        ByteBuffer target = ByteBuffer.allocate(size).order(JournalFormat.ORDER);
+        int position = 0;
+        for (int block = 0; block < blockCount; block++) {
+            if (selected(block, ranges)) {
+                int entry = HEADER_SIZE + block * BLOCK_ENTRY_SIZE;
+                int uncompressed = buffer.getInt(entry + 4);
+                long compressedOffset = buffer.getLong(entry + 8);
+                int compressed = buffer.getInt(entry + 16);
+                if (compressedOffset < 0 || compressedOffset + compressed > buffer.capacity()) {
+                    throw new IOException("Corrupt compressed journal block at " + buffer.getInt(entry));
+                }
+                codec.decompress(buffer.slice((int) compressedOffset, compressed),
+                    target.slice(position, uncompressed));
+                position += uncompressed;
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Decompress the whole segment, header included.
+     */
+    ByteBuffer decompressAll() throws IOException {
+        return decompress(new int[] {0, Integer.MAX_VALUE});
+    }
+
+    /**
+     * Uncompressed length of the segment, up to the end of its records.
+     */
+    int length() {
+        return length;
+    }
+
+    private boolean selected(int block, int[] ranges) {
+        int offset = buffer.getInt(HEADER_SIZE + block * BLOCK_ENTRY_SIZE);
+        for (int range = 0; range < ranges.length; range += 2) {
+            if (offset >= ranges[range] && offset < ranges[range + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Write the compressed form of a sealed segment.
+     *
+     * @param segment the plain segment file
+     * @param blockOffsets the offsets at which compressed blocks start, ascending;
+     *     the first block always starts at the header
+     * @param codec the codec to compress with
+     * @param target the file to write, replaced if it exists
+     * @param throttle called after each block with the number of bytes read and written
+     * @return the size of the compressed file
+     * @throws IOException if the segment cannot be read or the file cannot be written
+     */
+    static long write(Path segment, int[] blockOffsets, JournalCodec codec, Path target, LongConsumer throttle)
+            throws IOException {
+        byte[] name = codec.name().getBytes(StandardCharsets.US_ASCII);
+        if (name.length == 0 || name.length > MAX_CODEC_NAME_LENGTH) {
+            throw new IllegalArgumentException("codec name must have 1 to " + MAX_CODEC_NAME_LENGTH + " characters");
+        }
+        ByteBuffer source;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            source = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        source.order(JournalFormat.ORDER);
+        if (source.capacity() < JournalFormat.HEADER_SIZE || source.getInt(0) != JournalFormat.MAGIC) {
+            throw new IOException("Not a journal segment: " + segment);
+        }
+
+        int length = endOfRecords(source, blockOffsets.length > 0 ? blockOffsets[blockOffsets.length - 1]
+            : JournalFormat.HEADER_SIZE);
+        int[] starts = new int[blockOffsets.length + 1];
+        int blockCount = 1;
+        for (int offset : blockOffsets) {
+            if (offset > starts[blockCount - 1] && offset < length) {
+                starts[blockCount++] = offset;
+            }
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + blockCount * BLOCK_ENTRY_SIZE).order(JournalFormat.ORDER);
+        header.putInt(MAGIC)
+            .putInt(VERSION)
+            .putLong(source.getLong(JournalFormat.SEQUENCE_OFFSET))
+            .putLong(source.getLong(JournalFormat.CREATED_OFFSET))
+            .putInt(length)
+            .putInt(blockCount)
+            .put((byte) name.length)
+            .put(name);
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = header.capacity();
+            for (int block = 0; block < blockCount; block++) {
+                int start = starts[block];
+                int end = block + 1 < blockCount ? starts[block + 1] : length;
+                ByteBuffer compressed = codec.compress(source.slice(start, end - start));
+                int compressedLength = compressed.remaining();
+                while (compressed.hasRemaining()) {
+                    position += channel.write(compressed, position);
+                }
+                header.putInt(HEADER_SIZE + block * BLOCK_ENTRY_SIZE, start)
+                    .putInt(HEADER_SIZE + block * BLOCK_ENTRY_SIZE + 4, end - start)
+                    .putLong(HEADER_SIZE + block * BLOCK_ENTRY_SIZE + 8, position - compressedLength)
+                    .putInt(HEADER_SIZE + block * BLOCK_ENTRY_SIZE + 16, compressedLength);
+                throttle.accept(end - start + compressedLength);
+            }
+            header.clear();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+            return position;
+        }
+    }
+
+    /**
+     * Offset after the last record, found by following record lengths from a record
+     * offset and skipping space that was reserved but never written.
+     */
+    private static int endOfRecords(ByteBuffer segment, int offset) {
+        int limit = segment.capacity();
+        int end = offset;
+        while (offset <= limit - JournalFormat.RECORD_HEADER_SIZE) {
+            int length = segment.getInt(offset);
+            if (!JournalFormat.isRecordLength(length, offset, limit)) {
+                offset = JournalFormat.skipUnwritten(segment, offset, limit);
+                continue;
+            }
+            offset += length;
+            end = offset;
+        }
+        return end;
+    }
+}
@@ -0,0 +1,64 @@
+package de.ferderer.guard4j.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * {@link JournalCodec} with {@link Deflater}, reading and writing buffers directly.
+ *
+ * @since 2.2.0
+ */
+final class DeflateCodec implements JournalCodec {
+
+    static final String NAME = "deflate";
+    static final DeflateCodec DEFAULT = new DeflateCodec();
+
+    private DeflateCodec() {}
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public ByteBuffer compress(ByteBuffer block) {
+        ByteBuffer compressed = ByteBuffer.allocate(block.remaining() / 2 + 64);
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(block);
+            deflater.finish();
+            while (!deflater.finished()) {
+                if (!compressed.hasRemaining()) {
+                    compressed = ByteBuffer.allocate(compressed.capacity() * 2).put(compressed.flip());
+                }
+                deflater.deflate(compressed);
+            }
+            return compressed.flip();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public void decompress(ByteBuffer compressed, ByteBuffer target) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            while (target.hasRemaining() && !inflater.finished()) {
+                if (inflater.inflate(target) == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+            }
+            if (target.hasRemaining()) {
+                throw new IOException("Compressed block is truncated");
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Compressed block is corrupt", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package de.ferderer.guard4j.journal;
+
+import de.ferderer.guard4j.classification.Level;
+import de.ferderer.guard4j.observability.ObservabilityProcessor;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Command line access to a journal directory.
+ *
+ * <pre>
+ * java -cp guard4j-api.jar de.ferderer.guard4j.journal.JournalCli &lt;directory&gt; &lt;command&gt; [options]
+ *
+ * commands:
+ *   list                  print the selected events in journal order
+ *   count                 print the number of selected events
+ *   stats                 print metric statistics per event type
+ *   replay &lt;class&gt;        process the selected events with a new instance of the
+ *                         given ObservabilityProcessor class, on the class path
+ *
+ * options:
+ *   --from &lt;instant&gt;      earliest timestamp, inclusive, e.g. 2025-09-07T15:00:00Z
+ *   --to &lt;instant&gt;        latest timestamp, exclusive
+ *   --level &lt;level&gt;       minimum level
+ *   --type &lt;event type&gt;   event type to select, repeatable
+ *   --correlation-id &lt;id&gt; correlation ID to select
+ *   --context &lt;key=value&gt; context field to select, repeatable, e.g. userId=42
+ *   --threads &lt;n&gt;         parallelism of the scan, default: available processors
+ * </pre>
+ *
+ * @since 2.2.0
+ */
+public final class JournalCli {
+
+    private static final int EXIT_OK = 0;
+    private static final int EXIT_FAILURE = 1;
+    private static final int EXIT_USAGE = 2;
+
+    private static final String USAGE = """
+        usage: JournalCli <directory> list|count|stats|replay <class> [options]
+          --from <instant>       earliest timestamp, inclusive
+          --to <instant>         latest timestamp, exclusive
+          --level <level>        minimum level
+          --type <event type>    event type to select, repeatable
+          --correlation-id <id>  correlation ID to select
+          --context <key=value>  context field to select, repeatable
+          --threads <n>          parallelism of the scan""";
+
+    private JournalCli() {}
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /**
+     * Run a command.
+     *
+     * @param args the command line arguments
+     * @param out receives the command output
+     * @param err receives errors and usage
+     * @return the exit code: 0 on success, 1 if the command failed, 2 for invalid arguments
+     */
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        if (args.length < 2) {
+            err.println(USAGE);
+            return EXIT_USAGE;
+        }
+        Path directory = Path.of(args[0]);
+        String command = args[1];
+        int index = 2;
+        String processorClass = null;
+        if ("replay".equals(command)) {
+            if (args.length < 3) {
+                err.println(USAGE);
+                return EXIT_USAGE;
+            }
+            processorClass = args[index++];
+        }
+
+        Instant from = null;
+        Instant to = null;
+        Level level = null;
+        Set<String> eventTypes = new HashSet<>();
+        Map<String, String> context = new HashMap<>();
+        int threads = Runtime.getRuntime().availableProcessors();
+        try {
+            for (; index < args.length; index++) {
+                String option = args[index];
+                if (index + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                String value = args[++index];
+                switch (option) {
+                    case "--from" -> from = Instant.parse(value);
+                    case "--to" -> to = Instant.parse(value);
+                    case "--level" -> level = Level.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "--type" -> eventTypes.add(value);
+                    case "--correlation-id" -> context.put(JournalQuery.CORRELATION_ID_KEY, value);
+                    case "--context" -> {
+                        int separator = value.indexOf('=');
+                        if (separator <= 0) {
+                            throw new IllegalArgumentException("Expected key=value for --context: " + value);
+                        }
+                        context.put(value.substring(0, separator), value.substring(separator + 1));
+                    }
+                    case "--threads" -> threads = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+            if (!Files.isDirectory(directory)) {
+                throw new IllegalArgumentException("Not a directory: " + directory);
+            }
+            JournalQuery query = new JournalQuery(from, to, level, eventTypes, context);
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                return execute(new JournalScanner(directory, pool), command, processorClass, query, out, err);
+            } finally {
+                pool.shutdown();
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            err.println(e.getMessage());
+            err.println(USAGE);
+            return EXIT_USAGE;
+        } catch (IOException | ReflectiveOperationException e) {
+            err.println("Failed to " + command + " journal " + directory + ": " + e);
+            return EXIT_FAILURE;
+        }
+    }
+
+    private static int execute(JournalScanner scanner, String command, String processorClass, JournalQuery query,
+                               PrintStream out, PrintStream err) throws IOException, ReflectiveOperationException {
+        switch (command) {
+            case "list" -> scanner.forEachOrdered(query, out::println);
+            case "count" -> out.println(scanner.count(query));
+            case "stats" -> printStatistics(new TreeMap<>(scanner.statistics(query)), out);
+            case "replay" -> {
+                Class<?> type = Class.forName(processorClass);
+                if (!ObservabilityProcessor.class.isAssignableFrom(type)) {
+                    throw new IllegalArgumentException(processorClass + " is not an ObservabilityProcessor");
+                }
+                ObservabilityProcessor processor =
+                    (ObservabilityProcessor) type.getDeclaredConstructor().newInstance();
+                long replayed;
+                try {
+                    replayed = scanner.replay(query, processor);
+                } finally {
+                    if (processor instanceof AutoCloseable closeable) {
+                        try {
+                            closeable.close();
+                        } catch (Exception e) {
+                            err.println("Failed to close " + processorClass + ": " + e);
+                        }
+                    }
+                }
+                out.println("Replayed " + replayed + " events into " + processorClass);
+            }
+            default -> throw new IllegalArgumentException("Unknown command " + command);
+        }
+        return EXIT_OK;
+    }
+
+    private static void printStatistics(Map<String, MetricStatistics> statistics, PrintStream out) {
+        out.printf(Locale.ROOT, "%-40s %12s %12s %12s %12s %12s %12s %12s%n",
+            "event type", "count", "min", "mean", "p50", "p90", "p99", "max");
+        statistics.forEach((eventType, metric) -> out.printf(Locale.ROOT,
+            "%-40s %12d %12d %12.2f %12.1f %12.1f %12.1f %12d%n",
+            eventType, metric.count(), metric.min(), metric.mean(),
+            metric.percentile(50), metric.percentile(90), metric.percentile(99), metric.max()));
+    }
+}
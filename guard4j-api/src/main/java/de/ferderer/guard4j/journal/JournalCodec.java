@@ -0,0 +1,71 @@
+package de.ferderer.guard4j.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ServiceLoader;
+
+/**
+ * Compression of journal blocks by {@link JournalCompactor}.
+ *
+ * <p>A compressed segment stores the name of its codec, and readers look the codec
+ * up by that name with {@link #forName(String)}: {@code deflate} is built in, other
+ * codecs are found with {@link ServiceLoader} and must therefore be registered as
+ * a service to be readable by other processes, such as {@link JournalCli}.
+ * Implementations must be thread-safe.
+ *
+ * @since 2.2.0
+ */
+public interface JournalCodec {
+
+    /**
+     * Name stored in compressed segments to find the codec again.
+     *
+     * @return a unique name of at most 31 ASCII characters
+     */
+    String name();
+
+    /**
+     * Compress one block.
+     *
+     * @param block the uncompressed bytes, from position to limit
+     * @return the compressed bytes, from position to limit
+     */
+    ByteBuffer compress(ByteBuffer block);
+
+    /**
+     * Decompress one block.
+     *
+     * @param compressed the compressed bytes, from position to limit
+     * @param target receives exactly its remaining bytes
+     * @throws IOException if the data is corrupt or does not fill the target
+     */
+    void decompress(ByteBuffer compressed, ByteBuffer target) throws IOException;
+
+    /**
+     * The built-in codec, {@link java.util.zip.Deflater} at the default level.
+     *
+     * @return the deflate codec
+     */
+    static JournalCodec deflate() {
+        return DeflateCodec.DEFAULT;
+    }
+
+    /**
+     * Find a codec by name.
+     *
+     * @param name the codec name
+     * @return the codec
+     * @throws IOException if no codec with that name is available
+     */
+    static JournalCodec forName(String name) throws IOException {
+        if (DeflateCodec.NAME.equals(name)) {
+            return DeflateCodec.DEFAULT;
+        }
+        for (JournalCodec codec : ServiceLoader.load(JournalCodec.class)) {
+            if (codec.name().equals(name)) {
+                return codec;
+            }
+        }
+        throw new IOException("Unknown journal codec " + name);
+    }
+}
@@ -0,0 +1,260 @@
+package de.ferderer.guard4j.journal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Compresses sealed journal segments and deletes old ones, on a low-priority
+ * background thread.
+ *
+ * <p>A segment is sealed once a segment with a later sequence exists, and compaction
+ * works from its {@link SegmentIndex}. Sealed segments still without an index one run
+ * after they were first seen, because indexing timed out on pending commits or
+ * {@link JournalConfig#indexSegments()} is disabled, are indexed by the compactor.
+ * Each run rewrites the indexed plain segments as {@link CompressedSegment}s,
+ * compressed in blocks that start at the block offsets of their index: the index
+ * stays valid, and {@link JournalScanner} decompresses only the blocks a query
+ * selects. Compressing with deflate usually shrinks a segment to a fraction of its
+ * written part, and the unwritten rest of the segment file is not stored at all.
+ *
+ * <p>Then segments are deleted, oldest first, while the segment and index files
+ * together exceed {@link CompactionConfig#maxTotalBytes()}, as well as segments
+ * whose latest event is older than {@link CompactionConfig#maxAge()}. Segments
+ * without an index, such as the one being written, are neither compacted nor deleted.
+ *
+ * <p>Compaction reads and writes at most {@link CompactionConfig#maxBytesPerSecond()},
+ * so that it does not compete with the application for the storage device. Readers
+ * may scan the journal concurrently: a segment is replaced by its compressed form
+ * with an atomic move, and segments deleted while a scan runs are skipped.
+ *
+ * <pre>{@code
+ * JournalCompactor compactor = new JournalCompactor(journalDirectory,
+ *     new CompactionConfig(10L << 30, Duration.ofDays(7)));
+ * }</pre>
+ *
+ * @since 2.2.0
+ */
+public final class JournalCompactor implements AutoCloseable {
+
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final CompactionConfig config;
+    private final AtomicLong compacted = new AtomicLong();
+    private final AtomicLong deleted = new AtomicLong();
+    private final Thread thread;
+
+    private volatile boolean running = true;
+    private long throttleStartNanos;
+    private long throttledBytes;
+    private Set<Path> unindexed = Set.of();
+
+    /**
+     * Creates the compactor and starts its background thread, which runs once per
+     * {@link CompactionConfig#interval()}, the first time after one interval.
+     *
+     * @param directory the journal directory
+     * @param config the compaction configuration
+     */
+    public JournalCompactor(Path directory, CompactionConfig config) {
+        if (directory == null) {
+            throw new IllegalArgumentException("directory is required");
+        }
+        if (config == null) {
+            throw new IllegalArgumentException("config is required");
+        }
+        this.directory = directory;
+        this.config = config;
+        this.thread = new Thread(this::loop, "guard4j-journal-compactor");
+        this.thread.setDaemon(true);
+        this.thread.setPriority(Thread.MIN_PRIORITY);
+        this.thread.start();
+    }
+
+    /**
+     * Compacts the sealed segments and applies the retention limits now, on the
+     * calling thread. Runs of the background thread are not overlapped.
+     *
+     * @throws IOException if the journal cannot be listed, or a segment cannot be
+     *     compacted or deleted; segments handled before stay compacted or deleted
+     */
+    public synchronized void runOnce() throws IOException {
+        throttleStartNanos = System.nanoTime();
+        throttledBytes = 0;
+        long cutoffMicros = config.maxAge() != null
+            ? JournalFormat.toMicros(Instant.now()) - config.maxAge().toNanos() / 1_000
+            : Long.MIN_VALUE;
+        List<Path> segments = plainSegments();
+        indexSealed(segments);
+        for (Path segment : segments) {
+            compact(segment, cutoffMicros);
+        }
+        retain(cutoffMicros);
+    }
+
+    /**
+     * Returns the number of segments rewritten in compressed form.
+     *
+     * @return the compacted segment count since creation
+     */
+    public long compactedCount() {
+        return compacted.get();
+    }
+
+    /**
+     * Returns the number of segments deleted by the retention limits.
+     *
+     * @return the deleted segment count since creation
+     */
+    public long deletedCount() {
+        return deleted.get();
+    }
+
+    /**
+     * Stops the background thread, finishing a running compaction without throttling,
+     * and waits for it to terminate.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void loop() {
+        long intervalNanos = config.interval().toNanos();
+        while (running) {
+            long deadline = System.nanoTime() + intervalNanos;
+            long remaining;
+            while (running && (remaining = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(this, remaining);
+            }
+            if (!running) {
+                return;
+            }
+            try {
+                runOnce();
+            } catch (IOException | RuntimeException e) {
+                // Segments left over are handled by the next run
+            }
+        }
+    }
+
+    private List<Path> plainSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> JournalFormat.sequenceOf(file) >= 0 && !JournalFormat.isCompressed(file))
+                .sorted(Comparator.comparingLong(JournalFormat::sequenceOf))
+                .toList();
+        }
+    }
+
+    /**
+     * Indexes the sealed segments that were already without index in the previous run,
+     * which leaves the writer one interval to finish pending commits and its own
+     * indexing. The last plain segment may still be written and is never indexed here.
+     */
+    private void indexSealed(List<Path> segments) throws IOException {
+        Set<Path> seen = new HashSet<>();
+        for (Path segment : segments.subList(0, Math.max(segments.size() - 1, 0))) {
+            if (SegmentIndex.open(segment) != null) {
+                continue;
+            }
+            if (!unindexed.contains(segment)) {
+                seen.add(segment);
+                continue;
+            }
+            try {
+                SegmentIndex.write(SegmentCursor.open(segment));
+            } catch (NoSuchFileException e) {
+                // Deleted since the directory was listed
+            } catch (IOException | RuntimeException e) {
+                // Not a readable segment; it is scanned in full and retried by the next run
+                seen.add(segment);
+            }
+        }
+        unindexed = seen;
+    }
+
+    private void compact(Path segment, long cutoffMicros) throws IOException {
+        SegmentIndex index = SegmentIndex.open(segment);
+        if (index == null || isExpired(index, cutoffMicros)) {
+            return;
+        }
+        Path target = segment.resolveSibling(JournalFormat.compressedFileName(JournalFormat.sequenceOf(segment)));
+        Path temporary = target.resolveSibling(target.getFileName() + TEMPORARY_SUFFIX);
+        try {
+            CompressedSegment.write(segment, index.blockOffsets(), config.codec(), temporary, this::throttle);
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (NoSuchFileException e) {
+            // Deleted since the directory was listed
+            return;
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+        Files.deleteIfExists(segment);
+        compacted.incrementAndGet();
+    }
+
+    private void retain(long cutoffMicros) throws IOException {
+        List<Path> segments = JournalReader.segments(directory);
+        long[] sizes = new long[segments.size()];
+        long total = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = sizeOf(segments.get(i)) + sizeOf(SegmentIndex.fileOf(segments.get(i)));
+            total += sizes[i];
+        }
+        for (int i = 0; i < sizes.length; i++) {
+            Path segment = segments.get(i);
+            SegmentIndex index = SegmentIndex.open(segment);
+            if (index != null && (total > config.maxTotalBytes() || isExpired(index, cutoffMicros))) {
+                // The segment goes first: a segment left without index would never be deleted
+                Files.deleteIfExists(segment);
+                Files.deleteIfExists(SegmentIndex.fileOf(segment));
+                total -= sizes[i];
+                deleted.incrementAndGet();
+            }
+        }
+    }
+
+    private static boolean isExpired(SegmentIndex index, long cutoffMicros) {
+        return index.maxTimestampMicros() < cutoffMicros;
+    }
+
+    private static long sizeOf(Path file) throws IOException {
+        try {
+            return Files.size(file);
+        } catch (NoSuchFileException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Waits until the bytes read and written since the start of the run fit the rate limit.
+     */
+    private void throttle(long bytes) {
+        if (config.maxBytesPerSecond() == CompactionConfig.UNBOUNDED) {
+            return;
+        }
+        throttledBytes += bytes;
+        long due = throttleStartNanos + (long) (throttledBytes * 1e9 / config.maxBytesPerSecond());
+        long remaining;
+        while (running && (remaining = due - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, remaining);
+        }
+    }
+}
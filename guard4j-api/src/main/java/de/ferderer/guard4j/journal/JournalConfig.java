@@ -0,0 +1,64 @@
+package de.ferderer.guard4j.journal;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration for the binary event journal.
+ *
+ * <p>The journal is a sequence of fixed-size segment files in one directory.
+ * A new segment is started when the current one is full or older than the
+ * roll interval, whichever comes first. Sealed segments are indexed in the
+ * background, see {@link JournalScanner}.
+ *
+ * @param directory the directory holding the segment files, created if missing
+ * @param segmentSize size of each segment file in bytes
+ * @param rollInterval maximum time span covered by one segment
+ * @param forceOnRoll whether a full segment is written to the storage device when rolling
+ * @param indexSegments whether an index is written next to each sealed segment
+ * @since 2.2.0
+ */
+public record JournalConfig(
+    Path directory,
+    int segmentSize,
+    Duration rollInterval,
+    boolean forceOnRoll,
+    boolean indexSegments
+) {
+
+    /** Smallest supported segment size. */
+    public static final int MIN_SEGMENT_SIZE = 4096;
+
+    /**
+     * Create a JournalConfig with 64 MiB segments rolled at least hourly.
+     *
+     * @param directory the directory holding the segment files
+     */
+    public JournalConfig(Path directory) {
+        this(directory, 64 << 20, Duration.ofHours(1), true, true);
+    }
+
+    /**
+     * Create a JournalConfig that indexes sealed segments.
+     *
+     * @param directory the directory holding the segment files
+     * @param segmentSize size of each segment file in bytes
+     * @param rollInterval maximum time span covered by one segment
+     * @param forceOnRoll whether a full segment is written to the storage device when rolling
+     */
+    public JournalConfig(Path directory, int segmentSize, Duration rollInterval, boolean forceOnRoll) {
+        this(directory, segmentSize, rollInterval, forceOnRoll, true);
+    }
+
+    public JournalConfig {
+        if (directory == null) {
+            throw new IllegalArgumentException("directory is required");
+        }
+        if (segmentSize < MIN_SEGMENT_SIZE || segmentSize > 1 << 30) {
+            throw new IllegalArgumentException("segmentSize must be between " + MIN_SEGMENT_SIZE + " and 2^30");
+        }
+        if (rollInterval == null || rollInterval.isNegative() || rollInterval.isZero()) {
+            throw new IllegalArgumentException("rollInterval must be positive");
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package de.ferderer.guard4j.journal;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Binary layout of journal segment files.
+ *
+ * <p>A segment is a fixed-size file, mapped into memory while it is written.
+ * All values are little endian. The file starts with a header:
+ * <pre>
+ *  0  int   magic ("G4JJ")
+ *  4  int   format version
+ *  8  long  segment sequence number
+ * 16  long  creation time, epoch microseconds
+ * 24  int   segment size in bytes
+ * 28  int   flags, reserved
+ * 32        reserved up to {@link #HEADER_SIZE}
+ * </pre>
+ *
+ * <p>Records follow the header back to back, each aligned to 8 bytes. A record
+ * starts with its total length and a commit marker, which the writer sets last.
+ * Records with a zero marker were not completely written and are skipped. A writer
+ * that stalls or dies between reserving its space and writing the length leaves a
+ * zeroed gap, which readers skip by scanning the aligned slots that follow for the
+ * next record header, see {@link #skipUnwritten}. The written part ends where no
+ * record follows up to the end of the records of a sealed segment, or else the end
+ * of the file.
+ * <pre>
+ *  0  int   record length, including this header and padding
+ *  4  int   {@link #COMMITTED} | record type, 0 while pending
+ * </pre>
+ *
+ * <p>Strings (event types, logger names, context keys) are stored once per segment
+ * as {@link #DICTIONARY} records and referenced by id. Every segment is therefore
+ * readable on its own, and a definition always precedes its first use.
+ * <pre>
+ * DICTIONARY                         EVENT
+ *  8  int    id                       8  long   timestamp, epoch microseconds
+ * 12  ushort UTF-8 length            16  long   measured duration in ns, -1 if not timed
+ * 14  bytes  UTF-8 string            24  int    event type id
+ *                                    28  int    logger name id, -1 if none
+ *                                    32  int    metric
+ *                                    36  byte   level ordinal
+ *                                    37  ubyte  context field count
+ *                                    38         per field: int key id,
+ *                                               ushort UTF-8 length, UTF-8 value
+ * </pre>
+ *
+ * <p>Sealed segments get a sidecar index, see {@link SegmentIndex}, and may later be
+ * rewritten in compressed form, see {@link CompressedSegment}.
+ *
+ * @since 2.2.0
+ */
+final class JournalFormat {
+
+    static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    static final int MAGIC = 0x4A4A3447;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+
+    static final int SEQUENCE_OFFSET = 8;
+    static final int CREATED_OFFSET = 16;
+    static final int SIZE_OFFSET = 24;
+    static final int FLAGS_OFFSET = 28;
+
+    static final int RECORD_HEADER_SIZE = 8;
+    static final int ALIGNMENT = 8;
+
+    static final int COMMITTED = 0x5A5A0000;
+    static final int DICTIONARY = 1;
+    static final int EVENT = 2;
+
+    static final int DICTIONARY_FIXED_SIZE = RECORD_HEADER_SIZE + 6;
+    static final int EVENT_FIXED_SIZE = RECORD_HEADER_SIZE + 30;
+    static final int CONTEXT_FIELD_FIXED_SIZE = 6;
+
+    static final int MAX_STRING_LENGTH = 0xFFFF;
+    static final int MAX_CONTEXT_FIELDS = 0xFF;
+
+    static final int NO_ID = -1;
+    static final long NO_DURATION = -1;
+
+    private static final String FILE_SUFFIX = ".g4j";
+    private static final String COMPRESSED_FILE_SUFFIX = ".g4z";
+    private static final Pattern FILE_NAME = Pattern.compile("journal-(\\d{19})\\.g4[jz]");
+
+    private JournalFormat() {}
+
+    /**
+     * Round a record length up to the record alignment.
+     */
+    static int align(int length) {
+        return (length + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    /**
+     * Whether a record length read at an offset is valid, i.e. the record was reserved
+     * and its length written.
+     */
+    static boolean isRecordLength(int length, int offset, int limit) {
+        return length >= RECORD_HEADER_SIZE && length <= limit - offset && length % ALIGNMENT == 0;
+    }
+
+    /**
+     * Find the next record after space that was reserved but whose length was never
+     * written. The gap is zeroed, so the scan skips a slot with a single read and stops
+     * at the first slot holding a valid length and a pending or committed marker.
+     *
+     * @param segment the records
+     * @param offset the offset without a valid record length
+     * @param limit the end of the records, or of the segment if it is not known
+     * @return the offset of the next record, or {@code limit} if none follows
+     */
+    static int skipUnwritten(ByteBuffer segment, int offset, int limit) {
+        for (int slot = offset + ALIGNMENT; slot <= limit - RECORD_HEADER_SIZE; slot += ALIGNMENT) {
+            if (segment.getLong(slot) != 0 && isRecordLength(segment.getInt(slot), slot, limit)) {
+                int marker = segment.getInt(slot + 4);
+                if (marker == 0 || (marker & ~0xFFFF) == COMMITTED) {
+                    return slot;
+                }
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * Convert an instant to epoch microseconds, as stored in the journal.
+     */
+    static long toMicros(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000;
+    }
+
+    /**
+     * Convert epoch microseconds back to an instant.
+     */
+    static Instant toInstant(long epochMicros) {
+        return Instant.ofEpochSecond(Math.floorDiv(epochMicros, 1_000_000),
+            Math.floorMod(epochMicros, 1_000_000) * 1_000L);
+    }
+
+    /**
+     * File name of the segment with the given sequence number; names sort by sequence.
+     */
+    static String fileName(long sequence) {
+        return String.format("journal-%019d%s", sequence, FILE_SUFFIX);
+    }
+
+    /**
+     * File name of the compressed form of the segment with the given sequence number.
+     */
+    static String compressedFileName(long sequence) {
+        return String.format("journal-%019d%s", sequence, COMPRESSED_FILE_SUFFIX);
+    }
+
+    /**
+     * Whether a segment file is in compressed form.
+     */
+    static boolean isCompressed(Path file) {
+        return file.getFileName().toString().endsWith(COMPRESSED_FILE_SUFFIX);
+    }
+
+    /**
+     * Sequence number of a segment file, plain or compressed.
+     *
+     * @return the sequence number, or -1 if the path is not a segment file
+     */
+    static long sequenceOf(Path file) {
+        Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : -1;
+    }
+}
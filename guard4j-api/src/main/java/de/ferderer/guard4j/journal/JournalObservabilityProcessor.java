@@ -0,0 +1,347 @@
+package de.ferderer.guard4j.journal;
+
+import de.ferderer.guard4j.classification.Level;
+import de.ferderer.guard4j.observability.ContextExtractor;
+import de.ferderer.guard4j.observability.ObservabilityProcessor;
+import de.ferderer.guard4j.observability.ObservableEvent;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * {@link ObservabilityProcessor} that appends events to a binary journal of
+ * memory-mapped segment files, for post-mortem analysis without text logging.
+ *
+ * <p>Each event is stored with its timestamp, level, logger name, event type,
+ * metric, measured duration and the fields of the configured
+ * {@link ContextExtractor}. Strings that repeat, such as event types, logger
+ * names and context keys, are stored once per segment; see {@link JournalFormat}
+ * for the layout. Records are read back with {@link JournalReader}.
+ *
+ * <p>Appending is lock-free: a writer reserves its record with one atomic add on
+ * the segment's append position and writes it directly into the mapped file.
+ * Only rolling to a new segment, when the current one is full or older than
+ * {@link JournalConfig#rollInterval()}, is serialized. Records are in the page
+ * cache as soon as they are written and survive a crash of the process; use
+ * {@link #flush()} or {@link JournalConfig#forceOnRoll()} for durability against
+ * a crash of the operating system.
+ *
+ * <p>Unless disabled with {@link JournalConfig#indexSegments()}, every sealed segment
+ * is indexed by a low-priority background thread, which writes a {@link SegmentIndex}
+ * next to it for {@link JournalScanner}. Segments of earlier runs that have no index
+ * yet are indexed on startup.
+ *
+ * <p>Events that cannot be written, because the journal is closed, a segment
+ * cannot be created or the record is larger than a segment, are counted by
+ * {@link #droppedCount()}.
+ *
+ * @since 2.2.0
+ */
+public final class JournalObservabilityProcessor implements ObservabilityProcessor, AutoCloseable {
+
+    // How long indexing waits for writers that still fill records of a sealed segment
+    private static final long COMMIT_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long CLOSE_TIMEOUT_SECONDS = 30;
+
+    private final JournalConfig config;
+    private final long rollIntervalMicros;
+    private final Object rollLock = new Object();
+    private final AtomicLong dropped = new AtomicLong();
+    private final ExecutorService indexer;
+
+    private volatile JournalSegment current;
+    private volatile ContextExtractor contextExtractor;
+    private long nextSequence;
+
+    /**
+     * Creates the journal directory if needed and starts a new segment after any
+     * existing ones.
+     *
+     * @param config the journal configuration
+     * @throws UncheckedIOException if the directory or the first segment cannot be created
+     */
+    public JournalObservabilityProcessor(JournalConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("config is required");
+        }
+        this.config = config;
+        this.rollIntervalMicros = Math.max(1, config.rollInterval().toNanos() / 1_000);
+        List<Path> existing;
+        try {
+            Files.createDirectories(config.directory());
+            existing = JournalReader.segments(config.directory());
+            nextSequence = lastSequence(config.directory()) + 1;
+            current = openSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open journal in " + config.directory(), e);
+        }
+
+        this.indexer = config.indexSegments() ? Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "guard4j-journal-indexer");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        }) : null;
+        if (indexer != null) {
+            for (Path segment : existing) {
+                if (!Files.exists(SegmentIndex.fileOf(segment))) {
+                    indexer.execute(() -> index(segment));
+                }
+            }
+        }
+    }
+
+    /**
+     * Journals the event at {@link Level#INFO} without a logger name.
+     */
+    @Override
+    public void process(ObservableEvent event) {
+        append(event, JournalFormat.NO_DURATION, Level.INFO, null);
+    }
+
+    @Override
+    public void processWithLevel(ObservableEvent event, Level level, String loggerName) {
+        append(event, JournalFormat.NO_DURATION, level, loggerName);
+    }
+
+    @Override
+    public void processTimed(ObservableEvent event, long durationNanos, Level level, String loggerName) {
+        append(event, durationNanos, level, loggerName);
+    }
+
+    @Override
+    public void setContextExtractor(ContextExtractor contextExtractor) {
+        this.contextExtractor = contextExtractor;
+    }
+
+    /**
+     * Returns the journal configuration.
+     *
+     * @return the configuration
+     */
+    public JournalConfig config() {
+        return config;
+    }
+
+    /**
+     * Returns the number of events that could not be journaled.
+     *
+     * @return the dropped event count since creation
+     */
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Writes the current segment to the storage device.
+     */
+    public void flush() {
+        JournalSegment segment = current;
+        if (segment != null) {
+            segment.force();
+        }
+    }
+
+    /**
+     * Stops accepting events, writes the current segment to the storage device and
+     * waits for pending segments to be indexed.
+     */
+    @Override
+    public void close() {
+        synchronized (rollLock) {
+            JournalSegment segment = current;
+            current = null;
+            if (segment != null) {
+                segment.seal();
+                segment.force();
+                if (indexer != null) {
+                    indexer.execute(() -> index(segment));
+                }
+            }
+        }
+        if (indexer != null) {
+            indexer.shutdown();
+            try {
+                indexer.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void append(ObservableEvent event, long durationNanos, Level level, String loggerName) {
+        if (event == null || level == null) {
+            return;
+        }
+        JournalSegment segment = current;
+        if (segment == null) {
+            dropped.incrementAndGet();
+            return;
+        }
+
+        long nowMicros = System.currentTimeMillis() * 1_000;
+        if (segment.isExpired(nowMicros)) {
+            segment = roll(segment);
+        }
+        long timestampMicros = JournalFormat.toMicros(event.timestamp());
+        ContextExtractor extractor = contextExtractor;
+        Map<String, String> context = extractor != null ? extractor.extractContext() : Map.of();
+
+        while (segment != null) {
+            if (write(segment, event, timestampMicros, durationNanos, level, loggerName, context)) {
+                return;
+            }
+            // Only checked after a failure, as it encodes all strings once more
+            if (requiredLength(event, loggerName, context) > config.segmentSize() - JournalFormat.HEADER_SIZE) {
+                break;
+            }
+            segment = roll(segment);
+        }
+        dropped.incrementAndGet();
+    }
+
+    /**
+     * Upper bound of the space an event takes in an empty segment, including the
+     * definitions of all its strings.
+     */
+    private static long requiredLength(ObservableEvent event, String loggerName, Map<String, String> context) {
+        long length = definitionLength(event.eventType());
+        if (loggerName != null) {
+            length += definitionLength(loggerName);
+        }
+        int eventLength = JournalFormat.EVENT_FIXED_SIZE;
+        int fields = 0;
+        for (Map.Entry<String, String> entry : context.entrySet()) {
+            if (fields++ == JournalFormat.MAX_CONTEXT_FIELDS) {
+                break;
+            }
+            length += definitionLength(entry.getKey());
+            String value = entry.getValue() != null ? entry.getValue() : "";
+            eventLength += JournalFormat.CONTEXT_FIELD_FIXED_SIZE + JournalSegment.utf8(value).length;
+        }
+        return length + JournalFormat.align(eventLength);
+    }
+
+    private static int definitionLength(String value) {
+        return JournalFormat.align(JournalFormat.DICTIONARY_FIXED_SIZE + JournalSegment.utf8(value).length);
+    }
+
+    private static boolean write(JournalSegment segment, ObservableEvent event, long timestampMicros,
+                                 long durationNanos, Level level, String loggerName, Map<String, String> context) {
+        int eventTypeId = segment.idOf(event.eventType());
+        int loggerNameId = loggerName != null ? segment.idOf(loggerName) : JournalFormat.NO_ID;
+        if (eventTypeId < 0 || loggerName != null && loggerNameId < 0) {
+            return false;
+        }
+
+        int fieldCount = Math.min(context.size(), JournalFormat.MAX_CONTEXT_FIELDS);
+        int[] keyIds = null;
+        byte[][] values = null;
+        int length = JournalFormat.EVENT_FIXED_SIZE;
+        if (fieldCount > 0) {
+            keyIds = new int[fieldCount];
+            values = new byte[fieldCount][];
+            int field = 0;
+            for (Map.Entry<String, String> entry : context.entrySet()) {
+                if (field == fieldCount) {
+                    break;
+                }
+                keyIds[field] = segment.idOf(entry.getKey());
+                if (keyIds[field] < 0) {
+                    return false;
+                }
+                values[field] = JournalSegment.utf8(entry.getValue() != null ? entry.getValue() : "");
+                length += JournalFormat.CONTEXT_FIELD_FIXED_SIZE + values[field].length;
+                field++;
+            }
+        }
+
+        int offset = segment.reserve(JournalFormat.align(length));
+        if (offset < 0) {
+            return false;
+        }
+        MappedByteBuffer buffer = segment.buffer();
+        int position = offset + JournalFormat.RECORD_HEADER_SIZE;
+        buffer.putLong(position, timestampMicros);
+        buffer.putLong(position + 8, durationNanos);
+        buffer.putInt(position + 16, eventTypeId);
+        buffer.putInt(position + 20, loggerNameId);
+        buffer.putInt(position + 24, event.metric());
+        buffer.put(position + 28, (byte) level.ordinal());
+        buffer.put(position + 29, (byte) fieldCount);
+        position = offset + JournalFormat.EVENT_FIXED_SIZE;
+        for (int field = 0; field < fieldCount; field++) {
+            buffer.putInt(position, keyIds[field]);
+            buffer.putShort(position + 4, (short) values[field].length);
+            buffer.put(position + JournalFormat.CONTEXT_FIELD_FIXED_SIZE, values[field]);
+            position += JournalFormat.CONTEXT_FIELD_FIXED_SIZE + values[field].length;
+        }
+        segment.commit(offset, JournalFormat.EVENT);
+        return true;
+    }
+
+    /**
+     * Replaces the given segment with a new one, unless another writer already did.
+     *
+     * @return the current segment, or null if the journal is closed or no segment can be created
+     */
+    private JournalSegment roll(JournalSegment previous) {
+        synchronized (rollLock) {
+            JournalSegment segment = current;
+            if (segment != previous) {
+                return segment;
+            }
+            try {
+                current = openSegment();
+            } catch (IOException e) {
+                return null;
+            }
+            previous.seal();
+            if (config.forceOnRoll()) {
+                previous.force();
+            }
+            if (indexer != null) {
+                indexer.execute(() -> index(previous));
+            }
+            return current;
+        }
+    }
+
+    private static void index(JournalSegment segment) {
+        try {
+            SegmentIndex.write(SegmentCursor.sealed(segment, COMMIT_TIMEOUT_NANOS));
+        } catch (IOException | RuntimeException e) {
+            // Segments without index are scanned in full
+        }
+    }
+
+    private static void index(Path segment) {
+        try {
+            SegmentIndex.write(SegmentCursor.open(segment));
+        } catch (IOException | RuntimeException e) {
+            // Segments without index are scanned in full
+        }
+    }
+
+    private JournalSegment openSegment() throws IOException {
+        long sequence = nextSequence++;
+        long nowMicros = System.currentTimeMillis() * 1_000;
+        Path file = config.directory().resolve(JournalFormat.fileName(sequence));
+        return JournalSegment.create(file, sequence, config.segmentSize(), nowMicros, nowMicros + rollIntervalMicros);
+    }
+
+    private static long lastSequence(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.mapToLong(JournalFormat::sequenceOf).max().orElse(-1);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package de.ferderer.guard4j.journal;
+
+import de.ferderer.guard4j.classification.Level;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Selects events from a journal for {@link JournalScanner}.
+ *
+ * <p>All criteria are optional and combined with AND. Timestamps are compared with
+ * the microsecond precision they are journaled with. Context criteria, such as
+ * a correlation ID, are answered from the segment indexes in most segments.
+ *
+ * @param from earliest event timestamp, inclusive, or null for no lower bound
+ * @param to latest event timestamp, exclusive, or null for no upper bound
+ * @param minimumLevel lowest level to select, or null for all levels
+ * @param eventTypes event types to select, empty for all types
+ * @param context context fields the selected events must have, by key; empty for any
+ * @since 2.2.0
+ */
+public record JournalQuery(
+    Instant from,
+    Instant to,
+    Level minimumLevel,
+    Set<String> eventTypes,
+    Map<String, String> context
+) {
+
+    /** Context field the correlation ID is matched against. */
+    public static final String CORRELATION_ID_KEY = "correlationId";
+
+    private static final JournalQuery ALL = new JournalQuery(null, null, null, Set.of(), Map.of());
+
+    public JournalQuery {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        eventTypes = eventTypes != null ? Set.copyOf(eventTypes) : Set.of();
+        if (context != null && context.entrySet().stream()
+                .anyMatch(field -> field.getKey() == null || field.getValue() == null)) {
+            throw new IllegalArgumentException("context keys and values must not be null");
+        }
+        context = context != null ? Map.copyOf(context) : Map.of();
+    }
+
+    /**
+     * Query selecting every event.
+     *
+     * @return the unrestricted query
+     */
+    public static JournalQuery all() {
+        return ALL;
+    }
+
+    /**
+     * Restrict the query to a time range.
+     *
+     * @param from earliest timestamp, inclusive, or null
+     * @param to latest timestamp, exclusive, or null
+     * @return a new query
+     */
+    public JournalQuery withTimeRange(Instant from, Instant to) {
+        return new JournalQuery(from, to, minimumLevel, eventTypes, context);
+    }
+
+    /**
+     * Restrict the query to events at or above a level.
+     *
+     * @param minimumLevel the lowest level to select
+     * @return a new query
+     */
+    public JournalQuery withMinimumLevel(Level minimumLevel) {
+        return new JournalQuery(from, to, minimumLevel, eventTypes, context);
+    }
+
+    /**
+     * Restrict the query to the given event types.
+     *
+     * @param eventTypes the event types to select
+     * @return a new query
+     */
+    public JournalQuery withEventTypes(String... eventTypes) {
+        return new JournalQuery(from, to, minimumLevel, Set.of(eventTypes), context);
+    }
+
+    /**
+     * Restrict the query to events with the given context field.
+     *
+     * @param key the context key, e.g. traceId or userId
+     * @param value the context value
+     * @return a new query
+     */
+    public JournalQuery withContext(String key, String value) {
+        Map<String, String> fields = new HashMap<>(context);
+        fields.put(key, value);
+        return new JournalQuery(from, to, minimumLevel, eventTypes, fields);
+    }
+
+    /**
+     * Restrict the query to events of one correlation ID.
+     *
+     * @param correlationId the correlation ID to select
+     * @return a new query
+     */
+    public JournalQuery withCorrelationId(String correlationId) {
+        return withContext(CORRELATION_ID_KEY, correlationId);
+    }
+
+    /**
+     * Whether a decoded record is selected by this query.
+     *
+     * @param record the record to test
+     * @return true if all criteria match
+     */
+    public boolean matches(JournalRecord record) {
+        long micros = JournalFormat.toMicros(record.timestamp());
+        return (from == null || micros >= JournalFormat.toMicros(from))
+            && (to == null || micros < JournalFormat.toMicros(to))
+            && (minimumLevel == null || record.level() != null && record.level().isAtLeast(minimumLevel))
+            && (eventTypes.isEmpty() || eventTypes.contains(record.eventType()))
+            && context.entrySet().stream()
+                .allMatch(field -> field.getValue().equals(record.context().get(field.getKey())));
+    }
+}
@@ -0,0 +1,76 @@
+package de.ferderer.guard4j.journal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads events back from a journal written by {@link JournalObservabilityProcessor}.
+ *
+ * <p>Segments are read in sequence order, records within a segment in the order
+ * their space was reserved. Records that were not completely written, e.g. because
+ * the process crashed, are skipped.
+ *
+ * @since 2.2.0
+ */
+public final class JournalReader {
+
+    /**
+     * Private constructor to prevent instantiation.
+     * This is a utility class with only static methods.
+     */
+    private JournalReader() {}
+
+    /**
+     * Lists the segment files of a journal.
+     *
+     * <p>A segment that is both in plain and in {@linkplain JournalCompactor compressed}
+     * form, while it is being compacted, is listed once, in compressed form.
+     *
+     * @param directory the journal directory
+     * @return the segment files, ordered by sequence number
+     * @throws IOException if the directory cannot be listed
+     */
+    public static List<Path> segments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> JournalFormat.sequenceOf(file) >= 0)
+                .collect(Collectors.toMap(JournalFormat::sequenceOf, file -> file,
+                    (first, second) -> JournalFormat.isCompressed(first) ? first : second, TreeMap::new))
+                .values()
+                .stream()
+                .toList();
+        }
+    }
+
+    /**
+     * Reads all events of a journal.
+     *
+     * @param directory the journal directory
+     * @param consumer the consumer called for each event
+     * @throws IOException if a segment cannot be read or is not a journal segment
+     */
+    public static void read(Path directory, Consumer<? super JournalRecord> consumer) throws IOException {
+        for (Path segment : segments(directory)) {
+            readSegment(segment, consumer);
+        }
+    }
+
+    /**
+     * Reads all events of one segment file.
+     *
+     * @param segment the segment file
+     * @param consumer the consumer called for each event
+     * @throws IOException if the segment cannot be read or is not a journal segment
+     */
+    public static void readSegment(Path segment, Consumer<? super JournalRecord> consumer) throws IOException {
+        SegmentCursor cursor = SegmentCursor.open(segment);
+        while (cursor.next()) {
+            consumer.accept(cursor.decode());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package de.ferderer.guard4j.journal;
+
+import de.ferderer.guard4j.classification.Level;
+import de.ferderer.guard4j.observability.ObservableEvent;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * An event read back from the journal.
+ *
+ * <p>Records are themselves {@link ObservableEvent}s with the journaled event type,
+ * metric and timestamp, so they can be replayed into any processor; see
+ * {@link JournalScanner#replay}.
+ *
+ * @param timestamp when the event occurred, with microsecond precision
+ * @param level the level the event was emitted at
+ * @param loggerName the logger name, or null if the event was processed without one
+ * @param eventType the event type identifier
+ * @param metric the metric value
+ * @param durationNanos the measured duration in nanoseconds, or -1 if the event was not timed
+ * @param context the context fields extracted when the event was journaled
+ * @since 2.2.0
+ */
+public record JournalRecord(
+    Instant timestamp,
+    Level level,
+    String loggerName,
+    String eventType,
+    int metric,
+    long durationNanos,
+    Map<String, String> context
+) implements ObservableEvent {
+
+    /**
+     * Whether the event carries a measured duration.
+     *
+     * @return true for timed events
+     */
+    public boolean isTimed() {
+        return durationNanos >= 0;
+    }
+}
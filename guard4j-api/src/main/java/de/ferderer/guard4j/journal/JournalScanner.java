@@ -0,0 +1,422 @@
+package de.ferderer.guard4j.journal;
+
+import de.ferderer.guard4j.observability.ObservabilityProcessor;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Scans the segments of a journal in parallel, selecting events with a {@link JournalQuery}.
+ *
+ * <p>Each segment is mapped read-only and scanned by one fork/join task. Events are
+ * filtered on the fields in the mapping, without copying or decoding them; only
+ * matching events are decoded, and {@link #count} and {@link #statistics} decode
+ * none at all. Scanning journals larger than the heap is therefore cheap, and
+ * bounded by the page cache and the number of cores.
+ *
+ * <p>Sealed segments have a {@link SegmentIndex}. A segment is skipped without
+ * mapping it if its index shows that no event can match: no event in the time
+ * range or at the level, none of the event types, or a context field, such as a
+ * correlation ID, that no event has. Of the remaining segments, only the blocks
+ * that overlap the time range and may have the context fields are read. Looking up all events of one request in a
+ * large journal therefore reads little more than the indexes. Of segments compressed
+ * by {@link JournalCompactor}, only these blocks are decompressed.
+ *
+ * <pre>{@code
+ * JournalScanner scanner = new JournalScanner(Path.of("/var/log/app/journal"));
+ * Map<String, MetricStatistics> latency = scanner.statistics(JournalQuery.all()
+ *     .withTimeRange(Instant.parse("2025-09-07T15:00:00Z"), Instant.parse("2025-09-07T16:00:00Z")));
+ * scanner.replay(JournalQuery.all().withMinimumLevel(Level.WARN), micrometerProcessor);
+ * }</pre>
+ *
+ * @since 2.2.0
+ */
+public final class JournalScanner {
+
+    private final Path directory;
+    private final ForkJoinPool pool;
+
+    /**
+     * Scan a journal with the common fork/join pool.
+     *
+     * @param directory the journal directory
+     */
+    public JournalScanner(Path directory) {
+        this(directory, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Scan a journal with the given fork/join pool.
+     *
+     * @param directory the journal directory
+     * @param pool the pool running the segment scans
+     */
+    public JournalScanner(Path directory, ForkJoinPool pool) {
+        if (directory == null) {
+            throw new IllegalArgumentException("directory is required");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("pool is required");
+        }
+        this.directory = directory;
+        this.pool = pool;
+    }
+
+    /**
+     * Pass each selected event to the consumer.
+     *
+     * <p>Segments are scanned in parallel, so the consumer is called concurrently
+     * and in no particular order across segments. Within a segment, events are
+     * passed in journal order.
+     *
+     * @param query the events to select
+     * @param consumer receives the selected events; must be thread-safe
+     * @throws IOException if the journal cannot be read
+     */
+    public void forEach(JournalQuery query, Consumer<? super JournalRecord> consumer) throws IOException {
+        scan(query, () -> 0L, (cursor, filter) -> {
+            long matched = 0;
+            while (cursor.next()) {
+                if (filter.matches(cursor)) {
+                    consumer.accept(cursor.decode());
+                    matched++;
+                }
+            }
+            return matched;
+        }, Long::sum);
+    }
+
+    /**
+     * Pass each selected event to the consumer, in journal order, from the calling thread.
+     *
+     * @param query the events to select
+     * @param consumer receives the selected events
+     * @throws IOException if the journal cannot be read
+     */
+    public void forEachOrdered(JournalQuery query, Consumer<? super JournalRecord> consumer) throws IOException {
+        if (query == null) {
+            throw new IllegalArgumentException("query is required");
+        }
+        for (Path segment : JournalReader.segments(directory)) {
+            scanSegment(segment, query, () -> null, (cursor, filter) -> {
+                while (cursor.next()) {
+                    if (filter.matches(cursor)) {
+                        consumer.accept(cursor.decode());
+                    }
+                }
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Count the selected events.
+     *
+     * @param query the events to select
+     * @return the number of selected events
+     * @throws IOException if the journal cannot be read
+     */
+    public long count(JournalQuery query) throws IOException {
+        return scan(query, () -> 0L, (cursor, filter) -> {
+            long matched = 0;
+            while (cursor.next()) {
+                if (filter.matches(cursor)) {
+                    matched++;
+                }
+            }
+            return matched;
+        }, Long::sum);
+    }
+
+    /**
+     * Aggregate the metrics of the selected events per event type.
+     *
+     * @param query the events to select
+     * @return statistics by event type; empty if no event was selected
+     * @throws IOException if the journal cannot be read
+     */
+    public Map<String, MetricStatistics> statistics(JournalQuery query) throws IOException {
+        return scan(query, HashMap::new, (cursor, filter) -> {
+            // Indexed by the segment's event type id, named once the segment is done
+            MetricStatistics[] byId = new MetricStatistics[16];
+            while (cursor.next()) {
+                if (filter.matches(cursor)) {
+                    int id = cursor.eventTypeId();
+                    if (id >= byId.length) {
+                        byId = Arrays.copyOf(byId, Math.max(id + 1, byId.length * 2));
+                    }
+                    if (byId[id] == null) {
+                        byId[id] = new MetricStatistics();
+                    }
+                    byId[id].add(cursor.metric());
+                }
+            }
+            Map<String, MetricStatistics> byType = new HashMap<>();
+            for (int id = 0; id < byId.length; id++) {
+                if (byId[id] != null) {
+                    byType.merge(cursor.string(id), byId[id], MetricStatistics::merge);
+                }
+            }
+            return byType;
+        }, (left, right) -> {
+            right.forEach((type, statistics) -> left.merge(type, statistics, MetricStatistics::merge));
+            return left;
+        });
+    }
+
+    /**
+     * Process the selected events again with the given processor, e.g. to backfill
+     * metrics after an outage of the metrics backend.
+     *
+     * <p>Events are passed with their journaled timestamp, level, logger name and
+     * duration: timed events to {@link ObservabilityProcessor#processTimed}, events
+     * journaled without a logger name to {@link ObservabilityProcessor#process}, all
+     * others to {@link ObservabilityProcessor#processWithLevel}. As with
+     * {@link #forEach}, the processor is called concurrently. The processor's own
+     * context extractor sees the replaying thread, not the journaled context, which
+     * is available from {@link JournalRecord#context()}.
+     *
+     * @param query the events to select
+     * @param processor the processor to replay into
+     * @return the number of replayed events
+     * @throws IOException if the journal cannot be read
+     */
+    public long replay(JournalQuery query, ObservabilityProcessor processor) throws IOException {
+        if (processor == null) {
+            throw new IllegalArgumentException("processor is required");
+        }
+        return scan(query, () -> 0L, (cursor, filter) -> {
+            long replayed = 0;
+            while (cursor.next()) {
+                if (filter.matches(cursor)) {
+                    JournalRecord record = cursor.decode();
+                    if (record.isTimed()) {
+                        processor.processTimed(record, record.durationNanos(), record.level(), record.loggerName());
+                    } else if (record.loggerName() == null) {
+                        processor.process(record);
+                    } else {
+                        processor.processWithLevel(record, record.level(), record.loggerName());
+                    }
+                    replayed++;
+                }
+            }
+            return replayed;
+        }, Long::sum);
+    }
+
+    private <R> R scan(JournalQuery query, Supplier<R> empty, SegmentScan<R> scan,
+                       BinaryOperator<R> combiner) throws IOException {
+        if (query == null) {
+            throw new IllegalArgumentException("query is required");
+        }
+        List<Path> segments = JournalReader.segments(directory);
+        if (segments.isEmpty()) {
+            return empty.get();
+        }
+        try {
+            return pool.invoke(new ScanTask<>(segments, 0, segments.size(), query, empty, scan, combiner));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Scan one segment, using its index to skip it or restrict the scan to some blocks.
+     * Of a compressed segment, only the selected blocks are decompressed.
+     */
+    private static <R> R scanSegment(Path segment, JournalQuery query, Supplier<R> empty, SegmentScan<R> scan)
+            throws IOException {
+        Filter filter = new Filter(query);
+        try {
+            SegmentIndex index = SegmentIndex.open(segment);
+            if (index != null && !filter.mayMatch(index)) {
+                return empty.get();
+            }
+            int[] ranges = index != null ? filter.ranges(index) : null;
+            SegmentCursor cursor;
+            if (ranges != null && JournalFormat.isCompressed(segment)) {
+                cursor = SegmentCursor.of(segment, CompressedSegment.open(segment).decompress(ranges));
+            } else {
+                cursor = SegmentCursor.open(segment);
+                if (ranges != null) {
+                    cursor.select(ranges);
+                }
+            }
+            if (index != null) {
+                cursor.preload(index.dictionary());
+            }
+            return scan.scan(cursor, filter);
+        } catch (NoSuchFileException e) {
+            // Compacted or deleted by retention since the directory was listed
+            if (JournalFormat.isCompressed(segment)) {
+                return empty.get();
+            }
+            return scanSegment(segment.resolveSibling(
+                JournalFormat.compressedFileName(JournalFormat.sequenceOf(segment))), query, empty, scan);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SegmentScan<R> {
+        R scan(SegmentCursor cursor, Filter filter);
+    }
+
+    /**
+     * Splits the segment range in halves down to single segments.
+     */
+    private static final class ScanTask<R> extends RecursiveTask<R> {
+
+        private final List<Path> segments;
+        private final int from;
+        private final int to;
+        private final JournalQuery query;
+        private final Supplier<R> empty;
+        private final SegmentScan<R> scan;
+        private final BinaryOperator<R> combiner;
+
+        ScanTask(List<Path> segments, int from, int to, JournalQuery query,
+                 Supplier<R> empty, SegmentScan<R> scan, BinaryOperator<R> combiner) {
+            this.segments = segments;
+            this.from = from;
+            this.to = to;
+            this.query = query;
+            this.empty = empty;
+            this.scan = scan;
+            this.combiner = combiner;
+        }
+
+        @Override
+        protected R compute() {
+            if (to - from == 1) {
+                try {
+                    return scanSegment(segments.get(from), query, empty, scan);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            int middle = (from + to) >>> 1;
+            ScanTask<R> right = new ScanTask<>(segments, middle, to, query, empty, scan, combiner);
+            right.fork();
+            R left = new ScanTask<>(segments, from, middle, query, empty, scan, combiner).compute();
+            return combiner.apply(left, right.join());
+        }
+    }
+
+    /**
+     * Evaluates a query against the current event of a cursor, in place, or against
+     * the index of a segment.
+     *
+     * <p>String criteria are resolved to the segment's dictionary ids whenever the
+     * dictionary grew, so matching an event compares integers only.
+     */
+    static final class Filter {
+
+        private final JournalQuery query;
+        private final long fromMicros;
+        private final long toMicros;
+        private final int minimumLevel;
+        private final String[] contextKeys;
+        private final byte[][] contextBytes;
+        private final long[] contextHashes;
+        private final int[] contextKeyIds;
+        private int resolvedSize = -1;
+        private boolean[] eventTypeIds;
+
+        Filter(JournalQuery query) {
+            this.query = query;
+            this.fromMicros = query.from() != null ? JournalFormat.toMicros(query.from()) : Long.MIN_VALUE;
+            this.toMicros = query.to() != null ? JournalFormat.toMicros(query.to()) : Long.MAX_VALUE;
+            this.minimumLevel = query.minimumLevel() != null ? query.minimumLevel().ordinal() : 0;
+            int fields = query.context().size();
+            this.contextKeys = new String[fields];
+            this.contextBytes = new byte[fields][];
+            this.contextHashes = new long[fields];
+            this.contextKeyIds = new int[fields];
+            int field = 0;
+            for (Map.Entry<String, String> entry : query.context().entrySet()) {
+                contextKeys[field] = entry.getKey();
+                contextBytes[field] = entry.getValue().getBytes(StandardCharsets.UTF_8);
+                contextHashes[field] = BloomFilter.hash(entry.getKey(), entry.getValue());
+                field++;
+            }
+        }
+
+        /**
+         * Whether any event of an indexed segment may match.
+         */
+        boolean mayMatch(SegmentIndex index) {
+            if (!index.overlaps(fromMicros, toMicros) || !index.hasLevelAtLeast(minimumLevel)) {
+                return false;
+            }
+            for (long hash : contextHashes) {
+                if (!index.mightContain(hash)) {
+                    return false;
+                }
+            }
+            return query.eventTypes().isEmpty() || index.dictionary().stream().anyMatch(query.eventTypes()::contains);
+        }
+
+        /**
+         * Offset ranges of an indexed segment to scan, or null for the whole segment.
+         */
+        int[] ranges(SegmentIndex index) {
+            if (fromMicros == Long.MIN_VALUE && toMicros == Long.MAX_VALUE && contextHashes.length == 0) {
+                return null;
+            }
+            return index.ranges(fromMicros, toMicros, contextHashes);
+        }
+
+        boolean matches(SegmentCursor cursor) {
+            long timestamp = cursor.timestampMicros();
+            if (timestamp < fromMicros || timestamp >= toMicros || cursor.levelOrdinal() < minimumLevel) {
+                return false;
+            }
+            if (cursor.dictionarySize() != resolvedSize) {
+                resolve(cursor);
+            }
+            if (eventTypeIds != null) {
+                int id = cursor.eventTypeId();
+                if (id < 0 || id >= eventTypeIds.length || !eventTypeIds[id]) {
+                    return false;
+                }
+            }
+            for (int field = 0; field < contextKeyIds.length; field++) {
+                if (contextKeyIds[field] == JournalFormat.NO_ID
+                        || !cursor.hasContextValue(contextKeyIds[field], contextBytes[field])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void resolve(SegmentCursor cursor) {
+            resolvedSize = cursor.dictionarySize();
+            if (!query.eventTypes().isEmpty()) {
+                eventTypeIds = new boolean[0];
+                for (String eventType : query.eventTypes()) {
+                    int id = cursor.idOf(eventType);
+                    if (id >= eventTypeIds.length) {
+                        eventTypeIds = Arrays.copyOf(eventTypeIds, id + 1);
+                    }
+                    if (id >= 0) {
+                        eventTypeIds[id] = true;
+                    }
+                }
+            }
+            for (int field = 0; field < contextKeys.length; field++) {
+                contextKeyIds[field] = cursor.idOf(contextKeys[field]);
+            }
+        }
+    }
+}
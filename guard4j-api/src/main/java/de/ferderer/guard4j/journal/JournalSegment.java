@@ -0,0 +1,212 @@
+package de.ferderer.guard4j.journal;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A journal segment file mapped for writing.
+ *
+ * <p>Writers reserve space with a single atomic add on the append position and
+ * then fill their record without further coordination; the record becomes visible
+ * to readers when its commit marker is written with release semantics. Once a
+ * reservation does not fit, the segment is full and the writer rolls to a new one.
+ * The first reservation that does not fit also marks the end of the records, so
+ * that the segment can be indexed exactly once it is sealed.
+ *
+ * <p>Each segment keeps its own string dictionary. The first writer to use a string
+ * in a segment appends its definition before the referencing record.
+ *
+ * @since 2.2.0
+ */
+final class JournalSegment {
+
+    private static final VarHandle POSITION;
+    private static final VarHandle INT_VIEW = MethodHandles.byteBufferViewVarHandle(int[].class, JournalFormat.ORDER);
+
+    static {
+        try {
+            POSITION = MethodHandles.lookup().findVarHandle(JournalSegment.class, "position", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Path file;
+    private final long sequence;
+    private final long deadlineMicros;
+    private final int capacity;
+    private final MappedByteBuffer buffer;
+    private final ConcurrentHashMap<String, Integer> dictionary = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    @SuppressWarnings("unused") // accessed through POSITION
+    private volatile long position = JournalFormat.HEADER_SIZE;
+    private volatile int end = -1;
+
+    private JournalSegment(Path file, long sequence, long deadlineMicros, int capacity, MappedByteBuffer buffer) {
+        this.file = file;
+        this.sequence = sequence;
+        this.deadlineMicros = deadlineMicros;
+        this.capacity = capacity;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Create and map a new segment file.
+     *
+     * @param file the file to create, must not exist
+     * @param sequence the segment sequence number
+     * @param capacity the file size in bytes
+     * @param createdMicros the creation time, epoch microseconds
+     * @param deadlineMicros the time after which the segment is rolled, epoch microseconds
+     * @return the mapped segment
+     * @throws IOException if the file cannot be created or mapped
+     */
+    static JournalSegment create(Path file, long sequence, int capacity, long createdMicros, long deadlineMicros)
+            throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        }
+        buffer.order(JournalFormat.ORDER);
+        buffer.putInt(0, JournalFormat.MAGIC);
+        buffer.putInt(4, JournalFormat.VERSION);
+        buffer.putLong(JournalFormat.SEQUENCE_OFFSET, sequence);
+        buffer.putLong(JournalFormat.CREATED_OFFSET, createdMicros);
+        buffer.putInt(JournalFormat.SIZE_OFFSET, capacity);
+        buffer.putInt(JournalFormat.FLAGS_OFFSET, 0);
+        return new JournalSegment(file, sequence, deadlineMicros, capacity, buffer);
+    }
+
+    Path file() {
+        return file;
+    }
+
+    long sequence() {
+        return sequence;
+    }
+
+    /**
+     * Whether the segment is due to be rolled at the given time.
+     */
+    boolean isExpired(long timestampMicros) {
+        return timestampMicros >= deadlineMicros;
+    }
+
+    /**
+     * Stop accepting records; reservations of other writers that are still in
+     * flight fail and make them roll to the next segment.
+     */
+    void seal() {
+        // A reservation that can never fit, which also marks the end unless already full
+        reserve(capacity + 1);
+    }
+
+    /**
+     * End offset of the records once the segment is full or sealed.
+     *
+     * <p>The end is set by the writer whose reservation failed first, which may
+     * still be in progress when the segment is sealed by another thread.
+     *
+     * @param timeoutNanos how long to wait for the end to be set
+     * @return the end offset, or -1 if it was not set in time
+     */
+    int awaitEnd(long timeoutNanos) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        int offset;
+        while ((offset = end) < 0 && System.nanoTime() - deadline < 0) {
+            Thread.onSpinWait();
+        }
+        return offset;
+    }
+
+    /**
+     * Reserve space for a record and write its length.
+     *
+     * @param length the record length, already aligned
+     * @return the record offset, or -1 if the segment is full
+     */
+    int reserve(int length) {
+        long offset = (long) POSITION.getAndAdd(this, (long) length);
+        if (offset + length > capacity) {
+            // The position now exceeds the capacity, so every later reservation fails too
+            if (offset <= capacity) {
+                // Only the first failing reservation starts within the segment
+                end = (int) offset;
+            }
+            return -1;
+        }
+        buffer.putInt((int) offset, length);
+        return (int) offset;
+    }
+
+    /**
+     * Publish a completely written record.
+     */
+    void commit(int offset, int type) {
+        INT_VIEW.setRelease(buffer, offset + 4, JournalFormat.COMMITTED | type);
+    }
+
+    /**
+     * Get the dictionary id of a string in this segment, appending its definition on first use.
+     *
+     * @return the id, or -1 if the segment is full
+     */
+    int idOf(String value) {
+        Integer id = dictionary.get(value);
+        if (id != null) {
+            return id;
+        }
+        id = dictionary.computeIfAbsent(value, this::define);
+        return id != null ? id : JournalFormat.NO_ID;
+    }
+
+    private Integer define(String value) {
+        byte[] bytes = utf8(value);
+        int offset = reserve(JournalFormat.align(JournalFormat.DICTIONARY_FIXED_SIZE + bytes.length));
+        if (offset < 0) {
+            return null;
+        }
+        int id = nextId.getAndIncrement();
+        buffer.putInt(offset + JournalFormat.RECORD_HEADER_SIZE, id);
+        buffer.putShort(offset + JournalFormat.RECORD_HEADER_SIZE + 4, (short) bytes.length);
+        buffer.put(offset + JournalFormat.DICTIONARY_FIXED_SIZE, bytes);
+        commit(offset, JournalFormat.DICTIONARY);
+        return id;
+    }
+
+    /**
+     * The mapped segment, for writing records at reserved offsets.
+     */
+    MappedByteBuffer buffer() {
+        return buffer;
+    }
+
+    /**
+     * Write all changes to the storage device.
+     */
+    void force() {
+        buffer.force();
+    }
+
+    /**
+     * Encode a string as UTF-8, truncated to the maximum string length of the format.
+     */
+    static byte[] utf8(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= JournalFormat.MAX_STRING_LENGTH) {
+            return bytes;
+        }
+        return Arrays.copyOf(bytes, JournalFormat.MAX_STRING_LENGTH);
+    }
+}
@@ -0,0 +1,151 @@
+package de.ferderer.guard4j.journal;
+
+/**
+ * Count, sum, extremes and approximate percentiles of event metrics.
+ *
+ * <p>Values are counted in a log-linear histogram: small magnitudes exactly, larger
+ * ones in buckets of at most 1/{@value #SUB_BUCKETS} of their magnitude. Memory is
+ * therefore constant no matter how many values are added, and histograms of
+ * different segments can be merged. Percentiles are accurate to about 3%.
+ *
+ * <p>Instances are not thread-safe.
+ *
+ * @since 2.2.0
+ */
+public final class MetricStatistics {
+
+    private static final int SUB_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    // Magnitudes up to 2^31, for Integer.MIN_VALUE
+    private static final int BUCKETS = (32 - SUB_BITS + 1) << SUB_BITS;
+
+    private final long[] positive = new long[BUCKETS];
+    private final long[] negative = new long[BUCKETS];
+    private long count;
+    private long sum;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+
+    /**
+     * Add a metric value.
+     *
+     * @param value the value
+     */
+    public void add(int value) {
+        if (value >= 0) {
+            positive[bucket(value)]++;
+        } else {
+            negative[bucket(-(long) value)]++;
+        }
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Add all values of another instance.
+     *
+     * @param other the statistics to merge into this one
+     * @return this instance
+     */
+    public MetricStatistics merge(MetricStatistics other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            positive[i] += other.positive[i];
+            negative[i] += other.negative[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long sum() {
+        return sum;
+    }
+
+    /**
+     * @return the smallest value, or 0 if none was added
+     */
+    public int min() {
+        return count > 0 ? min : 0;
+    }
+
+    /**
+     * @return the largest value, or 0 if none was added
+     */
+    public int max() {
+        return count > 0 ? max : 0;
+    }
+
+    /**
+     * @return the arithmetic mean, or NaN if no value was added
+     */
+    public double mean() {
+        return count > 0 ? (double) sum / count : Double.NaN;
+    }
+
+    /**
+     * Approximate the value below which the given percentage of values fall.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the estimated value, or NaN if no value was added
+     */
+    public double percentile(double percentile) {
+        if (percentile < 0 || percentile > 100 || Double.isNaN(percentile)) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        if (rank >= count) {
+            return max;
+        }
+        long seen = 0;
+        for (int i = BUCKETS - 1; i >= 0; i--) {
+            seen += negative[i];
+            if (seen >= rank) {
+                return clamp(-midpoint(i));
+            }
+        }
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += positive[i];
+            if (seen >= rank) {
+                return clamp(midpoint(i));
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "MetricStatistics[count=" + count + ", sum=" + sum + ", min=" + min() + ", max=" + max() + "]";
+    }
+
+    private double clamp(double value) {
+        return Math.min(max, Math.max(min, value));
+    }
+
+    private static int bucket(long magnitude) {
+        if (magnitude < SUB_BUCKETS) {
+            return (int) magnitude;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(magnitude) - SUB_BITS;
+        return ((shift + 1) << SUB_BITS) + (int) (magnitude >>> shift) - SUB_BUCKETS;
+    }
+
+    private static double midpoint(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket >>> SUB_BITS) - 1;
+        long lower = (long) ((bucket & (SUB_BUCKETS - 1)) + SUB_BUCKETS) << shift;
+        return lower + ((1L << shift) - 1) / 2.0;
+    }
+}
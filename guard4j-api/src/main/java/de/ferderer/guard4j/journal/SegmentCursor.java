@@ -0,0 +1,368 @@
+package de.ferderer.guard4j.journal;
+
+import de.ferderer.guard4j.classification.Level;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Forward-only cursor over the committed events of one mapped segment file.
+ *
+ * <p>Fields of the current event are read in place from the mapping, so events
+ * can be filtered and aggregated without copying or decoding them. Dictionary
+ * records are consumed while advancing; {@link #dictionarySize()} changes when
+ * a new string was defined.
+ *
+ * <p>With a {@link SegmentIndex}, the dictionary can be {@linkplain #preload preloaded}
+ * and the cursor {@linkplain #select restricted} to some blocks of the segment.
+ *
+ * @since 2.2.0
+ */
+final class SegmentCursor {
+
+    private static final Level[] LEVELS = Level.values();
+    private static final VarHandle INT_VIEW = MethodHandles.byteBufferViewVarHandle(int[].class, JournalFormat.ORDER);
+
+    private final Path file;
+    private final ByteBuffer buffer;
+    private final int limit;
+    private final boolean awaitCommits;
+    private final long commitDeadline;
+    private String[] dictionary = new String[16];
+    private int dictionarySize;
+    private int offset = JournalFormat.HEADER_SIZE;
+    private int current = -1;
+    private int[] ranges;
+    private int range;
+    private boolean complete = true;
+
+    private SegmentCursor(Path file, ByteBuffer buffer, int limit, boolean awaitCommits, long commitDeadline) {
+        this.file = file;
+        this.buffer = buffer;
+        this.limit = limit;
+        this.awaitCommits = awaitCommits;
+        this.commitDeadline = commitDeadline;
+    }
+
+    /**
+     * Map a segment file for reading; a compressed segment is decompressed as a whole.
+     *
+     * @throws IOException if the file cannot be mapped or is not a journal segment
+     */
+    static SegmentCursor open(Path file) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        buffer.order(JournalFormat.ORDER);
+        if (CompressedSegment.isCompressed(buffer)) {
+            buffer = CompressedSegment.open(file).decompressAll();
+        }
+        if (buffer.capacity() < JournalFormat.HEADER_SIZE || buffer.getInt(0) != JournalFormat.MAGIC) {
+            throw new IOException("Not a journal segment: " + file);
+        }
+        if (buffer.getInt(4) != JournalFormat.VERSION) {
+            throw new IOException("Unsupported journal version " + buffer.getInt(4) + " in " + file);
+        }
+        return new SegmentCursor(file, buffer, buffer.capacity(), false, 0);
+    }
+
+    /**
+     * Read records decompressed from some blocks of a {@link CompressedSegment}.
+     * Offsets reported by the cursor are relative to the first of these records.
+     *
+     * @param file the compressed segment file
+     * @param records whole records, from position zero to the capacity
+     */
+    static SegmentCursor of(Path file, ByteBuffer records) {
+        SegmentCursor cursor = new SegmentCursor(file, records, records.capacity(), false, 0);
+        cursor.offset = 0;
+        return cursor;
+    }
+
+    /**
+     * Read a segment sealed by this process, waiting for records that are still
+     * being written by other threads.
+     *
+     * @param segment the sealed segment
+     * @param timeoutNanos how long to wait for the end of the records and pending commits
+     * @return the cursor; not {@link #isComplete() complete} if the wait timed out
+     */
+    static SegmentCursor sealed(JournalSegment segment, long timeoutNanos) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        int end = segment.awaitEnd(timeoutNanos);
+        SegmentCursor cursor = new SegmentCursor(segment.file(), segment.buffer(), Math.max(end, 0), true, deadline);
+        cursor.complete = end >= 0;
+        return cursor;
+    }
+
+    Path file() {
+        return file;
+    }
+
+    long sequence() {
+        return buffer.getLong(JournalFormat.SEQUENCE_OFFSET);
+    }
+
+    long createdMicros() {
+        return buffer.getLong(JournalFormat.CREATED_OFFSET);
+    }
+
+    /**
+     * Whether every record up to the end of the segment was read; false if a
+     * sealed segment still had records in flight when the wait timed out.
+     */
+    boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Define the whole segment dictionary up front, so that reading can start at
+     * any record.
+     */
+    void preload(List<String> strings) {
+        if (strings.size() > dictionary.length) {
+            dictionary = Arrays.copyOf(dictionary, strings.size());
+        }
+        for (int id = 0; id < strings.size(); id++) {
+            dictionary[id] = strings.get(id);
+        }
+        dictionarySize = Math.max(dictionarySize, strings.size());
+    }
+
+    /**
+     * Restrict reading to the given ranges of record offsets.
+     *
+     * @param ranges ascending, non-overlapping pairs of start (inclusive) and end
+     *     (exclusive) offsets, each start being the offset of a record
+     */
+    void select(int[] ranges) {
+        this.ranges = ranges;
+        this.range = 0;
+        if (ranges.length > 0) {
+            offset = Math.max(offset, ranges[0]);
+        } else {
+            offset = limit;
+        }
+    }
+
+    /**
+     * Advance to the next committed event, skipping space that was reserved but
+     * never written.
+     *
+     * @return false at the end of the written part of the segment
+     */
+    boolean next() {
+        while (offset <= limit - JournalFormat.RECORD_HEADER_SIZE) {
+            if (ranges != null && offset >= ranges[range + 1]) {
+                range += 2;
+                if (range >= ranges.length) {
+                    break;
+                }
+                offset = Math.max(offset, ranges[range]);
+                continue;
+            }
+            int record = offset;
+            int length = read(record);
+            if (!JournalFormat.isRecordLength(length, record, limit)) {
+                offset = JournalFormat.skipUnwritten(buffer, record,
+                    ranges != null ? Math.min(limit, ranges[range + 1]) : limit);
+                continue;
+            }
+            offset += length;
+            int marker = read(record + 4);
+            if (marker == (JournalFormat.COMMITTED | JournalFormat.EVENT)) {
+                current = record;
+                return true;
+            }
+            if (marker == (JournalFormat.COMMITTED | JournalFormat.DICTIONARY)) {
+                define(record);
+            }
+        }
+        offset = limit;
+        current = -1;
+        return false;
+    }
+
+    /**
+     * Offset of the current event in the segment.
+     */
+    int offset() {
+        return current;
+    }
+
+    long timestampMicros() {
+        return buffer.getLong(current + JournalFormat.RECORD_HEADER_SIZE);
+    }
+
+    long durationNanos() {
+        return buffer.getLong(current + JournalFormat.RECORD_HEADER_SIZE + 8);
+    }
+
+    int eventTypeId() {
+        return buffer.getInt(current + JournalFormat.RECORD_HEADER_SIZE + 16);
+    }
+
+    int loggerNameId() {
+        return buffer.getInt(current + JournalFormat.RECORD_HEADER_SIZE + 20);
+    }
+
+    int metric() {
+        return buffer.getInt(current + JournalFormat.RECORD_HEADER_SIZE + 24);
+    }
+
+    int levelOrdinal() {
+        return buffer.get(current + JournalFormat.RECORD_HEADER_SIZE + 28);
+    }
+
+    int fieldCount() {
+        return Byte.toUnsignedInt(buffer.get(current + JournalFormat.RECORD_HEADER_SIZE + 29));
+    }
+
+    /**
+     * Offset of the first context field of the current event; fields are laid
+     * out as described in {@link JournalFormat}.
+     */
+    int contextOffset() {
+        return current + JournalFormat.EVENT_FIXED_SIZE;
+    }
+
+    /**
+     * The mapped segment, for reading context fields in place.
+     */
+    ByteBuffer buffer() {
+        return buffer;
+    }
+
+    /**
+     * Number of strings defined so far; grows while advancing.
+     */
+    int dictionarySize() {
+        return dictionarySize;
+    }
+
+    /**
+     * The string defined with the given id, or null if it is not defined (yet).
+     */
+    String string(int id) {
+        return id >= 0 && id < dictionary.length ? dictionary[id] : null;
+    }
+
+    /**
+     * Find the id of a defined string.
+     *
+     * @return the id, or -1 if the string is not defined (yet)
+     */
+    int idOf(String value) {
+        for (int id = 0; id < dictionary.length; id++) {
+            if (value.equals(dictionary[id])) {
+                return id;
+            }
+        }
+        return JournalFormat.NO_ID;
+    }
+
+    /**
+     * Whether the current event has a context field with the given key id and
+     * UTF-8 encoded value, compared in place.
+     */
+    boolean hasContextValue(int keyId, byte[] value) {
+        int position = current + JournalFormat.EVENT_FIXED_SIZE;
+        for (int field = fieldCount(); field > 0; field--) {
+            int valueLength = Short.toUnsignedInt(buffer.getShort(position + 4));
+            if (buffer.getInt(position) == keyId && valueLength == value.length) {
+                int start = position + JournalFormat.CONTEXT_FIELD_FIXED_SIZE;
+                int i = 0;
+                while (i < valueLength && buffer.get(start + i) == value[i]) {
+                    i++;
+                }
+                if (i == valueLength) {
+                    return true;
+                }
+            }
+            position += JournalFormat.CONTEXT_FIELD_FIXED_SIZE + valueLength;
+        }
+        return false;
+    }
+
+    /**
+     * Decode the current event.
+     */
+    JournalRecord decode() {
+        int fieldCount = fieldCount();
+        Map<String, String> context = Map.of();
+        if (fieldCount > 0) {
+            Map<String, String> fields = new LinkedHashMap<>();
+            int position = current + JournalFormat.EVENT_FIXED_SIZE;
+            for (int field = 0; field < fieldCount; field++) {
+                int valueLength = Short.toUnsignedInt(buffer.getShort(position + 4));
+                fields.put(string(buffer.getInt(position)),
+                    utf8(position + JournalFormat.CONTEXT_FIELD_FIXED_SIZE, valueLength));
+                position += JournalFormat.CONTEXT_FIELD_FIXED_SIZE + valueLength;
+            }
+            context = fields;
+        }
+
+        int level = levelOrdinal();
+        int loggerNameId = loggerNameId();
+        return new JournalRecord(
+            JournalFormat.toInstant(timestampMicros()),
+            level >= 0 && level < LEVELS.length ? LEVELS[level] : null,
+            loggerNameId != JournalFormat.NO_ID ? string(loggerNameId) : null,
+            string(eventTypeId()),
+            metric(),
+            durationNanos(),
+            context
+        );
+    }
+
+    private void define(int record) {
+        int id = buffer.getInt(record + JournalFormat.RECORD_HEADER_SIZE);
+        int length = Short.toUnsignedInt(buffer.getShort(record + JournalFormat.RECORD_HEADER_SIZE + 4));
+        if (id < 0) {
+            return;
+        }
+        if (id >= dictionary.length) {
+            dictionary = Arrays.copyOf(dictionary, Math.max(id + 1, dictionary.length * 2));
+        }
+        if (dictionary[id] == null) {
+            dictionary[id] = utf8(record + JournalFormat.DICTIONARY_FIXED_SIZE, length);
+            dictionarySize++;
+        }
+    }
+
+    /**
+     * Read a record length or marker. Of a sealed segment, every record up to the
+     * end is eventually committed, so a zero is waited for until the deadline.
+     */
+    private int read(int position) {
+        if (!awaitCommits) {
+            return buffer.getInt(position);
+        }
+        int value;
+        while ((value = (int) INT_VIEW.getAcquire(buffer, position)) == 0) {
+            if (System.nanoTime() - commitDeadline >= 0) {
+                complete = false;
+                break;
+            }
+            LockSupport.parkNanos(10_000);
+        }
+        return value;
+    }
+
+    private String utf8(int position, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(position, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,378 @@
+package de.ferderer.guard4j.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sidecar index of a sealed journal segment, stored next to it with the extension
+ * {@code .g4i}, so that {@link JournalScanner} can skip segments and blocks that
+ * cannot match a query.
+ *
+ * <p>The index holds the range of event timestamps and levels, a {@link BloomFilter}
+ * over all context fields, the segment dictionary, and a sparse block index: the
+ * segment is divided into blocks of about {@value #BLOCK_SIZE} bytes, and for each
+ * block the offset of its first event, the range of its event timestamps and a
+ * bloom filter over its context fields are stored. Event timestamps need not be
+ * ordered within a segment. All values are little endian:
+ * <pre>
+ *  0  int   magic ("G4JI")
+ *  4  int   format version
+ *  8  long  segment sequence number
+ * 16  long  segment creation time, epoch microseconds
+ * 24  long  event count
+ * 32  long  earliest event timestamp, epoch microseconds
+ * 40  long  latest event timestamp, epoch microseconds
+ * 48  int   bit set of event level ordinals
+ * 52  int   block count
+ * 56  int   bloom filter hash count
+ * 60  int   bloom filter word count
+ * 64  int   dictionary size
+ * 68  int   block bloom filter word count, all blocks
+ * 72        bloom filter words, long each
+ *           blocks, each: int offset, long earliest, long latest timestamp,
+ *                         int index of first bloom filter word, int word count
+ *           block bloom filter words
+ *           dictionary strings in id order, each: ushort UTF-8 length, UTF-8
+ * </pre>
+ *
+ * <p>The index is written to a temporary file and moved into place, so a present
+ * index is always complete. Readers treat a missing or invalid index as absent and
+ * scan the segment.
+ *
+ * @since 2.2.0
+ */
+final class SegmentIndex {
+
+    static final int MAGIC = 0x494A3447;
+    static final int VERSION = 1;
+    static final int BLOCK_SIZE = 64 << 10;
+
+    private static final String FILE_SUFFIX = ".g4i";
+    private static final int HEADER_SIZE = 72;
+    private static final int BLOCK_ENTRY_SIZE = 28;
+
+    private final ByteBuffer buffer;
+    private final long eventCount;
+    private final long minTimestampMicros;
+    private final long maxTimestampMicros;
+    private final int levels;
+    private final int blockCount;
+    private final int hashes;
+    private final int words;
+    private final int dictionarySize;
+    private final int blocksOffset;
+    private final int blockWordsOffset;
+    private final int dictionaryOffset;
+
+    private SegmentIndex(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.eventCount = buffer.getLong(24);
+        this.minTimestampMicros = buffer.getLong(32);
+        this.maxTimestampMicros = buffer.getLong(40);
+        this.levels = buffer.getInt(48);
+        this.blockCount = buffer.getInt(52);
+        this.hashes = buffer.getInt(56);
+        this.words = buffer.getInt(60);
+        this.dictionarySize = buffer.getInt(64);
+        this.blocksOffset = HEADER_SIZE + words * Long.BYTES;
+        this.blockWordsOffset = blocksOffset + blockCount * BLOCK_ENTRY_SIZE;
+        this.dictionaryOffset = blockWordsOffset + buffer.getInt(68) * Long.BYTES;
+    }
+
+    /**
+     * Path of the index of a segment file.
+     */
+    static Path fileOf(Path segment) {
+        String name = segment.getFileName().toString();
+        int extension = name.lastIndexOf('.');
+        return segment.resolveSibling((extension > 0 ? name.substring(0, extension) : name) + FILE_SUFFIX);
+    }
+
+    /**
+     * Map the index of a segment.
+     *
+     * @param segment the segment file
+     * @return the index, or null if the segment has no valid index
+     * @throws IOException if the index exists but cannot be read
+     */
+    static SegmentIndex open(Path segment) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(fileOf(segment), StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+                return null;
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        buffer.order(JournalFormat.ORDER);
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+                || buffer.getLong(8) != JournalFormat.sequenceOf(segment)) {
+            return null;
+        }
+        long words = buffer.getInt(60);
+        long blocks = buffer.getInt(52);
+        long blockWords = buffer.getInt(68);
+        if (words < 0 || blocks < 0 || blockWords < 0 || buffer.getInt(64) < 0
+                || HEADER_SIZE + (words + blockWords) * Long.BYTES + blocks * BLOCK_ENTRY_SIZE > buffer.capacity()) {
+            return null;
+        }
+        return new SegmentIndex(buffer);
+    }
+
+    long eventCount() {
+        return eventCount;
+    }
+
+    long minTimestampMicros() {
+        return minTimestampMicros;
+    }
+
+    long maxTimestampMicros() {
+        return maxTimestampMicros;
+    }
+
+    /**
+     * Offsets of the first event of each block, ascending.
+     */
+    int[] blockOffsets() {
+        int[] offsets = new int[blockCount];
+        for (int block = 0; block < blockCount; block++) {
+            offsets[block] = buffer.getInt(blocksOffset + block * BLOCK_ENTRY_SIZE);
+        }
+        return offsets;
+    }
+
+    /**
+     * Whether the segment may contain events in the given time range.
+     *
+     * @param fromMicros earliest timestamp, inclusive
+     * @param toMicros latest timestamp, exclusive
+     */
+    boolean overlaps(long fromMicros, long toMicros) {
+        return eventCount > 0 && maxTimestampMicros >= fromMicros && minTimestampMicros < toMicros;
+    }
+
+    /**
+     * Whether the segment contains events at or above the given level ordinal.
+     */
+    boolean hasLevelAtLeast(int ordinal) {
+        return levels >>> ordinal != 0;
+    }
+
+    /**
+     * Whether the segment may contain an event with the given context field.
+     *
+     * @return false if no event of the segment has the field
+     */
+    boolean mightContain(String key, String value) {
+        return mightContain(BloomFilter.hash(key, value));
+    }
+
+    /**
+     * Whether the segment may contain an event with a context field of the given
+     * {@linkplain BloomFilter#hash(String, String) hash}.
+     */
+    boolean mightContain(long hash) {
+        return BloomFilter.mightContain(buffer, HEADER_SIZE, words, hashes, hash);
+    }
+
+    /**
+     * Decode the segment dictionary, in id order.
+     */
+    List<String> dictionary() {
+        List<String> strings = new ArrayList<>(dictionarySize);
+        int position = dictionaryOffset;
+        for (int id = 0; id < dictionarySize; id++) {
+            int length = Short.toUnsignedInt(buffer.getShort(position));
+            byte[] bytes = new byte[length];
+            buffer.get(position + 2, bytes);
+            strings.add(new String(bytes, StandardCharsets.UTF_8));
+            position += 2 + length;
+        }
+        return strings;
+    }
+
+    /**
+     * Offset ranges of the blocks that may contain events in the given time range
+     * and with all given context fields, for {@link SegmentCursor#select}.
+     *
+     * @param fromMicros earliest timestamp, inclusive
+     * @param toMicros latest timestamp, exclusive
+     * @param contextHashes {@linkplain BloomFilter#hash(String, String) hashes} of the context fields
+     * @return ascending pairs of start and end offsets, adjacent blocks merged
+     */
+    int[] ranges(long fromMicros, long toMicros, long... contextHashes) {
+        int[] ranges = new int[2 * blockCount];
+        int size = 0;
+        for (int block = 0; block < blockCount; block++) {
+            int entry = blocksOffset + block * BLOCK_ENTRY_SIZE;
+            if (buffer.getLong(entry + 12) < fromMicros || buffer.getLong(entry + 4) >= toMicros
+                    || !blockMightContain(entry, contextHashes)) {
+                continue;
+            }
+            int start = buffer.getInt(entry);
+            int end = block + 1 < blockCount ? buffer.getInt(entry + BLOCK_ENTRY_SIZE) : Integer.MAX_VALUE;
+            if (size > 0 && ranges[size - 1] == start) {
+                ranges[size - 1] = end;
+            } else {
+                ranges[size++] = start;
+                ranges[size++] = end;
+            }
+        }
+        return Arrays.copyOf(ranges, size);
+    }
+
+    private boolean blockMightContain(int entry, long[] contextHashes) {
+        int firstWord = buffer.getInt(entry + 20);
+        int blockWords = buffer.getInt(entry + 24);
+        for (long hash : contextHashes) {
+            if (!BloomFilter.mightContain(buffer, blockWordsOffset + firstWord * Long.BYTES, blockWords, hashes, hash)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Build the index of a segment and write it next to the segment file.
+     *
+     * @param cursor a cursor positioned before the first record of the segment
+     * @return true if the index was written, false if the cursor could not read the
+     *     segment {@linkplain SegmentCursor#isComplete() completely}
+     * @throws IOException if the index cannot be written
+     */
+    static boolean write(SegmentCursor cursor) throws IOException {
+        long eventCount = 0;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        int levels = 0;
+        int[] blockOffsets = new int[16];
+        int[] blockHashStarts = new int[16];
+        long[] blockTimes = new long[32];
+        int blockCount = 0;
+        long[] hashes = new long[1024];
+        int hashCount = 0;
+        long[] keyStates = new long[16];
+        boolean[] keyStateSet = new boolean[16];
+
+        while (cursor.next()) {
+            long timestamp = cursor.timestampMicros();
+            eventCount++;
+            min = Math.min(min, timestamp);
+            max = Math.max(max, timestamp);
+            levels |= 1 << cursor.levelOrdinal();
+
+            if (blockCount == 0 || cursor.offset() - blockOffsets[blockCount - 1] >= BLOCK_SIZE) {
+                if (blockCount == blockOffsets.length) {
+                    blockOffsets = Arrays.copyOf(blockOffsets, blockCount * 2);
+                    blockHashStarts = Arrays.copyOf(blockHashStarts, blockCount * 2);
+                    blockTimes = Arrays.copyOf(blockTimes, blockCount * 4);
+                }
+                blockOffsets[blockCount] = cursor.offset();
+                blockHashStarts[blockCount] = hashCount;
+                blockTimes[2 * blockCount] = timestamp;
+                blockTimes[2 * blockCount + 1] = timestamp;
+                blockCount++;
+            } else {
+                int block = 2 * (blockCount - 1);
+                blockTimes[block] = Math.min(blockTimes[block], timestamp);
+                blockTimes[block + 1] = Math.max(blockTimes[block + 1], timestamp);
+            }
+
+            ByteBuffer segment = cursor.buffer();
+            int position = cursor.contextOffset();
+            for (int field = cursor.fieldCount(); field > 0; field--) {
+                int keyId = segment.getInt(position);
+                int valueLength = Short.toUnsignedInt(segment.getShort(position + 4));
+                if (keyId >= keyStates.length) {
+                    keyStates = Arrays.copyOf(keyStates, Math.max(keyId + 1, keyStates.length * 2));
+                    keyStateSet = Arrays.copyOf(keyStateSet, keyStates.length);
+                }
+                if (!keyStateSet[keyId]) {
+                    String key = cursor.string(keyId);
+                    keyStates[keyId] = BloomFilter.keyState(key != null ? key : "");
+                    keyStateSet[keyId] = true;
+                }
+                if (hashCount == hashes.length) {
+                    hashes = Arrays.copyOf(hashes, hashCount * 2);
+                }
+                hashes[hashCount++] = BloomFilter.hash(keyStates[keyId], segment,
+                    position + JournalFormat.CONTEXT_FIELD_FIXED_SIZE, valueLength);
+                position += JournalFormat.CONTEXT_FIELD_FIXED_SIZE + valueLength;
+            }
+        }
+        if (!cursor.isComplete()) {
+            return false;
+        }
+
+        // Each block filter sorts its own part of the hashes, the segment filter all of them
+        long[][] blockBlooms = new long[blockCount][];
+        int blockWords = 0;
+        for (int block = 0; block < blockCount; block++) {
+            int end = block + 1 < blockCount ? blockHashStarts[block + 1] : hashCount;
+            blockBlooms[block] = BloomFilter.build(hashes, blockHashStarts[block], end);
+            blockWords += blockBlooms[block].length;
+        }
+        long[] bloom = BloomFilter.build(hashes, 0, hashCount);
+        byte[][] dictionary = new byte[cursor.dictionarySize()][];
+        int dictionaryLength = 0;
+        for (int id = 0; id < dictionary.length; id++) {
+            String value = cursor.string(id);
+            dictionary[id] = JournalSegment.utf8(value != null ? value : "");
+            dictionaryLength += 2 + dictionary[id].length;
+        }
+
+        ByteBuffer index = ByteBuffer.allocate(HEADER_SIZE + bloom.length * Long.BYTES
+            + blockCount * BLOCK_ENTRY_SIZE + blockWords * Long.BYTES + dictionaryLength).order(JournalFormat.ORDER);
+        index.putInt(MAGIC)
+            .putInt(VERSION)
+            .putLong(cursor.sequence())
+            .putLong(cursor.createdMicros())
+            .putLong(eventCount)
+            .putLong(min)
+            .putLong(max)
+            .putInt(levels)
+            .putInt(blockCount)
+            .putInt(BloomFilter.HASHES)
+            .putInt(bloom.length)
+            .putInt(dictionary.length)
+            .putInt(blockWords);
+        for (long word : bloom) {
+            index.putLong(word);
+        }
+        int firstWord = 0;
+        for (int block = 0; block < blockCount; block++) {
+            index.putInt(blockOffsets[block])
+                .putLong(blockTimes[2 * block])
+                .putLong(blockTimes[2 * block + 1])
+                .putInt(firstWord)
+                .putInt(blockBlooms[block].length);
+            firstWord += blockBlooms[block].length;
+        }
+        for (long[] blockBloom : blockBlooms) {
+            for (long word : blockBloom) {
+                index.putLong(word);
+            }
+        }
+        for (byte[] value : dictionary) {
+            index.putShort((short) value.length).put(value);
+        }
+
+        Path file = fileOf(cursor.file());
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temporary, index.array());
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return true;
+    }
+}
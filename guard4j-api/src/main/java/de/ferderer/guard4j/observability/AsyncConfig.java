@@ -0,0 +1,90 @@
+package de.ferderer.guard4j.observability;
+
+import java.time.Duration;
+
+/**
+ * Configuration for asynchronous event dispatch.
+ *
+ * <p>Controls the ring buffer that decouples emitting threads from the
+ * configured {@link ObservabilityProcessor}. Events are published into a
+ * pre-allocated buffer and drained by a single dispatcher thread, so
+ * metrics, MDC and log appends are no longer paid inside request latency.
+ *
+ * @param capacity number of buffer slots, rounded up to the next power of two
+ * @param waitStrategy how the dispatcher thread waits when the buffer is empty
+ * @param overflowPolicy what to do when an event is published into a full buffer
+ * @param blockTimeout maximum time to wait for a free slot with {@link OverflowPolicy#BLOCK}
+ * @since 2.2.0
+ */
+public record AsyncConfig(
+    int capacity,
+    WaitStrategy waitStrategy,
+    OverflowPolicy overflowPolicy,
+    Duration blockTimeout
+) {
+
+    /**
+     * Create an AsyncConfig with default values.
+     */
+    public AsyncConfig() {
+        this(8192, WaitStrategy.PARK, OverflowPolicy.DROP_NEWEST, Duration.ofMillis(10));
+    }
+
+    public AsyncConfig {
+        if (capacity < 2 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be between 2 and 2^30");
+        }
+        if (waitStrategy == null) {
+            throw new IllegalArgumentException("waitStrategy is required");
+        }
+        if (overflowPolicy == null) {
+            throw new IllegalArgumentException("overflowPolicy is required");
+        }
+        if (blockTimeout == null || blockTimeout.isNegative()) {
+            throw new IllegalArgumentException("blockTimeout must be zero or positive");
+        }
+    }
+
+    /**
+     * Strategies for the dispatcher thread when no events are available.
+     */
+    public enum WaitStrategy {
+
+        /**
+         * Spin on the CPU. Lowest hand-off latency, burns a full core.
+         */
+        BUSY_SPIN,
+
+        /**
+         * Yield to other threads between polls. Low latency, moderate CPU usage.
+         */
+        YIELD,
+
+        /**
+         * Park the thread for a short interval between polls. Negligible CPU usage,
+         * adds up to the park interval to the hand-off latency.
+         */
+        PARK
+    }
+
+    /**
+     * Policies applied when an event is published into a full buffer.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Discard the event being published.
+         */
+        DROP_NEWEST,
+
+        /**
+         * Discard the oldest buffered event to make room for the new one.
+         */
+        DROP_OLDEST,
+
+        /**
+         * Wait for a free slot up to {@link AsyncConfig#blockTimeout()}, then discard the event.
+         */
+        BLOCK
+    }
+}
@@ -0,0 +1,330 @@
+package de.ferderer.guard4j.observability;
+
+import de.ferderer.guard4j.classification.Level;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous {@link ObservabilityProcessor} that moves event processing off the
+ * emitting thread.
+ *
+ * <p>Events are published into a pre-allocated {@link EventRingBuffer} and drained
+ * by a single daemon dispatcher thread, which hands them to the delegate processor
+ * in publication order. The processor itself allocates nothing per event; when the
+ * buffer is full the configured {@link AsyncConfig.OverflowPolicy} decides which
+ * event is discarded.
+ *
+ * <p><strong>Context:</strong> the delegate runs on the dispatcher thread, where
+ * thread-local state (MDC, request attributes, security context) of the emitting
+ * thread is not visible. The {@link ContextExtractor} set on this processor is
+ * therefore called when an event is published, and the delegate gets an extractor
+ * that returns the context captured for the event being dispatched.
+ *
+ * <p><strong>Timestamps:</strong> the emit time is captured when an event is
+ * published, in epoch nanoseconds derived from {@link System#nanoTime()} and an
+ * offset to the wall clock that the dispatcher thread recalibrates every second.
+ * Events without their own {@link ObservableEvent#timestamp()} are handed to the
+ * delegate as a {@link TimestampedEvent} reporting that time, not the time of
+ * dispatch. The view is reused for the next event and creates its {@link Instant}
+ * only when read.
+ *
+ * <p>Usually installed through
+ * {@link de.ferderer.guard4j.EmitterFactory#setProcessor(ObservabilityProcessor, AsyncConfig)}.
+ *
+ * @since 2.2.0
+ */
+public final class AsyncObservabilityProcessor implements ObservabilityProcessor, AutoCloseable {
+
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long CALIBRATION_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final ObservabilityProcessor delegate;
+    private final AsyncConfig config;
+    private final EventRingBuffer buffer;
+    private final EventRingBuffer.SlotHandler dispatcher = this::dispatch;
+    private final EventRingBuffer.SlotHandler discarder =
+        (event, timestamp, context, durationNanos, level, loggerName) -> {};
+    private final CapturedContextExtractor capturedContext = new CapturedContextExtractor();
+    private final TimestampedEvent timestamped = new TimestampedEvent();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final Thread thread;
+
+    private volatile boolean running = true;
+    private volatile ContextExtractor contextExtractor;
+    private volatile long epochOffsetNanos;
+    private long calibratedAtNanos;
+
+    /**
+     * Creates the processor and starts its dispatcher thread.
+     *
+     * @param delegate the processor that handles events on the dispatcher thread
+     * @param config the buffer configuration
+     */
+    public AsyncObservabilityProcessor(ObservabilityProcessor delegate, AsyncConfig config) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate is required");
+        }
+        if (config == null) {
+            throw new IllegalArgumentException("config is required");
+        }
+        this.delegate = delegate;
+        this.config = config;
+        this.buffer = new EventRingBuffer(config.capacity());
+        calibrate();
+        this.thread = new Thread(this::drain, "guard4j-dispatcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    @Override
+    public void process(ObservableEvent event) {
+        publish(event, EventRingBuffer.NO_DURATION, null, null);
+    }
+
+    @Override
+    public void processWithLevel(ObservableEvent event, Level level, String loggerName) {
+        publish(event, EventRingBuffer.NO_DURATION, level, loggerName);
+    }
+
+    @Override
+    public void processTimed(ObservableEvent event, long durationNanos, Level level, String loggerName) {
+        publish(event, durationNanos, level, loggerName);
+    }
+
+    @Override
+    public Level effectiveLevel(String loggerName) {
+        return delegate.effectiveLevel(loggerName);
+    }
+
+    /**
+     * Sets the extractor called on the publishing thread; the delegate is given an
+     * extractor returning the captured context of the event it processes.
+     */
+    @Override
+    public void setContextExtractor(ContextExtractor contextExtractor) {
+        this.contextExtractor = contextExtractor;
+        delegate.setContextExtractor(contextExtractor != null ? capturedContext : null);
+    }
+
+    /**
+     * Returns the processor events are dispatched to.
+     *
+     * @return the delegate processor
+     */
+    public ObservabilityProcessor delegate() {
+        return delegate;
+    }
+
+    /**
+     * Returns the number of events discarded because the buffer was full.
+     *
+     * @return the dropped event count since creation
+     */
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Returns the number of events the delegate failed to process with an exception.
+     *
+     * @return the failed event count since creation
+     */
+    public long failedCount() {
+        return failed.get();
+    }
+
+    /**
+     * Returns the approximate number of events waiting to be dispatched.
+     *
+     * @return the current buffer occupancy
+     */
+    public int pendingCount() {
+        return buffer.size();
+    }
+
+    /**
+     * Stops accepting events, dispatches everything still buffered and
+     * waits for the dispatcher thread to terminate.
+     *
+     * <p>Events published concurrently with closing are either dispatched or
+     * counted as {@linkplain #droppedCount() dropped}.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        discardRemaining();
+    }
+
+    private void publish(ObservableEvent event, long durationNanos, Level level, String loggerName) {
+        if (!running) {
+            dropped.incrementAndGet();
+            return;
+        }
+        if (enqueue(event, durationNanos, level, loggerName) && !running) {
+            // Closed while offering: the dispatcher may have drained the buffer already
+            discardRemaining();
+        }
+    }
+
+    /**
+     * Offer an event to the buffer, applying the overflow policy.
+     *
+     * @return true if the event was buffered
+     */
+    private boolean enqueue(ObservableEvent event, long durationNanos, Level level, String loggerName) {
+        // Captured here, as the default timestamp is the time it is called at
+        long timestamp = TimestampedEvent.hasOwnTimestamp(event)
+            ? EventRingBuffer.NO_TIMESTAMP
+            : epochOffsetNanos + System.nanoTime();
+        Map<String, String> context = extractContext();
+        if (buffer.offer(event, timestamp, context, durationNanos, level, loggerName)) {
+            return true;
+        }
+
+        return switch (config.overflowPolicy()) {
+            case DROP_NEWEST -> {
+                dropped.incrementAndGet();
+                yield false;
+            }
+            case DROP_OLDEST -> {
+                while (!buffer.offer(event, timestamp, context, durationNanos, level, loggerName)) {
+                    if (buffer.poll(discarder)) {
+                        dropped.incrementAndGet();
+                    }
+                }
+                yield true;
+            }
+            case BLOCK -> {
+                long deadline = System.nanoTime() + config.blockTimeout().toNanos();
+                while (!buffer.offer(event, timestamp, context, durationNanos, level, loggerName)) {
+                    if (System.nanoTime() - deadline >= 0) {
+                        dropped.incrementAndGet();
+                        yield false;
+                    }
+                    idle();
+                }
+                yield true;
+            }
+        };
+    }
+
+    private void discardRemaining() {
+        while (buffer.poll(discarder)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    private Map<String, String> extractContext() {
+        ContextExtractor extractor = contextExtractor;
+        if (extractor == null) {
+            return null;
+        }
+        try {
+            return extractor.extractContext();
+        } catch (RuntimeException e) {
+            // Never let a failing extractor break the emitting thread
+            return null;
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            if (System.nanoTime() - calibratedAtNanos >= CALIBRATION_INTERVAL_NANOS) {
+                calibrate();
+            }
+            if (buffer.poll(dispatcher)) {
+                continue;
+            }
+            if (!running && buffer.isEmpty()) {
+                return;
+            }
+            idle();
+        }
+    }
+
+    /**
+     * Align the epoch time of published events with the wall clock, which may be
+     * adjusted while {@link System#nanoTime()} runs on.
+     */
+    private void calibrate() {
+        long before = System.nanoTime();
+        Instant now = Instant.now();
+        long after = System.nanoTime();
+        long nanoTime = before + (after - before) / 2;
+        epochOffsetNanos = now.getEpochSecond() * 1_000_000_000L + now.getNano() - nanoTime;
+        calibratedAtNanos = after;
+    }
+
+    private void dispatch(ObservableEvent event, long epochNanos, Map<String, String> context,
+                          long durationNanos, Level level, String loggerName) {
+        if (epochNanos != EventRingBuffer.NO_TIMESTAMP) {
+            timestamped.reset(event, epochNanos);
+            event = timestamped;
+        }
+        capturedContext.current = context;
+        try {
+            if (level == null) {
+                delegate.process(event);
+            } else if (durationNanos != EventRingBuffer.NO_DURATION) {
+                delegate.processTimed(event, durationNanos, level, loggerName);
+            } else {
+                delegate.processWithLevel(event, level, loggerName);
+            }
+        } catch (RuntimeException e) {
+            // Never let a failing delegate stop the dispatcher thread
+            failed.incrementAndGet();
+        } finally {
+            capturedContext.current = null;
+        }
+    }
+
+    private void idle() {
+        switch (config.waitStrategy()) {
+            case BUSY_SPIN -> Thread.onSpinWait();
+            case YIELD -> Thread.yield();
+            case PARK -> LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+
+    /**
+     * Extractor handed to the delegate, returning the context captured on the
+     * publishing thread for the event being dispatched. Only read on the
+     * dispatcher thread.
+     */
+    private static final class CapturedContextExtractor implements ContextExtractor {
+
+        private Map<String, String> current;
+
+        @Override
+        public Map<String, String> extractContext() {
+            Map<String, String> context = current;
+            return context != null ? context : Map.of();
+        }
+
+        @Override
+        public Optional<String> extractTraceId() {
+            return Optional.ofNullable(extractContext().get("traceId"));
+        }
+
+        @Override
+        public Optional<String> extractUserId() {
+            return Optional.ofNullable(extractContext().get("userId"));
+        }
+
+        @Override
+        public Optional<String> extractCorrelationId() {
+            return Optional.ofNullable(extractContext().get("correlationId"));
+        }
+    }
+}
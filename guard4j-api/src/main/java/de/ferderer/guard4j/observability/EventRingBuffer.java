@@ -0,0 +1,152 @@
+package de.ferderer.guard4j.observability;
+
+import de.ferderer.guard4j.classification.Level;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded, lock-free ring buffer of pre-allocated event slots.
+ *
+ * <p>Each slot carries a sequence number that tells producers and consumers
+ * whether the slot is free or filled for a given position, so claiming a
+ * slot is a single CAS on the shared position counter and no objects are
+ * allocated per event. The algorithm is safe for multiple consumers as well;
+ * producers rely on that to evict the oldest entry when the buffer is full.
+ *
+ * @since 2.2.0
+ */
+final class EventRingBuffer {
+
+    /** Duration of slots holding events without a measured duration. */
+    static final long NO_DURATION = -1;
+
+    /** Timestamp of slots holding events that carry their own timestamp. */
+    static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    /**
+     * Receives the contents of a slot removed from the buffer.
+     */
+    @FunctionalInterface
+    interface SlotHandler {
+        void onEvent(ObservableEvent event, long epochNanos, Map<String, String> context, long durationNanos,
+                     Level level, String loggerName);
+    }
+
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final ObservableEvent[] events;
+    private final long[] timestamps;
+    private final Map<String, String>[] contexts;
+    private final long[] durations;
+    private final Level[] levels;
+    private final String[] loggerNames;
+
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    @SuppressWarnings("unchecked")
+    EventRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        this.events = new ObservableEvent[capacity];
+        this.timestamps = new long[capacity];
+        this.contexts = new Map[capacity];
+        this.durations = new long[capacity];
+        this.levels = new Level[capacity];
+        this.loggerNames = new String[capacity];
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Publish an event into the next free slot.
+     *
+     * @param epochNanos the emit time captured by the producer in epoch nanoseconds, or
+     *     {@link #NO_TIMESTAMP} if the event has its own
+     * @param context the context captured by the producer, or null if none is extracted
+     * @param durationNanos the measured duration, or {@link #NO_DURATION}
+     * @return false if the buffer is full
+     */
+    boolean offer(ObservableEvent event, long epochNanos, Map<String, String> context, long durationNanos,
+                  Level level, String loggerName) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long delta = sequences.get(index) - position;
+            if (delta == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    events[index] = event;
+                    timestamps[index] = epochNanos;
+                    contexts[index] = context;
+                    durations[index] = durationNanos;
+                    levels[index] = level;
+                    loggerNames[index] = loggerName;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (delta < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Remove the oldest event and hand it to the handler.
+     *
+     * <p>The slot is released before the handler runs, so a slow handler
+     * does not hold back producers.
+     *
+     * @return false if the buffer is empty
+     */
+    boolean poll(SlotHandler handler) {
+        long position = head.get();
+        while (true) {
+            int index = (int) position & mask;
+            long delta = sequences.get(index) - (position + 1);
+            if (delta == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    ObservableEvent event = events[index];
+                    long epochNanos = timestamps[index];
+                    Map<String, String> context = contexts[index];
+                    long durationNanos = durations[index];
+                    Level level = levels[index];
+                    String loggerName = loggerNames[index];
+                    events[index] = null;
+                    contexts[index] = null;
+                    levels[index] = null;
+                    loggerNames[index] = null;
+                    sequences.set(index, position + mask + 1);
+                    handler.onEvent(event, epochNanos, context, durationNanos, level, loggerName);
+                    return true;
+                }
+                position = head.get();
+            } else if (delta < 0) {
+                return false;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * Approximate number of buffered events.
+     */
+    int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+}
@@ -0,0 +1,34 @@
+package de.ferderer.guard4j.observability;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the event type identifier of an {@link ObservableEvent} class.
+ *
+ * <p>Overrides the identifier derived from the class name, so that metric tags
+ * and log fields stay stable when the class is renamed:
+ * <pre>{@code
+ * @EventType("payment-processed")
+ * public record PaymentProcessedEvent(String paymentId, BigDecimal amount)
+ *     implements ObservableEvent {}
+ * }</pre>
+ *
+ * @see EventTypes
+ * @since 2.2.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface EventType {
+
+    /**
+     * The event type identifier.
+     *
+     * @return the event type, must not be blank
+     */
+    String value();
+}
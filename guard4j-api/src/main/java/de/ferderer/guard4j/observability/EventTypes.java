@@ -0,0 +1,51 @@
+package de.ferderer.guard4j.observability;
+
+/**
+ * Registry of event type identifiers per event class.
+ *
+ * <p>The identifier of a class is computed once and cached in a {@link ClassValue},
+ * so {@link ObservableEvent#eventType()} costs a single lookup on the hot path.
+ * It is taken from the {@link EventType} annotation if present, otherwise derived
+ * from the simple class name by converting CamelCase to kebab-case
+ * (e.g., PaymentProcessedEvent -> payment-processed-event).
+ *
+ * @since 2.2.0
+ */
+public final class EventTypes {
+
+    private static final ClassValue<String> TYPES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    /**
+     * Private constructor to prevent instantiation.
+     * This is a utility class with only static methods.
+     */
+    private EventTypes() {}
+
+    /**
+     * Returns the event type identifier for the given event class.
+     *
+     * @param eventClass the event class
+     * @return the cached event type identifier, never null
+     */
+    public static String of(Class<?> eventClass) {
+        return TYPES.get(eventClass);
+    }
+
+    private static String resolve(Class<?> type) {
+        EventType declared = type.getAnnotation(EventType.class);
+        if (declared != null) {
+            if (declared.value().isBlank()) {
+                throw new IllegalArgumentException("@EventType value must not be blank on " + type.getName());
+            }
+            return declared.value();
+        }
+        return type.getSimpleName()
+            .replaceAll("([a-z])([A-Z])", "$1-$2")
+            .toLowerCase();
+    }
+}
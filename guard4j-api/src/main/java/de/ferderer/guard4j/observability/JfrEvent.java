@@ -0,0 +1,42 @@
+package de.ferderer.guard4j.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JDK Flight Recorder event committed by {@link JfrObservabilityProcessor}.
+ *
+ * <p>Stack traces are disabled by default, as most events are emitted on hot
+ * paths; they can be enabled per recording with the {@code stackTrace} setting.
+ *
+ * @since 2.2.0
+ */
+@Name(JfrObservabilityProcessor.EVENT_NAME)
+@Label("Guard4j Event")
+@Category("Guard4j")
+@Description("Observable event emitted through a Guard4j emitter")
+@StackTrace(false)
+final class JfrEvent extends Event {
+
+    @Label("Level")
+    String level;
+
+    @Label("Logger Name")
+    String loggerName;
+
+    @Label("Event Type")
+    String eventType;
+
+    @Label("Metric")
+    int metric;
+
+    /** Duration measured by the emitter, {@link Long#MIN_VALUE} (shown as N/A) if not timed. */
+    @Label("Measured Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long measuredDuration;
+}
@@ -0,0 +1,162 @@
+package de.ferderer.guard4j.observability;
+
+import de.ferderer.guard4j.EmitterFactory;
+import de.ferderer.guard4j.classification.Level;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * {@link ObservabilityProcessor} that commits each event as a JDK Flight Recorder
+ * event named {@value #EVENT_NAME}.
+ *
+ * <p>The JFR event carries the level, logger name, event type, metric value and,
+ * for timed events, the measured duration. The emitting thread and start time are
+ * recorded by JFR itself.
+ *
+ * <p>While no recording has the event enabled, {@link #effectiveLevel(String)}
+ * returns null, so emitters drop events after a single field read without calling
+ * the processor. Whenever a recording starts or stops, the processor calls
+ * {@link EmitterFactory#refreshLevels()}. Within a recording, each commit is still
+ * gated by {@code shouldCommit()}, so only enabled events are written.
+ *
+ * <p>Events can be consumed in-process, e.g. to feed metrics, with {@link #stream(Consumer)}:
+ * <pre>{@code
+ * EmitterFactory.setProcessor(new JfrObservabilityProcessor());
+ *
+ * RecordingStream stream = JfrObservabilityProcessor.stream(event ->
+ *     registry.counter("events", "type", event.getString(JfrObservabilityProcessor.EVENT_TYPE_FIELD))
+ *         .increment(event.getInt(JfrObservabilityProcessor.METRIC_FIELD)));
+ * stream.startAsync();
+ * }</pre>
+ *
+ * <p>Context extractors are not used; JFR records the emitting thread instead.
+ *
+ * @since 2.2.0
+ */
+public final class JfrObservabilityProcessor implements ObservabilityProcessor {
+
+    /** Name of the JFR event type. */
+    public static final String EVENT_NAME = "de.ferderer.guard4j.Event";
+
+    /** Field holding the {@link Level} name. */
+    public static final String LEVEL_FIELD = "level";
+
+    /** Field holding the logger name, null for events processed without one. */
+    public static final String LOGGER_NAME_FIELD = "loggerName";
+
+    /** Field holding the {@link ObservableEvent#eventType()}. */
+    public static final String EVENT_TYPE_FIELD = "eventType";
+
+    /** Field holding the {@link ObservableEvent#metric()}. */
+    public static final String METRIC_FIELD = "metric";
+
+    /** Field holding the measured duration in nanoseconds, {@link Long#MIN_VALUE} if not timed. */
+    public static final String MEASURED_DURATION_FIELD = "measuredDuration";
+
+    private static final long NOT_TIMED = Long.MIN_VALUE;
+
+    private static final AtomicBoolean LISTENING = new AtomicBoolean();
+
+    private final Level minimumLevel;
+
+    /**
+     * Creates a processor that records events of all levels.
+     */
+    public JfrObservabilityProcessor() {
+        this(Level.TRACE);
+    }
+
+    /**
+     * Creates a processor that records events at or above the given level.
+     *
+     * @param minimumLevel the lowest recorded level
+     */
+    public JfrObservabilityProcessor(Level minimumLevel) {
+        if (minimumLevel == null) {
+            throw new IllegalArgumentException("minimumLevel is required");
+        }
+        this.minimumLevel = minimumLevel;
+        if (FlightRecorder.isAvailable() && LISTENING.compareAndSet(false, true)) {
+            FlightRecorder.addListener(new RecordingListener());
+        }
+    }
+
+    /**
+     * Records the event at {@link Level#INFO} without a logger name.
+     */
+    @Override
+    public void process(ObservableEvent event) {
+        commit(event, NOT_TIMED, Level.INFO, null);
+    }
+
+    @Override
+    public void processWithLevel(ObservableEvent event, Level level, String loggerName) {
+        commit(event, NOT_TIMED, level, loggerName);
+    }
+
+    @Override
+    public void processTimed(ObservableEvent event, long durationNanos, Level level, String loggerName) {
+        commit(event, durationNanos, level, loggerName);
+    }
+
+    /**
+     * Returns the minimum level while a recording has the event enabled, otherwise null.
+     */
+    @Override
+    public Level effectiveLevel(String loggerName) {
+        return new JfrEvent().isEnabled() ? minimumLevel : null;
+    }
+
+    /**
+     * Creates a recording stream with the Guard4j event enabled and the given handler
+     * registered for it.
+     *
+     * <p>The caller starts the stream, e.g. with {@link RecordingStream#startAsync()},
+     * and closes it when done. Further event types can be enabled before starting.
+     *
+     * @param handler the handler called for each recorded Guard4j event
+     * @return the stream, not yet started
+     */
+    public static RecordingStream stream(Consumer<RecordedEvent> handler) {
+        if (handler == null) {
+            throw new IllegalArgumentException("handler is required");
+        }
+        RecordingStream stream = new RecordingStream();
+        stream.enable(EVENT_NAME);
+        stream.onEvent(EVENT_NAME, handler);
+        return stream;
+    }
+
+    private void commit(ObservableEvent event, long durationNanos, Level level, String loggerName) {
+        if (event == null || level == null || !level.isAtLeast(minimumLevel)) {
+            return;
+        }
+        JfrEvent jfrEvent = new JfrEvent();
+        if (!jfrEvent.shouldCommit()) {
+            return;
+        }
+        jfrEvent.level = level.name();
+        jfrEvent.loggerName = loggerName;
+        jfrEvent.eventType = event.eventType();
+        jfrEvent.metric = event.metric();
+        jfrEvent.measuredDuration = durationNanos;
+        jfrEvent.commit();
+    }
+
+    /**
+     * Refreshes emitter levels when recordings start or stop, as this changes
+     * whether the event is enabled.
+     */
+    private static final class RecordingListener implements FlightRecorderListener {
+
+        @Override
+        public void recordingStateChanged(Recording recording) {
+            EmitterFactory.refreshLevels();
+        }
+    }
+}
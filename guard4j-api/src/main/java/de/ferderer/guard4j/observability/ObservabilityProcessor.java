@@ -27,6 +27,44 @@ public interface ObservabilityProcessor {
      */
     void processWithLevel(ObservableEvent event, Level level, String loggerName);
 
+    /**
+     * Process an observability event that carries a measured duration.
+     *
+     * <p>Used by {@link de.ferderer.guard4j.Emitter#timed(Level, ObservableEvent, long)}
+     * and the timing helpers built on it. Processors that record durations, e.g. in a
+     * timer metric, should override this method.
+     *
+     * <p>Default implementation ignores the duration and delegates to
+     * {@link #processWithLevel(ObservableEvent, Level, String)}.
+     *
+     * @param event the event to process
+     * @param durationNanos the measured duration in nanoseconds, never negative
+     * @param level the logging level to use
+     * @param loggerName the logger name (typically a class name)
+     * @since 2.2.0
+     */
+    default void processTimed(ObservableEvent event, long durationNanos, Level level, String loggerName) {
+        processWithLevel(event, level, loggerName);
+    }
+
+    /**
+     * Returns the lowest level this processor handles for the given logger.
+     *
+     * <p>Emitters cache this value and skip events below it without calling the
+     * processor, so callers can avoid building events that would be discarded.
+     * Processors whose level configuration changes at runtime should call
+     * {@link de.ferderer.guard4j.EmitterFactory#refreshLevels()} afterwards.
+     *
+     * <p>Default implementation returns {@link Level#TRACE}, i.e. all events are processed.
+     *
+     * @param loggerName the logger name (typically a class name)
+     * @return the lowest processed level, or null if no events are processed for this logger
+     * @since 2.2.0
+     */
+    default Level effectiveLevel(String loggerName) {
+        return Level.TRACE;
+    }
+
     /**
      * Process events asynchronously (default behavior).
      */
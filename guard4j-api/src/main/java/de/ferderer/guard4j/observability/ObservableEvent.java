@@ -19,15 +19,15 @@ public interface ObservableEvent {
     /**
      * Returns the event type identifier.
      *
-     * <p>Default implementation derives the type from the class name,
-     * converting from CamelCase to kebab-case (e.g., PaymentProcessedEvent -> payment-processed-event).
+     * <p>Default implementation uses the {@link EventType} annotation if present,
+     * otherwise derives the type from the class name, converting from CamelCase to
+     * kebab-case (e.g., PaymentProcessedEvent -> payment-processed-event). The result
+     * is computed once per class and cached by {@link EventTypes}.
      *
      * @return the event type identifier, never null
      */
     default String eventType() {
-        return getClass().getSimpleName()
-            .replaceAll("([a-z])([A-Z])", "$1-$2")
-            .toLowerCase();
+        return EventTypes.of(getClass());
     }
 
     /**
@@ -0,0 +1,128 @@
+package de.ferderer.guard4j.observability;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * View of an event with the time it was emitted, handed to the delegate of an
+ * {@link AsyncObservabilityProcessor}.
+ *
+ * <p>Events that do not implement {@link ObservableEvent#timestamp()} themselves
+ * report the current time, which on the dispatcher thread would be the time of
+ * dispatch. The asynchronous processor therefore captures the timestamp when the
+ * event is published and dispatches such events wrapped in this view. Events with
+ * their own timestamp are dispatched unchanged. Processors that need the original
+ * event, e.g. to test its class, can unwrap it with {@link #event()}.
+ *
+ * <p>The dispatcher reuses a single view for all events and creates the
+ * {@link Instant} only when {@link #timestamp()} is called. Processors that keep an
+ * event beyond the processing call should keep {@link #event()} and
+ * {@link #timestamp()} rather than the view.
+ *
+ * @since 2.2.0
+ */
+public final class TimestampedEvent implements ObservableEvent {
+
+    private static final ClassValue<Boolean> OWN_TIMESTAMP = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("timestamp").getDeclaringClass() != ObservableEvent.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    private ObservableEvent event;
+    private long epochNanos;
+    private Instant timestamp;
+
+    /**
+     * Create a view of an event with the time it was emitted.
+     *
+     * @param event the emitted event
+     * @param timestamp when the event was emitted
+     */
+    public TimestampedEvent(ObservableEvent event, Instant timestamp) {
+        if (event == null) {
+            throw new IllegalArgumentException("event is required");
+        }
+        if (timestamp == null) {
+            throw new IllegalArgumentException("timestamp is required");
+        }
+        this.event = event;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Create an empty view, to be {@linkplain #reset reset} for each dispatched event.
+     */
+    TimestampedEvent() {
+    }
+
+    /**
+     * Point the view at the next dispatched event.
+     *
+     * @param event the emitted event
+     * @param epochNanos when the event was emitted, in epoch nanoseconds
+     */
+    void reset(ObservableEvent event, long epochNanos) {
+        this.event = event;
+        this.epochNanos = epochNanos;
+        this.timestamp = null;
+    }
+
+    /**
+     * Returns the emitted event.
+     *
+     * @return the event this view wraps
+     */
+    public ObservableEvent event() {
+        return event;
+    }
+
+    @Override
+    public Instant timestamp() {
+        Instant value = timestamp;
+        if (value == null) {
+            value = Instant.ofEpochSecond(0, epochNanos);
+            timestamp = value;
+        }
+        return value;
+    }
+
+    @Override
+    public String eventType() {
+        return event.eventType();
+    }
+
+    @Override
+    public int metric() {
+        return event.metric();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof TimestampedEvent that
+            && event.equals(that.event) && timestamp().equals(that.timestamp());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(event, timestamp());
+    }
+
+    @Override
+    public String toString() {
+        return "TimestampedEvent[event=" + event + ", timestamp=" + timestamp() + "]";
+    }
+
+    /**
+     * Whether the event implements {@link ObservableEvent#timestamp()} itself, so that
+     * it reports the same time on any thread.
+     */
+    static boolean hasOwnTimestamp(ObservableEvent event) {
+        return OWN_TIMESTAMP.get(event.getClass());
+    }
+}
@@ -0,0 +1,212 @@
+package de.ferderer.guard4j;
+
+import de.ferderer.guard4j.classification.Level;
+import de.ferderer.guard4j.observability.ObservabilityProcessor;
+import de.ferderer.guard4j.observability.ObservableEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class DefaultEmitterTest {
+
+    @AfterEach
+    void tearDown() {
+        EmitterFactory.setProcessor(null);
+        EmitterFactory.clearCache();
+    }
+
+    @Test
+    void shouldDisableAllLevelsWithoutProcessor() {
+        Emitter emitter = EmitterFactory.getEmitter("com.example.Service");
+
+        assertThat(emitter.isTraceEnabled()).isFalse();
+        assertThat(emitter.isErrorEnabled()).isFalse();
+    }
+
+    @Test
+    void shouldSkipLevelsBelowEffectiveLevel() {
+        LevelProcessor processor = new LevelProcessor(Level.INFO);
+        EmitterFactory.setProcessor(processor);
+        Emitter emitter = EmitterFactory.getEmitter("com.example.Service");
+
+        emitter.debug(new TestEvent());
+        emitter.info(new TestEvent());
+        emitter.error(new TestEvent());
+
+        assertThat(emitter.isDebugEnabled()).isFalse();
+        assertThat(emitter.isInfoEnabled()).isTrue();
+        assertThat(processor.levels).containsExactly(Level.INFO, Level.ERROR);
+    }
+
+    @Test
+    void shouldNotInvokeSupplierForDisabledLevel() {
+        EmitterFactory.setProcessor(new LevelProcessor(Level.WARN));
+        Emitter emitter = EmitterFactory.getEmitter("com.example.Service");
+        AtomicInteger created = new AtomicInteger();
+
+        emitter.trace(() -> {
+            created.incrementAndGet();
+            return new TestEvent();
+        });
+        emitter.warn(() -> {
+            created.incrementAndGet();
+            return new TestEvent();
+        });
+
+        assertThat(created).hasValue(1);
+    }
+
+    @Test
+    void shouldRefreshCachedEmittersWhenProcessorChanges() {
+        Emitter emitter = EmitterFactory.getEmitter("com.example.Service");
+        LevelProcessor processor = new LevelProcessor(Level.DEBUG);
+
+        EmitterFactory.setProcessor(processor);
+
+        assertThat(emitter.isDebugEnabled()).isTrue();
+        assertThat(emitter.isTraceEnabled()).isFalse();
+
+        processor.level = Level.ERROR;
+        EmitterFactory.refreshLevels();
+
+        assertThat(emitter.isWarnEnabled()).isFalse();
+        assertThat(emitter.isErrorEnabled()).isTrue();
+    }
+
+    @Test
+    void shouldRefreshEmitterCreatedWhileProcessorChanges() throws InterruptedException {
+        // Given - the emitter is created with the old processor, which blocks in effectiveLevel
+        CountDownLatch creating = new CountDownLatch(1);
+        CountDownLatch replaced = new CountDownLatch(1);
+        EmitterFactory.setProcessor(new LevelProcessor(null) {
+            @Override
+            public Level effectiveLevel(String loggerName) {
+                creating.countDown();
+                try {
+                    replaced.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            }
+        });
+        AtomicReference<Emitter> emitter = new AtomicReference<>();
+        Thread creator = new Thread(() -> emitter.set(EmitterFactory.getEmitter("com.example.Service")));
+        creator.start();
+        creating.await(10, TimeUnit.SECONDS);
+
+        // When - the processor is replaced before the emitter is in the cache
+        EmitterFactory.setProcessor(new LevelProcessor(Level.INFO));
+        replaced.countDown();
+        creator.join();
+
+        // Then
+        assertThat(emitter.get().isInfoEnabled()).isTrue();
+        assertThat(emitter.get().isDebugEnabled()).isFalse();
+    }
+
+    @Test
+    void shouldRejectNullEvent() {
+        Emitter emitter = EmitterFactory.getEmitter("com.example.Service");
+
+        assertThatThrownBy(() -> emitter.info((ObservableEvent) null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldEmitMeasuredDurationWithReusableTiming() {
+        LevelProcessor processor = new LevelProcessor(Level.INFO);
+        EmitterFactory.setProcessor(processor);
+        Emitter emitter = EmitterFactory.getEmitter("com.example.Service");
+        Timing timing = emitter.timing(Level.INFO, new TestEvent());
+
+        for (int i = 0; i < 3; i++) {
+            try (Timing started = timing.start()) {
+                assertThat(started).isSameAs(timing);
+                assertThat(timing.isRunning()).isTrue();
+            }
+        }
+
+        assertThat(timing.isRunning()).isFalse();
+        assertThat(timing.stop()).isEqualTo(-1);
+        assertThat(processor.levels).containsExactly(Level.INFO, Level.INFO, Level.INFO);
+        assertThat(processor.durations).hasSize(3).allSatisfy(duration -> assertThat(duration).isNotNegative());
+    }
+
+    @Test
+    void shouldNotMeasureTimingForDisabledLevel() {
+        LevelProcessor processor = new LevelProcessor(Level.WARN);
+        EmitterFactory.setProcessor(processor);
+        Timing timing = EmitterFactory.getEmitter("com.example.Service").timing(Level.DEBUG, new TestEvent());
+
+        timing.start();
+
+        assertThat(timing.isRunning()).isFalse();
+        assertThat(timing.stop()).isEqualTo(-1);
+        assertThat(processor.durations).isEmpty();
+    }
+
+    @Test
+    void shouldTimeActionsAndEmitDurationOnFailure() throws Exception {
+        LevelProcessor processor = new LevelProcessor(Level.INFO);
+        EmitterFactory.setProcessor(processor);
+        Emitter emitter = EmitterFactory.getEmitter("com.example.Service");
+
+        String result = emitter.time(Level.INFO, new TestEvent(), () -> "done");
+        assertThatThrownBy(() -> emitter.time(Level.ERROR, new TestEvent(), (Runnable) () -> {
+            throw new IllegalStateException("failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(result).isEqualTo("done");
+        assertThat(processor.levels).containsExactly(Level.INFO, Level.ERROR);
+        assertThat(processor.durations).hasSize(2);
+    }
+
+    @Test
+    void shouldRejectNegativeDuration() {
+        Emitter emitter = EmitterFactory.getEmitter("com.example.Service");
+
+        assertThatThrownBy(() -> emitter.timed(Level.INFO, new TestEvent(), -1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private record TestEvent() implements ObservableEvent {}
+
+    private static class LevelProcessor implements ObservabilityProcessor {
+        final List<Level> levels = new ArrayList<>();
+        final List<Long> durations = new ArrayList<>();
+        Level level;
+
+        LevelProcessor(Level level) {
+            this.level = level;
+        }
+
+        @Override
+        public void process(ObservableEvent event) {
+            levels.add(Level.INFO);
+        }
+
+        @Override
+        public void processWithLevel(ObservableEvent event, Level level, String loggerName) {
+            levels.add(level);
+        }
+
+        @Override
+        public void processTimed(ObservableEvent event, long durationNanos, Level level, String loggerName) {
+            levels.add(level);
+            durations.add(durationNanos);
+        }
+
+        @Override
+        public Level effectiveLevel(String loggerName) {
+            return level;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package de.ferderer.guard4j;
+
+import de.ferderer.guard4j.classification.Level;
+import de.ferderer.guard4j.observability.ObservableEvent;
+import java.util.ArrayList;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+
+class EmitterTest {
+
+    @Test
+    void shouldDelegateSupplierOverloadsOfCustomEmitter() {
+        // Given
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // When
+        emitter.debug(TestEvent::new);
+        emitter.warn(TestEvent::new);
+
+        // Then
+        assertThat(emitter.isTraceEnabled()).isTrue();
+        assertThat(emitter.levels).containsExactly(Level.DEBUG, Level.WARN);
+    }
+
+    @Test
+    void shouldEmitTimedEventsOfCustomEmitterAtLevel() throws Exception {
+        // Given
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // When
+        emitter.timed(Level.INFO, new TestEvent(), 1_000);
+        emitter.time(Level.TRACE, new TestEvent(), () -> { });
+        String result = emitter.time(Level.FATAL, new TestEvent(), () -> "done");
+        try (Timing timing = emitter.timing(Level.WARN, new TestEvent()).start()) {
+            assertThat(timing.isRunning()).isTrue();
+        }
+
+        // Then
+        assertThat(result).isEqualTo("done");
+        assertThat(emitter.levels).containsExactly(Level.INFO, Level.TRACE, Level.ERROR, Level.WARN);
+    }
+
+    @Test
+    void shouldRejectNegativeDurationOfCustomEmitter() {
+        // Given
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // When / Then
+        assertThatThrownBy(() -> emitter.timed(Level.INFO, new TestEvent(), -1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(emitter.levels).isEmpty();
+    }
+
+    /**
+     * Emitter implementing only the methods of the 2.0.0 interface.
+     */
+    private static final class RecordingEmitter implements Emitter {
+
+        final List<Level> levels = new ArrayList<>();
+
+        @Override
+        public void trace(ObservableEvent event) {
+            levels.add(Level.TRACE);
+        }
+
+        @Override
+        public void debug(ObservableEvent event) {
+            levels.add(Level.DEBUG);
+        }
+
+        @Override
+        public void info(ObservableEvent event) {
+            levels.add(Level.INFO);
+        }
+
+        @Override
+        public void warn(ObservableEvent event) {
+            levels.add(Level.WARN);
+        }
+
+        @Override
+        public void error(ObservableEvent event) {
+            levels.add(Level.ERROR);
+        }
+    }
+
+    private record TestEvent() implements ObservableEvent {}
+}
@@ -5,6 +5,7 @@ import de.ferderer.guard4j.classification.HttpStatus;
 import de.ferderer.guard4j.classification.Level;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import org.junit.jupiter.api.Test;
 
 class AppExceptionTest {
@@ -125,6 +126,108 @@ class AppExceptionTest {
             .contains("data={}");
     }
 
+    @Test
+    void shouldCaptureStackTraceForSystemErrors() {
+        AppException exception = new AppException(TEST_ERROR);
+
+        assertThat(exception.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void shouldCaptureStackTraceForSecurityErrors() {
+        assertThat(new AppException(CoreError.ACCESS_DENIED).getStackTrace()).isNotEmpty();
+        assertThat(new AppException(CoreError.INVALID_CREDENTIALS).getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void shouldOmitStackTraceForExpectedErrors() {
+        RuntimeException cause = new RuntimeException("Original cause");
+
+        assertThat(new AppException(CoreError.RESOURCE_NOT_FOUND).getStackTrace()).isEmpty();
+        assertThat(new AppException(CoreError.VALIDATION_FAILED).getStackTrace()).isEmpty();
+
+        AppException wrapped = new AppException(CoreError.INSUFFICIENT_FUNDS, cause);
+        assertThat(wrapped.getStackTrace()).isEmpty();
+        assertThat(wrapped.getCause().getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void shouldHonourExplicitStackTracePolicy() {
+        assertThat(new AppException(CoreError.RESOURCE_NOT_FOUND, null, true).getStackTrace()).isNotEmpty();
+        assertThat(new AppException(TEST_ERROR, null, false).getStackTrace()).isEmpty();
+    }
+
+    @Test
+    void shouldCreateWithDataFactories() {
+        assertThat(AppException.of(TEST_ERROR, "a", 1).data())
+            .containsExactly(entry("a", 1));
+        assertThat(AppException.of(TEST_ERROR, "a", 1, "b", null).data())
+            .containsExactly(entry("a", 1), entry("b", null));
+        assertThat(AppException.of(TEST_ERROR, "a", 1, "b", 2, "c", 3).data())
+            .containsExactly(entry("a", 1), entry("b", 2), entry("c", 3));
+    }
+
+    @Test
+    void shouldKeepInsertionOrderBeyondInlineLimit() {
+        AppException exception = new AppException(TEST_ERROR);
+        for (int i = 0; i < 20; i++) {
+            exception.withData("key" + i, i);
+        }
+        exception.withData("key3", "replaced");
+
+        assertThat(exception.data()).hasSize(20);
+        assertThat(exception.data().keySet()).startsWith("key0", "key1", "key2", "key3");
+        assertThat(exception.data()).containsEntry("key3", "replaced").containsEntry("key19", 19);
+    }
+
+    @Test
+    void shouldExposeMutableData() {
+        // Given
+        AppException exception = new AppException(TEST_ERROR).withData("key", "value");
+        AppException empty = new AppException(TEST_ERROR);
+
+        // When
+        Object previous = exception.data().put("key", "replaced");
+        exception.data().put("other", "value");
+        empty.data().put("added", 1);
+
+        // Then
+        assertThat(previous).isEqualTo("value");
+        assertThat(exception.data()).containsExactly(entry("key", "replaced"), entry("other", "value"));
+        assertThat(empty.data()).containsExactly(entry("added", 1));
+        assertThat(exception.data().remove("key")).isEqualTo("replaced");
+        exception.data().entrySet().removeIf(e -> e.getKey().equals("other"));
+        assertThat(exception.data()).isEmpty();
+        exception.withData("again", 2);
+        assertThat(exception.data()).containsExactly(entry("again", 2));
+    }
+
+    @Test
+    void shouldReportWhetherDataIsPresent() {
+        // Given
+        AppException exception = new AppException(TEST_ERROR);
+
+        // When / Then
+        assertThat(exception.hasData()).isFalse();
+        assertThat(exception.withData("key", "value").hasData()).isTrue();
+        exception.data().clear();
+        assertThat(exception.hasData()).isFalse();
+    }
+
+    @Test
+    void shouldRemoveBeyondInlineLimit() {
+        AppException exception = new AppException(TEST_ERROR);
+        for (int i = 0; i < 20; i++) {
+            exception.withData("key" + i, i);
+        }
+
+        exception.data().remove("key0");
+        exception.data().clear();
+
+        assertThat(exception.data()).isEmpty();
+        assertThat(exception.withData("key", 1).data()).containsExactly(entry("key", 1));
+    }
+
     // Test implementation of Error interface
     private static class TestError implements Error {
         @Override
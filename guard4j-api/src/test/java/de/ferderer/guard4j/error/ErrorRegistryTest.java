@@ -0,0 +1,142 @@
+package de.ferderer.guard4j.error;
+
+import de.ferderer.guard4j.classification.Category;
+import de.ferderer.guard4j.classification.HttpStatus;
+import de.ferderer.guard4j.classification.Level;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+
+class ErrorRegistryTest {
+
+    @Test
+    void shouldRegisterCoreErrorsByDefault() {
+        assertThat(ErrorRegistry.byName("RESOURCE_NOT_FOUND"))
+            .hasValueSatisfying(entry -> assertThat(entry.error()).isSameAs(CoreError.RESOURCE_NOT_FOUND));
+        assertThat(ErrorRegistry.byCode("resource-not-found"))
+            .hasValueSatisfying(entry -> assertThat(entry.error()).isSameAs(CoreError.RESOURCE_NOT_FOUND));
+    }
+
+    @Test
+    void shouldAssignDenseStableIds() {
+        ErrorRegistry.register(TestError.class);
+
+        int first = ErrorRegistry.id(TestError.FIRST_TEST_ERROR);
+        int second = ErrorRegistry.id(TestError.SECOND_TEST_ERROR);
+
+        assertThat(second).isEqualTo(first + 1);
+        assertThat(second).isLessThan(ErrorRegistry.size());
+        assertThat(ErrorRegistry.byId(first).error()).isSameAs(TestError.FIRST_TEST_ERROR);
+
+        ErrorRegistry.register(TestError.class);
+        assertThat(ErrorRegistry.id(TestError.FIRST_TEST_ERROR)).isEqualTo(first);
+    }
+
+    @Test
+    void shouldCacheErrorAttributes() {
+        ErrorRegistry.Entry entry = ErrorRegistry.entry(TestError.SECOND_TEST_ERROR);
+
+        assertThat(entry.code()).isEqualTo("second-test-error");
+        assertThat(entry.httpStatus()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(entry.level()).isEqualTo(Level.WARN);
+        assertThat(entry.category()).isEqualTo(Category.BUSINESS);
+        assertThat(TestError.SECOND_TEST_ERROR.code()).isSameAs(entry.code());
+    }
+
+    @Test
+    void shouldRegisterUnknownErrorsOnFirstUse() {
+        int size = ErrorRegistry.size();
+
+        int id = ErrorRegistry.id(LazyError.LAZY_TEST_ERROR);
+
+        assertThat(id).isGreaterThanOrEqualTo(size);
+        assertThat(ErrorRegistry.byName("LAZY_TEST_ERROR")).isPresent();
+    }
+
+    @Test
+    void shouldNotRegisterNonEnumErrorsOnUse() {
+        int size = ErrorRegistry.size();
+        Error error = new DynamicError("DYNAMIC_TEST_ERROR");
+
+        ErrorRegistry.Entry entry = ErrorRegistry.entry(error);
+        int id = ErrorRegistry.id(new DynamicError("OTHER_DYNAMIC_TEST_ERROR"));
+
+        assertThat(entry.id()).isEqualTo(ErrorRegistry.UNREGISTERED);
+        assertThat(entry.error()).isSameAs(error);
+        assertThat(entry.code()).isEqualTo("dynamic-test-error");
+        assertThat(id).isEqualTo(ErrorRegistry.UNREGISTERED);
+        assertThat(ErrorRegistry.size()).isEqualTo(size);
+        assertThat(ErrorRegistry.byName("DYNAMIC_TEST_ERROR")).isEmpty();
+    }
+
+    @Test
+    void shouldRegisterNonEnumErrorsExplicitly() {
+        Error error = new DynamicError("REGISTERED_DYNAMIC_TEST_ERROR");
+
+        int id = ErrorRegistry.register(error).id();
+
+        assertThat(ErrorRegistry.id(error)).isEqualTo(id).isNotEqualTo(ErrorRegistry.UNREGISTERED);
+        assertThat(ErrorRegistry.byId(id).error()).isSameAs(error);
+    }
+
+    @Test
+    void shouldKeepFirstRegisteredErrorForDuplicateNames() {
+        ErrorRegistry.register(DuplicateError.class);
+
+        assertThat(ErrorRegistry.byName("RESOURCE_NOT_FOUND"))
+            .hasValueSatisfying(entry -> assertThat(entry.error()).isSameAs(CoreError.RESOURCE_NOT_FOUND));
+        assertThat(ErrorRegistry.byId(ErrorRegistry.id(DuplicateError.RESOURCE_NOT_FOUND)).error())
+            .isSameAs(DuplicateError.RESOURCE_NOT_FOUND);
+    }
+
+    @Test
+    void shouldHandleUnknownLookups() {
+        assertThat(ErrorRegistry.byName("NO_SUCH_ERROR")).isEmpty();
+        assertThat(ErrorRegistry.byCode("no-such-error")).isEmpty();
+        assertThatThrownBy(() -> ErrorRegistry.byId(Integer.MAX_VALUE))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    private enum TestError implements Error {
+        FIRST_TEST_ERROR(HttpStatus.NOT_FOUND, Level.INFO),
+        SECOND_TEST_ERROR(HttpStatus.CONFLICT, Level.WARN);
+
+        private final HttpStatus httpStatus;
+        private final Level level;
+
+        TestError(HttpStatus httpStatus, Level level) {
+            this.httpStatus = httpStatus;
+            this.level = level;
+        }
+
+        @Override public HttpStatus httpStatus() { return httpStatus; }
+        @Override public String message() { return name(); }
+        @Override public Level level() { return level; }
+        @Override public Category category() { return Category.BUSINESS; }
+    }
+
+    private enum LazyError implements Error {
+        LAZY_TEST_ERROR;
+
+        @Override public HttpStatus httpStatus() { return HttpStatus.BAD_REQUEST; }
+        @Override public String message() { return "Lazy"; }
+        @Override public Level level() { return Level.INFO; }
+        @Override public Category category() { return Category.VALIDATION; }
+    }
+
+    private enum DuplicateError implements Error {
+        RESOURCE_NOT_FOUND;
+
+        @Override public HttpStatus httpStatus() { return HttpStatus.NOT_FOUND; }
+        @Override public String message() { return "Duplicate"; }
+        @Override public Level level() { return Level.INFO; }
+        @Override public Category category() { return Category.BUSINESS; }
+    }
+
+    private record DynamicError(String name) implements Error {
+        @Override public HttpStatus httpStatus() { return HttpStatus.BAD_REQUEST; }
+        @Override public String message() { return "Dynamic"; }
+        @Override public Level level() { return Level.INFO; }
+        @Override public Category category() { return Category.VALIDATION; }
+    }
+}
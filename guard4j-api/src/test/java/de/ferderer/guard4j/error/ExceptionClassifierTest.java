@@ -0,0 +1,87 @@
+package de.ferderer.guard4j.error;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+
+class ExceptionClassifierTest {
+
+    private final ExceptionClassifier<CoreError> classifier = ExceptionClassifier.<CoreError>builder()
+        .map(IOException.class, CoreError.INTERNAL_ERROR)
+        .map(IllegalArgumentException.class, CoreError.INVALID_VALUE)
+        .map("java.lang.IllegalStateException", CoreError.OPERATION_NOT_ALLOWED)
+        .build();
+
+    @Test
+    void shouldClassifyMappedClass() {
+        assertThat(classifier.classify(new IllegalArgumentException())).contains(CoreError.INVALID_VALUE);
+        assertThat(classifier.classify(new IllegalStateException())).contains(CoreError.OPERATION_NOT_ALLOWED);
+    }
+
+    @Test
+    void shouldClassifySubclassesLikeNearestMappedAncestor() {
+        assertThat(classifier.classify(new NumberFormatException())).contains(CoreError.INVALID_VALUE);
+        assertThat(classifier.classify(new FileNotFoundException())).contains(CoreError.INTERNAL_ERROR);
+        assertThat(classifier.classify(new CustomArgumentException())).contains(CoreError.INVALID_VALUE);
+    }
+
+    @Test
+    void shouldPreferMoreSpecificMapping() {
+        ExceptionClassifier<CoreError> specific = ExceptionClassifier.<CoreError>builder()
+            .map(IllegalArgumentException.class, CoreError.INVALID_VALUE)
+            .map(NumberFormatException.class, CoreError.INVALID_FORMAT)
+            .build();
+
+        assertThat(specific.classify(new NumberFormatException())).contains(CoreError.INVALID_FORMAT);
+        assertThat(specific.classify(new IllegalArgumentException())).contains(CoreError.INVALID_VALUE);
+    }
+
+    @Test
+    void shouldClassifyByCause() {
+        RuntimeException wrapped = new RuntimeException(new UncheckedIOException(new FileNotFoundException()));
+
+        assertThat(classifier.classify(wrapped)).contains(CoreError.INTERNAL_ERROR);
+    }
+
+    @Test
+    void shouldStopAtMaxDepth() {
+        ExceptionClassifier<CoreError> shallow = ExceptionClassifier.<CoreError>builder()
+            .map(IOException.class, CoreError.INTERNAL_ERROR)
+            .maxDepth(2)
+            .build();
+
+        assertThat(shallow.classify(new RuntimeException(new IOException()))).contains(CoreError.INTERNAL_ERROR);
+        assertThat(shallow.classify(new RuntimeException(new RuntimeException(new IOException())))).isEmpty();
+    }
+
+    @Test
+    void shouldReturnEmptyForUnmappedOrNullException() {
+        assertThat(classifier.classify(new RuntimeException())).isEmpty();
+        assertThat(classifier.classify(null)).isEmpty();
+    }
+
+    @Test
+    void shouldLetLaterMappingsOverrideDefaults() {
+        ExceptionClassifier<CoreError> overridden = ExceptionClassifier.<CoreError>builder()
+            .map(IllegalArgumentException.class, CoreError.INVALID_VALUE)
+            .map(IllegalArgumentException.class, CoreError.VALIDATION_FAILED)
+            .build();
+
+        assertThat(overridden.classify(new IllegalArgumentException())).contains(CoreError.VALIDATION_FAILED);
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> ExceptionClassifier.<CoreError>builder().map(" ", CoreError.INVALID_VALUE))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ExceptionClassifier.<CoreError>builder().map(IOException.class, null))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ExceptionClassifier.<CoreError>builder().maxDepth(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static class CustomArgumentException extends NumberFormatException {}
+}
@@ -2,6 +2,7 @@ package de.ferderer.guard4j.http;
 
 import de.ferderer.guard4j.classification.HttpStatus;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.junit.jupiter.api.Test;
 
 class HttpStatusTest {
@@ -137,4 +138,29 @@ class HttpStatusTest {
         assertThat(upperBound2xx.is2xxSuccessful()).isTrue();
         assertThat(upperBound2xx.is3xxRedirection()).isFalse();
     }
+
+    @Test
+    void shouldReturnSharedInstancesForStandardStatuses() {
+        assertThat(HttpStatus.of(404, "Not Found")).isSameAs(HttpStatus.NOT_FOUND);
+        assertThat(HttpStatus.of(429)).isSameAs(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(HttpStatus.of(418, "I'm a teapot")).isSameAs(HttpStatus.of(418, "I'm a teapot"));
+    }
+
+    @Test
+    void shouldAllocateForCustomReasonPhrases() {
+        HttpStatus custom = HttpStatus.of(404, "Nothing Here");
+
+        assertThat(custom).isNotSameAs(HttpStatus.NOT_FOUND);
+        assertThat(custom.reason()).isEqualTo("Nothing Here");
+        assertThat(custom).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(custom.hashCode()).isEqualTo(HttpStatus.NOT_FOUND.hashCode());
+    }
+
+    @Test
+    void shouldRejectUnknownStandardStatus() {
+        assertThatThrownBy(() -> HttpStatus.of(499))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HttpStatus.of(700))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -0,0 +1,90 @@
+package de.ferderer.guard4j.journal;
+
+import de.ferderer.guard4j.classification.Level;
+import de.ferderer.guard4j.observability.ObservableEvent;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JournalCliTest {
+
+    private static final Instant START = Instant.parse("2025-09-07T15:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void setUp() {
+        try (JournalObservabilityProcessor processor = new JournalObservabilityProcessor(new JournalConfig(directory))) {
+            for (int i = 0; i < 10; i++) {
+                processor.processWithLevel(new CliEvent(START.plusSeconds(i), i), i < 5 ? Level.INFO : Level.ERROR,
+                    "com.example.OrderService");
+            }
+        }
+    }
+
+    @Test
+    void shouldCountSelectedEvents() {
+        int exitCode = run(directory.toString(), "count", "--level", "error", "--from", "2025-09-07T15:00:08Z");
+
+        assertThat(exitCode).isZero();
+        assertThat(output()).isEqualTo("2");
+    }
+
+    @Test
+    void shouldListEventsInJournalOrder() {
+        int exitCode = run(directory.toString(), "list", "--to", "2025-09-07T15:00:02Z");
+
+        assertThat(exitCode).isZero();
+        assertThat(output().lines()).hasSize(2)
+            .allMatch(line -> line.contains("eventType=cli-event"))
+            .first().asString().contains("metric=0");
+    }
+
+    @Test
+    void shouldPrintStatisticsPerEventType() {
+        int exitCode = run(directory.toString(), "stats", "--type", "cli-event");
+
+        assertThat(exitCode).isZero();
+        assertThat(output().lines()).hasSize(2);
+        assertThat(output().lines().skip(1).findFirst().orElseThrow().split("\\s+"))
+            .containsExactly("cli-event", "10", "0", "4.50", "4.0", "8.0", "9.0", "9");
+    }
+
+    @Test
+    void shouldRejectInvalidArguments() {
+        assertThat(run(directory.toString())).isEqualTo(2);
+        assertThat(run(directory.toString(), "count", "--level")).isEqualTo(2);
+        assertThat(run(directory.toString(), "count", "--from", "yesterday")).isEqualTo(2);
+        assertThat(run(directory.toString(), "delete")).isEqualTo(2);
+        assertThat(run(directory.toString(), "replay", String.class.getName())).isEqualTo(2);
+        assertThat(run(directory.resolve("missing").toString(), "count")).isEqualTo(2);
+        assertThat(err.toString(StandardCharsets.UTF_8)).contains("usage:");
+    }
+
+    private int run(String... args) {
+        return JournalCli.run(args, new PrintStream(out, true, StandardCharsets.UTF_8),
+            new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    private String output() {
+        return out.toString(StandardCharsets.UTF_8).strip();
+    }
+
+    private record CliEvent(Instant timestamp, int metric) implements ObservableEvent {
+
+        @Override
+        public String eventType() {
+            return "cli-event";
+        }
+    }
+}
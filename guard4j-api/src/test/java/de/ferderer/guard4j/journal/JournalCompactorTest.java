@@ -0,0 +1,254 @@
+package de.ferderer.guard4j.journal;
+
+import de.ferderer.guard4j.classification.Level;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import static de.ferderer.guard4j.journal.JournalFixtures.START;
+import static de.ferderer.guard4j.journal.JournalFixtures.journal;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JournalCompactorTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldFindSameEventsAfterCompaction() throws IOException {
+        // Given
+        journal(new JournalConfig(directory, 1 << 20, Duration.ofHours(1), false), 20_000);
+        JournalScanner scanner = new JournalScanner(directory);
+        List<JournalQuery> queries = List.of(
+            JournalQuery.all(),
+            JournalQuery.all().withCorrelationId("corr-4711"),
+            JournalQuery.all().withContext("userId", "user-4").withMinimumLevel(Level.WARN),
+            JournalQuery.all().withTimeRange(START.plusSeconds(5_000), START.plusSeconds(5_100)),
+            JournalQuery.all().withCorrelationId("absent"));
+        List<Long> plain = new ArrayList<>();
+        for (JournalQuery query : queries) {
+            plain.add(scanner.count(query));
+        }
+        List<JournalRecord> plainRecords = records(scanner, JournalQuery.all());
+        List<JournalRecord> plainRange = records(scanner, queries.get(3));
+        int segments = JournalReader.segments(directory).size();
+
+        // When
+        try (JournalCompactor compactor = compactor(new CompactionConfig())) {
+            compactor.runOnce();
+            assertThat(compactor.compactedCount()).isEqualTo(segments);
+        }
+
+        // Then
+        assertThat(JournalReader.segments(directory)).hasSize(segments).allMatch(JournalFormat::isCompressed);
+        assertThat(files(".g4j")).isEmpty();
+        List<Long> compressed = new ArrayList<>();
+        for (JournalQuery query : queries) {
+            compressed.add(scanner.count(query));
+        }
+        assertThat(compressed).isEqualTo(plain).containsExactly(20_000L, 1L, 1_000L, 100L, 0L);
+        assertThat(records(scanner, JournalQuery.all())).isEqualTo(plainRecords);
+        assertThat(records(scanner, queries.get(3))).isEqualTo(plainRange);
+    }
+
+    @Test
+    void shouldKeepIndexOfCompactedSegments() throws IOException {
+        journal(new JournalConfig(directory, 1 << 20, Duration.ofHours(1), false), 10_000);
+        Path segment = JournalReader.segments(directory).get(0);
+        long eventCount = SegmentIndex.open(segment).eventCount();
+        long plainSize = Files.size(segment);
+
+        try (JournalCompactor compactor = compactor(new CompactionConfig())) {
+            compactor.runOnce();
+        }
+
+        Path compressed = JournalReader.segments(directory).get(0);
+        assertThat(compressed.getFileName().toString()).endsWith(".g4z");
+        assertThat(SegmentIndex.open(compressed).eventCount()).isEqualTo(eventCount);
+        assertThat(Files.size(compressed)).isLessThan(plainSize / 4);
+        List<JournalRecord> records = new ArrayList<>();
+        JournalReader.readSegment(compressed, records::add);
+        assertThat(records).hasSize((int) eventCount);
+    }
+
+    @Test
+    void shouldDeleteOldestSegmentsBeyondMaxTotalBytes() throws IOException {
+        // Given
+        journal(new JournalConfig(directory, 1 << 16, Duration.ofHours(1), false), 20_000);
+        List<Path> segments = JournalReader.segments(directory);
+
+        // When
+        try (JournalCompactor compactor = compactor(new CompactionConfig(JournalCodec.deflate(), 100_000, null,
+                CompactionConfig.UNBOUNDED, Duration.ofHours(1)))) {
+            compactor.runOnce();
+            assertThat(compactor.deletedCount()).isPositive();
+        }
+
+        // Then
+        List<Path> remaining = JournalReader.segments(directory);
+        long total = 0;
+        long events = 0;
+        for (Path segment : remaining) {
+            total += Files.size(segment) + Files.size(SegmentIndex.fileOf(segment));
+            events += SegmentIndex.open(segment).eventCount();
+        }
+        assertThat(total).isLessThanOrEqualTo(100_000);
+        assertThat(remaining).isNotEmpty().hasSizeLessThan(segments.size());
+        assertThat(JournalFormat.sequenceOf(remaining.get(remaining.size() - 1)))
+            .isEqualTo(JournalFormat.sequenceOf(segments.get(segments.size() - 1)));
+        assertThat(files(".g4i")).hasSameSizeAs(remaining);
+        assertThat(new JournalScanner(directory).count(JournalQuery.all())).isEqualTo(events);
+    }
+
+    @Test
+    void shouldNeverDeleteSegmentBeingWritten() throws IOException {
+        JournalConfig config = new JournalConfig(directory, 1 << 16, Duration.ofHours(1), false);
+        journal(config, 5_000);
+        try (JournalObservabilityProcessor processor = new JournalObservabilityProcessor(config);
+             JournalCompactor compactor = compactor(new CompactionConfig(JournalCodec.deflate(), 1, Duration.ofSeconds(1),
+                 CompactionConfig.UNBOUNDED, Duration.ofHours(1)))) {
+            processor.processWithLevel(new JournalFixtures.IndexedEvent(START, 1), Level.INFO, "com.example.OrderService");
+
+            compactor.runOnce();
+
+            assertThat(JournalReader.segments(directory)).hasSize(1);
+            assertThat(new JournalScanner(directory).count(JournalQuery.all())).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldIndexSealedSegmentsLeftWithoutIndex() throws IOException {
+        // Given
+        journal(new JournalConfig(directory, 1 << 16, Duration.ofHours(1), false), 5_000);
+        List<Path> segments = JournalReader.segments(directory);
+        Path sealed = segments.get(0);
+        Path last = segments.get(segments.size() - 1);
+        Files.delete(SegmentIndex.fileOf(sealed));
+        Files.delete(SegmentIndex.fileOf(last));
+
+        try (JournalCompactor compactor = compactor(new CompactionConfig())) {
+            // When
+            compactor.runOnce();
+
+            // Then
+            assertThat(compactor.compactedCount()).isEqualTo(segments.size() - 2);
+            assertThat(sealed).exists();
+
+            // When
+            compactor.runOnce();
+
+            // Then
+            assertThat(compactor.compactedCount()).isEqualTo(segments.size() - 1);
+        }
+        assertThat(sealed).doesNotExist();
+        assertThat(JournalReader.segments(directory).get(0)).satisfies(segment -> {
+            assertThat(JournalFormat.isCompressed(segment)).isTrue();
+            assertThat(SegmentIndex.open(segment).eventCount()).isPositive();
+        });
+        assertThat(last).exists();
+        assertThat(SegmentIndex.fileOf(last)).doesNotExist();
+        assertThat(new JournalScanner(directory).count(JournalQuery.all())).isEqualTo(5_000);
+    }
+
+    @Test
+    void shouldDeleteSegmentsOlderThanMaxAge() throws IOException {
+        // Given
+        journal(new JournalConfig(directory, 1 << 16, Duration.ofHours(1), false), 20_000);
+        Instant cutoff = START.plusMillis(10_000_500);
+        long expected = 0;
+        for (Path segment : JournalReader.segments(directory)) {
+            SegmentIndex index = SegmentIndex.open(segment);
+            if (index.maxTimestampMicros() >= JournalFormat.toMicros(cutoff)) {
+                expected += index.eventCount();
+            }
+        }
+
+        // When
+        try (JournalCompactor compactor = compactor(new CompactionConfig(CompactionConfig.UNBOUNDED,
+                Duration.between(cutoff, Instant.now())))) {
+            compactor.runOnce();
+        }
+
+        // Then
+        long count = new JournalScanner(directory).count(JournalQuery.all());
+        assertThat(count).isEqualTo(expected).isBetween(10_000L, 11_000L);
+        assertThat(new JournalScanner(directory).count(JournalQuery.all().withTimeRange(null, cutoff)))
+            .isLessThan(1_000);
+    }
+
+    @Test
+    void shouldCompactInBackground() throws Exception {
+        journal(new JournalConfig(directory, 1 << 16, Duration.ofHours(1), false), 2_000);
+
+        try (JournalCompactor compactor = compactor(new CompactionConfig(JournalCodec.deflate(),
+                CompactionConfig.UNBOUNDED, null, 1 << 20, Duration.ofMillis(10)))) {
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (!files(".g4j").isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+
+        assertThat(files(".g4j")).isEmpty();
+        assertThat(new JournalScanner(directory).count(JournalQuery.all())).isEqualTo(2_000);
+    }
+
+    @Test
+    void shouldRoundTripBlocksWithDeflate() throws IOException {
+        JournalCodec codec = JournalCodec.forName("deflate");
+        byte[] block = new byte[100_000];
+        for (int i = 0; i < block.length; i++) {
+            block[i] = (byte) (i % 97 < 50 ? i % 7 : i);
+        }
+
+        ByteBuffer compressed = codec.compress(ByteBuffer.wrap(block));
+        ByteBuffer target = ByteBuffer.allocate(block.length);
+        codec.decompress(compressed.duplicate(), target);
+
+        assertThat(compressed.remaining()).isLessThan(block.length / 2);
+        assertThat(target.array()).isEqualTo(block);
+        assertThatThrownBy(() -> codec.decompress(compressed.duplicate().limit(compressed.limit() / 2),
+            ByteBuffer.allocate(block.length)))
+            .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> JournalCodec.forName("absent"))
+            .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new JournalCompactor(directory, null))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CompactionConfig(0, null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxTotalBytes");
+        assertThatThrownBy(() -> new CompactionConfig(CompactionConfig.UNBOUNDED, Duration.ZERO))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxAge");
+        assertThatThrownBy(() -> new CompactionConfig(null, 1, null, 1, Duration.ofMinutes(1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("codec");
+    }
+
+    private JournalCompactor compactor(CompactionConfig config) {
+        return new JournalCompactor(directory, config);
+    }
+
+    private List<JournalRecord> records(JournalScanner scanner, JournalQuery query) throws IOException {
+        List<JournalRecord> records = new ArrayList<>();
+        scanner.forEachOrdered(query, records::add);
+        return records;
+    }
+
+    private List<Path> files(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(suffix)).toList();
+        }
+    }
+}
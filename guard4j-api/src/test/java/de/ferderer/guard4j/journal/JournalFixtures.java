@@ -0,0 +1,71 @@
+package de.ferderer.guard4j.journal;
+
+import de.ferderer.guard4j.classification.Level;
+import de.ferderer.guard4j.observability.ContextExtractor;
+import de.ferderer.guard4j.observability.ObservableEvent;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Journals written by the index and compaction tests.
+ */
+final class JournalFixtures {
+
+    static final Instant START = Instant.parse("2025-09-07T15:00:00Z");
+
+    private JournalFixtures() {
+    }
+
+    /**
+     * Journal one event per second from {@link #START}, every fourth at {@link Level#WARN},
+     * each with a unique correlation ID and one of ten user IDs.
+     */
+    static void journal(JournalConfig config, int events) {
+        try (JournalObservabilityProcessor processor = new JournalObservabilityProcessor(config)) {
+            processor.setContextExtractor(new SequenceContextExtractor());
+            for (int i = 0; i < events; i++) {
+                processor.processWithLevel(new IndexedEvent(START.plusSeconds(i), i),
+                    i % 4 == 0 ? Level.WARN : Level.INFO, "com.example.OrderService");
+            }
+        }
+    }
+
+    record IndexedEvent(Instant timestamp, int metric) implements ObservableEvent {
+
+        @Override
+        public String eventType() {
+            return "indexed-event";
+        }
+    }
+
+    /**
+     * Context with a unique correlation ID per event and one of ten user IDs.
+     */
+    static final class SequenceContextExtractor implements ContextExtractor {
+
+        private final AtomicLong sequence = new AtomicLong();
+
+        @Override
+        public Map<String, String> extractContext() {
+            long next = sequence.getAndIncrement();
+            return Map.of(JournalQuery.CORRELATION_ID_KEY, "corr-" + next, "userId", "user-" + next % 10);
+        }
+
+        @Override
+        public Optional<String> extractTraceId() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> extractUserId() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> extractCorrelationId() {
+            return Optional.empty();
+        }
+    }
+}
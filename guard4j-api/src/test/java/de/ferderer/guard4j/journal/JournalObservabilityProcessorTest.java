@@ -0,0 +1,268 @@
+package de.ferderer.guard4j.journal;
+
+import de.ferderer.guard4j.classification.Level;
+import de.ferderer.guard4j.observability.ContextExtractor;
+import de.ferderer.guard4j.observability.ObservableEvent;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JournalObservabilityProcessorTest {
+
+    private static final Instant TIMESTAMP = Instant.parse("2025-09-07T15:30:45.123456Z");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldReadBackJournaledEvents() throws IOException {
+        try (JournalObservabilityProcessor processor = new JournalObservabilityProcessor(new JournalConfig(directory))) {
+            processor.setContextExtractor(new FixedContextExtractor(Map.of("traceId", "trace-1")));
+            processor.processWithLevel(new OrderEvent(TIMESTAMP, 3), Level.WARN, "com.example.OrderService");
+            processor.processTimed(new OrderEvent(TIMESTAMP, 1), 2_500, Level.DEBUG, "com.example.OrderService");
+            processor.process(new OrderEvent(TIMESTAMP, 7));
+        }
+
+        List<JournalRecord> records = readAll();
+
+        assertThat(records).containsExactly(
+            new JournalRecord(TIMESTAMP, Level.WARN, "com.example.OrderService", "order-event", 3, -1,
+                Map.of("traceId", "trace-1")),
+            new JournalRecord(TIMESTAMP, Level.DEBUG, "com.example.OrderService", "order-event", 1, 2_500,
+                Map.of("traceId", "trace-1")),
+            new JournalRecord(TIMESTAMP, Level.INFO, null, "order-event", 7, -1, Map.of("traceId", "trace-1")));
+        assertThat(records.get(1).isTimed()).isTrue();
+    }
+
+    @Test
+    void shouldRollToNewSegmentWhenFull() throws IOException {
+        JournalConfig config = new JournalConfig(directory, JournalConfig.MIN_SEGMENT_SIZE, Duration.ofHours(1), false);
+        try (JournalObservabilityProcessor processor = new JournalObservabilityProcessor(config)) {
+            for (int i = 0; i < 1000; i++) {
+                processor.processWithLevel(new OrderEvent(TIMESTAMP, i), Level.INFO, "com.example.OrderService");
+            }
+            assertThat(processor.droppedCount()).isZero();
+        }
+
+        assertThat(JournalReader.segments(directory)).hasSizeGreaterThan(1);
+        assertThat(readAll()).extracting(JournalRecord::metric)
+            .containsExactlyElementsOf(IntStream.range(0, 1000).boxed().toList());
+    }
+
+    @Test
+    void shouldRollToNewSegmentAfterInterval() throws Exception {
+        JournalConfig config = new JournalConfig(directory, 1 << 16, Duration.ofMillis(200), false);
+        try (JournalObservabilityProcessor processor = new JournalObservabilityProcessor(config)) {
+            processor.processWithLevel(new OrderEvent(TIMESTAMP, 1), Level.INFO, "com.example.OrderService");
+            Thread.sleep(300);
+            processor.processWithLevel(new OrderEvent(TIMESTAMP, 2), Level.INFO, "com.example.OrderService");
+        }
+
+        assertThat(JournalReader.segments(directory)).hasSize(2);
+        assertThat(readAll()).extracting(JournalRecord::metric).containsExactly(1, 2);
+    }
+
+    @Test
+    void shouldJournalFromConcurrentWriters() throws Exception {
+        JournalConfig config = new JournalConfig(directory, 1 << 16, Duration.ofHours(1), false);
+        try (JournalObservabilityProcessor processor = new JournalObservabilityProcessor(config)) {
+            Thread[] writers = new Thread[4];
+            for (int t = 0; t < writers.length; t++) {
+                String loggerName = "com.example.Writer" + t;
+                writers[t] = new Thread(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        processor.processWithLevel(new OrderEvent(TIMESTAMP, i), Level.INFO, loggerName);
+                    }
+                });
+                writers[t].start();
+            }
+            for (Thread writer : writers) {
+                writer.join();
+            }
+            assertThat(processor.droppedCount()).isZero();
+        }
+
+        List<JournalRecord> records = readAll();
+        assertThat(records).hasSize(40_000);
+        for (int t = 0; t < 4; t++) {
+            String loggerName = "com.example.Writer" + t;
+            assertThat(records).filteredOn(record -> loggerName.equals(record.loggerName()))
+                .extracting(JournalRecord::metric)
+                .containsExactlyElementsOf(IntStream.range(0, 10_000).boxed().toList());
+        }
+    }
+
+    @Test
+    void shouldDropEventsLargerThanSegment() {
+        JournalConfig config = new JournalConfig(directory, JournalConfig.MIN_SEGMENT_SIZE, Duration.ofHours(1), false);
+        try (JournalObservabilityProcessor processor = new JournalObservabilityProcessor(config)) {
+            processor.setContextExtractor(new FixedContextExtractor(Map.of("payload", "x".repeat(5000))));
+
+            processor.processWithLevel(new OrderEvent(TIMESTAMP, 1), Level.INFO, null);
+
+            assertThat(processor.droppedCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldSkipRecordsThatWereNotCommitted() throws IOException {
+        try (JournalObservabilityProcessor processor = new JournalObservabilityProcessor(new JournalConfig(directory))) {
+            processor.processWithLevel(new OrderEvent(TIMESTAMP, 1), Level.INFO, null);
+            processor.processWithLevel(new OrderEvent(TIMESTAMP, 2), Level.INFO, null);
+        }
+
+        // Reset the commit marker of the first event, which follows the event type definition
+        Path segment = JournalReader.segments(directory).get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer length = ByteBuffer.allocate(4).order(JournalFormat.ORDER);
+            channel.read(length, JournalFormat.HEADER_SIZE);
+            int eventOffset = JournalFormat.HEADER_SIZE + length.getInt(0);
+            channel.write(ByteBuffer.allocate(4), eventOffset + 4);
+        }
+
+        assertThat(readAll()).extracting(JournalRecord::metric).containsExactly(2);
+    }
+
+    @Test
+    void shouldReadRecordsAfterSpaceReservedButNeverWritten() throws IOException {
+        // Given
+        JournalSegment segment = JournalSegment.create(directory.resolve(JournalFormat.fileName(0)), 0,
+            JournalConfig.MIN_SEGMENT_SIZE, 0, Long.MAX_VALUE);
+        writeEvent(segment, 1);
+        // A writer stalled between the atomic add and writing the record length
+        int torn = segment.reserve(JournalFormat.align(JournalFormat.EVENT_FIXED_SIZE));
+        segment.buffer().putInt(torn, 0);
+        writeEvent(segment, 2);
+        segment.seal();
+
+        // When
+        SegmentCursor sealed = SegmentCursor.sealed(segment, Duration.ofMillis(10).toNanos());
+        List<Integer> sealedMetrics = metrics(sealed);
+        SegmentIndex.write(SegmentCursor.open(segment.file()));
+        Path compressed = directory.resolve("compacted.tmp");
+        CompressedSegment.write(segment.file(), SegmentIndex.open(segment.file()).blockOffsets(),
+            JournalCodec.deflate(), compressed, bytes -> { });
+
+        // Then
+        assertThat(sealedMetrics).containsExactly(1, 2);
+        assertThat(sealed.isComplete()).isFalse();
+        assertThat(readAll()).extracting(JournalRecord::metric).containsExactly(1, 2);
+        assertThat(SegmentIndex.open(segment.file()).eventCount()).isEqualTo(2);
+        List<JournalRecord> records = new ArrayList<>();
+        JournalReader.readSegment(compressed, records::add);
+        assertThat(records).extracting(JournalRecord::metric).containsExactly(1, 2);
+    }
+
+    @Test
+    void shouldStartNewSegmentAfterExistingOnes() throws IOException {
+        try (JournalObservabilityProcessor processor = new JournalObservabilityProcessor(new JournalConfig(directory))) {
+            processor.processWithLevel(new OrderEvent(TIMESTAMP, 1), Level.INFO, null);
+        }
+        try (JournalObservabilityProcessor processor = new JournalObservabilityProcessor(new JournalConfig(directory))) {
+            processor.processWithLevel(new OrderEvent(TIMESTAMP, 2), Level.INFO, null);
+        }
+
+        assertThat(JournalReader.segments(directory)).extracting(path -> path.getFileName().toString())
+            .containsExactly(JournalFormat.fileName(0), JournalFormat.fileName(1));
+        assertThat(readAll()).extracting(JournalRecord::metric).containsExactly(1, 2);
+    }
+
+    @Test
+    void shouldDropEventsAfterClose() {
+        JournalObservabilityProcessor processor = new JournalObservabilityProcessor(new JournalConfig(directory));
+        processor.close();
+
+        processor.processWithLevel(new OrderEvent(TIMESTAMP, 1), Level.INFO, null);
+
+        assertThat(processor.droppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectInvalidConfig() {
+        assertThatThrownBy(() -> new JournalConfig(null))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new JournalConfig(directory, 1024, Duration.ofHours(1), true))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new JournalConfig(directory, 1 << 20, Duration.ZERO, true))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new JournalObservabilityProcessor(null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectFilesThatAreNotSegments() throws IOException {
+        Path file = directory.resolve(JournalFormat.fileName(0));
+        Files.write(file, new byte[JournalFormat.HEADER_SIZE]);
+
+        assertThatThrownBy(() -> JournalReader.readSegment(file, record -> {}))
+            .isInstanceOf(IOException.class);
+    }
+
+    private static void writeEvent(JournalSegment segment, int metric) {
+        int eventTypeId = segment.idOf("order-event");
+        int offset = segment.reserve(JournalFormat.align(JournalFormat.EVENT_FIXED_SIZE));
+        int position = offset + JournalFormat.RECORD_HEADER_SIZE;
+        segment.buffer()
+            .putLong(position, JournalFormat.toMicros(TIMESTAMP))
+            .putLong(position + 8, JournalFormat.NO_DURATION)
+            .putInt(position + 16, eventTypeId)
+            .putInt(position + 20, JournalFormat.NO_ID)
+            .putInt(position + 24, metric)
+            .put(position + 28, (byte) Level.INFO.ordinal())
+            .put(position + 29, (byte) 0);
+        segment.commit(offset, JournalFormat.EVENT);
+    }
+
+    private static List<Integer> metrics(SegmentCursor cursor) {
+        List<Integer> metrics = new ArrayList<>();
+        while (cursor.next()) {
+            metrics.add(cursor.metric());
+        }
+        return metrics;
+    }
+
+    private List<JournalRecord> readAll() throws IOException {
+        List<JournalRecord> records = new ArrayList<>();
+        JournalReader.read(directory, records::add);
+        return records;
+    }
+
+    private record OrderEvent(Instant timestamp, int metric) implements ObservableEvent {}
+
+    private record FixedContextExtractor(Map<String, String> context) implements ContextExtractor {
+
+        @Override
+        public Map<String, String> extractContext() {
+            return context;
+        }
+
+        @Override
+        public Optional<String> extractTraceId() {
+            return Optional.ofNullable(context.get("traceId"));
+        }
+
+        @Override
+        public Optional<String> extractUserId() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> extractCorrelationId() {
+            return Optional.empty();
+        }
+    }
+}
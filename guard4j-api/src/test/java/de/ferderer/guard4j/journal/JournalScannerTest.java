@@ -0,0 +1,207 @@
+package de.ferderer.guard4j.journal;
+
+import de.ferderer.guard4j.classification.Level;
+import de.ferderer.guard4j.observability.ContextExtractor;
+import de.ferderer.guard4j.observability.ObservabilityProcessor;
+import de.ferderer.guard4j.observability.ObservableEvent;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JournalScannerTest {
+
+    private static final Instant START = Instant.parse("2025-09-07T15:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    private ForkJoinPool pool;
+    private JournalScanner scanner;
+
+    @BeforeEach
+    void setUp() {
+        // Small segments, so that the journal is scanned by many tasks
+        JournalConfig config = new JournalConfig(directory, JournalConfig.MIN_SEGMENT_SIZE, Duration.ofHours(1), false);
+        try (JournalObservabilityProcessor processor = new JournalObservabilityProcessor(config)) {
+            MutableContextExtractor context = new MutableContextExtractor();
+            processor.setContextExtractor(context);
+            for (int i = 0; i < 1000; i++) {
+                context.correlationId = "corr-" + (i % 10);
+                Instant timestamp = START.plusSeconds(i);
+                if (i % 2 == 0) {
+                    processor.processWithLevel(new JournaledEvent("order-placed", timestamp, i), Level.INFO, "orders");
+                } else if (i % 4 == 1) {
+                    processor.processTimed(new JournaledEvent("payment-failed", timestamp, i), 1_000L * i,
+                        Level.ERROR, "payments");
+                } else {
+                    processor.process(new JournaledEvent("cache-miss", timestamp, i));
+                }
+            }
+        }
+        pool = new ForkJoinPool(4);
+        scanner = new JournalScanner(directory, pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void shouldScanAllSegments() throws IOException {
+        assertThat(JournalReader.segments(directory)).hasSizeGreaterThan(4);
+
+        assertThat(scanner.count(JournalQuery.all())).isEqualTo(1000);
+    }
+
+    @Test
+    void shouldFilterByTimeRangeLevelTypeAndCorrelationId() throws IOException {
+        assertThat(scanner.count(JournalQuery.all().withTimeRange(START.plusSeconds(100), START.plusSeconds(200))))
+            .isEqualTo(100);
+        assertThat(scanner.count(JournalQuery.all().withTimeRange(START.plusSeconds(990), null)))
+            .isEqualTo(10);
+        assertThat(scanner.count(JournalQuery.all().withMinimumLevel(Level.WARN))).isEqualTo(250);
+        assertThat(scanner.count(JournalQuery.all().withEventTypes("order-placed", "cache-miss"))).isEqualTo(750);
+        assertThat(scanner.count(JournalQuery.all().withEventTypes("unknown"))).isZero();
+        assertThat(scanner.count(JournalQuery.all().withCorrelationId("corr-3"))).isEqualTo(100);
+        assertThat(scanner.count(JournalQuery.all().withCorrelationId("corr-3").withEventTypes("order-placed")))
+            .isZero();
+        assertThat(scanner.count(JournalQuery.all().withCorrelationId("corr-1").withEventTypes("payment-failed")))
+            .isEqualTo(50);
+    }
+
+    @Test
+    void shouldMatchDecodedRecordsLikeScan() throws IOException {
+        JournalQuery query = JournalQuery.all()
+            .withTimeRange(START.plusSeconds(250), START.plusSeconds(750))
+            .withMinimumLevel(Level.INFO)
+            .withCorrelationId("corr-5");
+        List<JournalRecord> all = new ArrayList<>();
+        JournalReader.read(directory, all::add);
+
+        List<JournalRecord> selected = new ArrayList<>();
+        scanner.forEachOrdered(query, selected::add);
+
+        assertThat(selected).isNotEmpty().isEqualTo(all.stream().filter(query::matches).toList());
+    }
+
+    @Test
+    void shouldPassSelectedEventsToConcurrentConsumer() throws IOException {
+        List<Integer> metrics = Collections.synchronizedList(new ArrayList<>());
+
+        scanner.forEach(JournalQuery.all().withEventTypes("cache-miss"), record -> metrics.add(record.metric()));
+
+        assertThat(metrics).hasSize(250).allMatch(metric -> metric % 4 == 3);
+    }
+
+    @Test
+    void shouldAggregateMetricsPerEventType() throws IOException {
+        Map<String, MetricStatistics> statistics = scanner.statistics(JournalQuery.all());
+
+        assertThat(statistics).containsOnlyKeys("order-placed", "payment-failed", "cache-miss");
+        MetricStatistics orders = statistics.get("order-placed");
+        assertThat(orders.count()).isEqualTo(500);
+        assertThat(orders.min()).isZero();
+        assertThat(orders.max()).isEqualTo(998);
+        assertThat(orders.mean()).isEqualTo(499.0);
+        assertThat(orders.percentile(50)).isCloseTo(498, within(498 * 0.03));
+        assertThat(orders.percentile(100)).isEqualTo(998);
+    }
+
+    @Test
+    void shouldReplayEventsWithJournaledLevelAndDuration() throws IOException {
+        RecordingProcessor processor = new RecordingProcessor();
+
+        long replayed = scanner.replay(JournalQuery.all().withTimeRange(START, START.plusSeconds(4)), processor);
+
+        assertThat(replayed).isEqualTo(4);
+        assertThat(processor.calls).containsExactlyInAnyOrder(
+            "processWithLevel order-placed 0 INFO orders",
+            "processTimed payment-failed 1 1000 ERROR payments",
+            "processWithLevel order-placed 2 INFO orders",
+            "process cache-miss 3");
+    }
+
+    @Test
+    void shouldHandleEmptyJournal(@TempDir Path empty) throws IOException {
+        JournalScanner emptyScanner = new JournalScanner(empty, pool);
+
+        assertThat(emptyScanner.count(JournalQuery.all())).isZero();
+        assertThat(emptyScanner.statistics(JournalQuery.all())).isEmpty();
+    }
+
+    @Test
+    void shouldRejectInvalidQuery() {
+        assertThatThrownBy(() -> JournalQuery.all().withTimeRange(START, START))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> scanner.count(null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private record JournaledEvent(String eventType, Instant timestamp, int metric) implements ObservableEvent {}
+
+    private static final class RecordingProcessor implements ObservabilityProcessor {
+
+        final ConcurrentLinkedQueue<String> calls = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public void process(ObservableEvent event) {
+            calls.add("process " + event.eventType() + " " + event.metric());
+        }
+
+        @Override
+        public void processWithLevel(ObservableEvent event, Level level, String loggerName) {
+            calls.add("processWithLevel " + event.eventType() + " " + event.metric() + " " + level + " " + loggerName);
+        }
+
+        @Override
+        public void processTimed(ObservableEvent event, long durationNanos, Level level, String loggerName) {
+            calls.add("processTimed " + event.eventType() + " " + event.metric() + " " + durationNanos
+                + " " + level + " " + loggerName);
+        }
+
+        @Override
+        public void setContextExtractor(ContextExtractor contextExtractor) {
+        }
+    }
+
+    private static final class MutableContextExtractor implements ContextExtractor {
+
+        String correlationId;
+
+        @Override
+        public Map<String, String> extractContext() {
+            return Map.of(JournalQuery.CORRELATION_ID_KEY, correlationId);
+        }
+
+        @Override
+        public Optional<String> extractTraceId() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> extractUserId() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> extractCorrelationId() {
+            return Optional.of(correlationId);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package de.ferderer.guard4j.journal;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import org.junit.jupiter.api.Test;
+
+class MetricStatisticsTest {
+
+    @Test
+    void shouldComputeExactSummary() {
+        MetricStatistics statistics = new MetricStatistics();
+
+        IntStream.of(5, -3, 10, 0).forEach(statistics::add);
+
+        assertThat(statistics.count()).isEqualTo(4);
+        assertThat(statistics.sum()).isEqualTo(12);
+        assertThat(statistics.min()).isEqualTo(-3);
+        assertThat(statistics.max()).isEqualTo(10);
+        assertThat(statistics.mean()).isEqualTo(3.0);
+    }
+
+    @Test
+    void shouldReportSmallValuesExactly() {
+        MetricStatistics statistics = new MetricStatistics();
+
+        IntStream.rangeClosed(1, 20).forEach(statistics::add);
+
+        assertThat(statistics.percentile(0)).isEqualTo(1);
+        assertThat(statistics.percentile(50)).isEqualTo(10);
+        assertThat(statistics.percentile(95)).isEqualTo(19);
+        assertThat(statistics.percentile(100)).isEqualTo(20);
+    }
+
+    @Test
+    void shouldApproximateLargeValuesWithinRelativeError() {
+        // Given latencies spanning six orders of magnitude
+        Random random = new Random(42);
+        int[] values = IntStream.range(0, 100_000)
+            .map(i -> (int) Math.exp(random.nextDouble() * 14))
+            .sorted()
+            .toArray();
+        MetricStatistics statistics = new MetricStatistics();
+
+        // When
+        for (int value : values) {
+            statistics.add(value);
+        }
+
+        // Then
+        for (double percentile : new double[] {10, 50, 90, 99, 99.9}) {
+            int exact = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            assertThat(statistics.percentile(percentile)).isCloseTo(exact, within(Math.max(1, exact * 0.03)));
+        }
+    }
+
+    @Test
+    void shouldOrderNegativeValuesBeforePositiveOnes() {
+        MetricStatistics statistics = new MetricStatistics();
+
+        IntStream.of(Integer.MIN_VALUE, -1000, -1, 1, 1000, Integer.MAX_VALUE).forEach(statistics::add);
+
+        assertThat(statistics.percentile(0)).isEqualTo(Integer.MIN_VALUE);
+        assertThat(statistics.percentile(33)).isCloseTo(-1000, within(30.0));
+        assertThat(statistics.percentile(50)).isEqualTo(-1);
+        assertThat(statistics.percentile(60)).isEqualTo(1);
+        assertThat(statistics.percentile(100)).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void shouldMergeStatistics() {
+        MetricStatistics left = new MetricStatistics();
+        MetricStatistics right = new MetricStatistics();
+        MetricStatistics all = new MetricStatistics();
+        for (int i = 0; i < 10_000; i++) {
+            (i % 3 == 0 ? left : right).add(i);
+            all.add(i);
+        }
+
+        left.merge(right);
+
+        assertThat(left.count()).isEqualTo(all.count());
+        assertThat(left.sum()).isEqualTo(all.sum());
+        assertThat(left.min()).isEqualTo(all.min());
+        assertThat(left.max()).isEqualTo(all.max());
+        assertThat(left.percentile(90)).isEqualTo(all.percentile(90));
+    }
+
+    @Test
+    void shouldHandleEmptyStatistics() {
+        MetricStatistics statistics = new MetricStatistics();
+
+        assertThat(statistics.count()).isZero();
+        assertThat(statistics.min()).isZero();
+        assertThat(statistics.mean()).isNaN();
+        assertThat(statistics.percentile(50)).isNaN();
+        assertThatThrownBy(() -> statistics.percentile(101)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
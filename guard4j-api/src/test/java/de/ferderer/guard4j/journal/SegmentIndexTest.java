@@ -0,0 +1,147 @@
+package de.ferderer.guard4j.journal;
+
+import de.ferderer.guard4j.classification.Level;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import static de.ferderer.guard4j.journal.JournalFixtures.START;
+import static de.ferderer.guard4j.journal.JournalFixtures.journal;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SegmentIndexTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldIndexEverySealedSegment() throws IOException {
+        journal(new JournalConfig(directory, 1 << 16, Duration.ofHours(1), false), 5_000);
+
+        long indexed = 0;
+        for (Path segment : JournalReader.segments(directory)) {
+            SegmentIndex index = SegmentIndex.open(segment);
+            assertThat(index).as("index of %s", segment).isNotNull();
+            List<JournalRecord> records = new ArrayList<>();
+            JournalReader.readSegment(segment, records::add);
+            assertThat(index.eventCount()).isEqualTo(records.size());
+            assertThat(index.minTimestampMicros()).isEqualTo(
+                records.stream().mapToLong(record -> JournalFormat.toMicros(record.timestamp())).min().orElseThrow());
+            assertThat(index.maxTimestampMicros()).isEqualTo(
+                records.stream().mapToLong(record -> JournalFormat.toMicros(record.timestamp())).max().orElseThrow());
+            for (JournalRecord record : records) {
+                record.context().forEach((key, value) -> assertThat(index.mightContain(key, value)).isTrue());
+            }
+            indexed += index.eventCount();
+        }
+        assertThat(indexed).isEqualTo(5_000);
+    }
+
+    @Test
+    void shouldRarelyReportAbsentContextValues() throws IOException {
+        journal(new JournalConfig(directory, 1 << 20, Duration.ofHours(1), false), 20_000);
+        SegmentIndex index = SegmentIndex.open(JournalReader.segments(directory).get(0));
+
+        long falsePositives = Stream.iterate(0, i -> i + 1).limit(10_000)
+            .filter(i -> index.mightContain(JournalQuery.CORRELATION_ID_KEY, "absent-" + i))
+            .count();
+
+        assertThat(falsePositives).isLessThan(300);
+        assertThat(index.mightContain("userId", "user-7")).isTrue();
+        assertThat(index.mightContain("traceId", "user-7")).isFalse();
+    }
+
+    @Test
+    void shouldSelectBlocksOverlappingTimeRangeAndContext() throws IOException {
+        journal(new JournalConfig(directory, 1 << 22, Duration.ofHours(1), false), 50_000);
+        SegmentIndex index = SegmentIndex.open(JournalReader.segments(directory).get(0));
+
+        int[] all = index.ranges(Long.MIN_VALUE, Long.MAX_VALUE);
+        int[] hour = index.ranges(JournalFormat.toMicros(START.plusSeconds(10_000)),
+            JournalFormat.toMicros(START.plusSeconds(11_000)));
+
+        assertThat(all).hasSize(2);
+        assertThat(hour).hasSize(2);
+        assertThat(hour[1] - hour[0]).isLessThan((all[1] - JournalFormat.HEADER_SIZE) / 10);
+
+        int[] request = index.ranges(Long.MIN_VALUE, Long.MAX_VALUE,
+            BloomFilter.hash(JournalQuery.CORRELATION_ID_KEY, "corr-31415"));
+
+        assertThat(request).hasSize(2);
+        assertThat(request[1] - request[0]).isLessThanOrEqualTo(2 * SegmentIndex.BLOCK_SIZE);
+    }
+
+    @Test
+    void shouldFindSameEventsWithAndWithoutIndex() throws IOException {
+        journal(new JournalConfig(directory, 1 << 16, Duration.ofHours(1), false), 20_000);
+        JournalScanner scanner = new JournalScanner(directory);
+        List<JournalQuery> queries = List.of(
+            JournalQuery.all(),
+            JournalQuery.all().withCorrelationId("corr-4711"),
+            JournalQuery.all().withContext("userId", "user-4").withMinimumLevel(Level.WARN),
+            JournalQuery.all().withTimeRange(START.plusSeconds(5_000), START.plusSeconds(5_100)),
+            JournalQuery.all().withTimeRange(START.plusSeconds(19_990), null).withEventTypes("indexed-event"),
+            JournalQuery.all().withCorrelationId("absent"));
+
+        List<Long> indexed = new ArrayList<>();
+        for (JournalQuery query : queries) {
+            indexed.add(scanner.count(query));
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(file -> file.toString().endsWith(".g4i")).toList()) {
+                Files.delete(file);
+            }
+        }
+        List<Long> scanned = new ArrayList<>();
+        for (JournalQuery query : queries) {
+            scanned.add(scanner.count(query));
+        }
+
+        assertThat(indexed).isEqualTo(scanned).containsExactly(20_000L, 1L, 1_000L, 100L, 10L, 0L);
+    }
+
+    @Test
+    void shouldIndexSegmentsOfEarlierRunsOnStartup() throws IOException {
+        journal(new JournalConfig(directory, 1 << 16, Duration.ofHours(1), false, false), 2_000);
+        assertThat(Files.exists(SegmentIndex.fileOf(JournalReader.segments(directory).get(0)))).isFalse();
+
+        new JournalObservabilityProcessor(new JournalConfig(directory)).close();
+
+        for (Path segment : JournalReader.segments(directory)) {
+            assertThat(SegmentIndex.open(segment)).as("index of %s", segment).isNotNull();
+        }
+    }
+
+    @Test
+    void shouldIndexAllEventsOfConcurrentWriters() throws Exception {
+        JournalConfig config = new JournalConfig(directory, 1 << 16, Duration.ofHours(1), false);
+        try (JournalObservabilityProcessor processor = new JournalObservabilityProcessor(config)) {
+            processor.setContextExtractor(new JournalFixtures.SequenceContextExtractor());
+            Thread[] writers = new Thread[4];
+            for (int t = 0; t < writers.length; t++) {
+                writers[t] = new Thread(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        processor.processWithLevel(new JournalFixtures.IndexedEvent(START.plusSeconds(i), i), Level.INFO, "writer");
+                    }
+                });
+                writers[t].start();
+            }
+            for (Thread writer : writers) {
+                writer.join();
+            }
+        }
+
+        long indexed = 0;
+        for (Path segment : JournalReader.segments(directory)) {
+            indexed += SegmentIndex.open(segment).eventCount();
+        }
+        assertThat(indexed).isEqualTo(40_000);
+        assertThat(new JournalScanner(directory).count(JournalQuery.all().withCorrelationId("corr-12345")))
+            .isEqualTo(1);
+    }
+}
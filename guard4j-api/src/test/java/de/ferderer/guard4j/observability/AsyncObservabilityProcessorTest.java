@@ -0,0 +1,352 @@
+package de.ferderer.guard4j.observability;
+
+import de.ferderer.guard4j.classification.Level;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+
+class AsyncObservabilityProcessorTest {
+
+    @Test
+    void shouldDispatchEventsInOrder() {
+        RecordingProcessor delegate = new RecordingProcessor();
+        AsyncObservabilityProcessor processor = new AsyncObservabilityProcessor(delegate, new AsyncConfig());
+
+        for (int i = 0; i < 1000; i++) {
+            processor.processWithLevel(new TestEvent(i), Level.INFO, "com.example.Service");
+        }
+        processor.close();
+
+        assertThat(delegate.metrics).hasSize(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(delegate.metrics.get(i)).isEqualTo(i);
+        }
+        assertThat(processor.droppedCount()).isZero();
+    }
+
+    @Test
+    void shouldDispatchFromMultipleProducers() throws InterruptedException {
+        RecordingProcessor delegate = new RecordingProcessor();
+        AsyncConfig config = new AsyncConfig(64, AsyncConfig.WaitStrategy.YIELD,
+            AsyncConfig.OverflowPolicy.BLOCK, Duration.ofSeconds(10));
+        AsyncObservabilityProcessor processor = new AsyncObservabilityProcessor(delegate, config);
+
+        Thread[] producers = new Thread[4];
+        for (int t = 0; t < producers.length; t++) {
+            producers[t] = new Thread(() -> {
+                for (int i = 0; i < 2500; i++) {
+                    processor.processWithLevel(new TestEvent(1), Level.DEBUG, "com.example.Service");
+                }
+            });
+            producers[t].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        processor.close();
+
+        assertThat(delegate.metrics).hasSize(10_000);
+        assertThat(processor.droppedCount()).isZero();
+    }
+
+    @Test
+    void shouldDropNewestWhenFull() throws InterruptedException {
+        BlockingProcessor delegate = new BlockingProcessor();
+        AsyncConfig config = new AsyncConfig(4, AsyncConfig.WaitStrategy.PARK,
+            AsyncConfig.OverflowPolicy.DROP_NEWEST, Duration.ZERO);
+        AsyncObservabilityProcessor processor = new AsyncObservabilityProcessor(delegate, config);
+
+        processor.processWithLevel(new TestEvent(0), Level.INFO, "logger");
+        delegate.awaitFirstEvent();
+        for (int i = 1; i <= 6; i++) {
+            processor.processWithLevel(new TestEvent(i), Level.INFO, "logger");
+        }
+        delegate.release();
+        processor.close();
+
+        assertThat(delegate.metrics).containsExactly(0, 1, 2, 3, 4);
+        assertThat(processor.droppedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldDropOldestWhenFull() throws InterruptedException {
+        BlockingProcessor delegate = new BlockingProcessor();
+        AsyncConfig config = new AsyncConfig(4, AsyncConfig.WaitStrategy.PARK,
+            AsyncConfig.OverflowPolicy.DROP_OLDEST, Duration.ZERO);
+        AsyncObservabilityProcessor processor = new AsyncObservabilityProcessor(delegate, config);
+
+        processor.processWithLevel(new TestEvent(0), Level.INFO, "logger");
+        delegate.awaitFirstEvent();
+        for (int i = 1; i <= 6; i++) {
+            processor.processWithLevel(new TestEvent(i), Level.INFO, "logger");
+        }
+        delegate.release();
+        processor.close();
+
+        assertThat(delegate.metrics).containsExactly(0, 3, 4, 5, 6);
+        assertThat(processor.droppedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldDropAfterBlockTimeout() throws InterruptedException {
+        BlockingProcessor delegate = new BlockingProcessor();
+        AsyncConfig config = new AsyncConfig(2, AsyncConfig.WaitStrategy.YIELD,
+            AsyncConfig.OverflowPolicy.BLOCK, Duration.ofMillis(5));
+        AsyncObservabilityProcessor processor = new AsyncObservabilityProcessor(delegate, config);
+
+        processor.processWithLevel(new TestEvent(0), Level.INFO, "logger");
+        delegate.awaitFirstEvent();
+        for (int i = 1; i <= 3; i++) {
+            processor.processWithLevel(new TestEvent(i), Level.INFO, "logger");
+        }
+        delegate.release();
+        processor.close();
+
+        assertThat(delegate.metrics).containsExactly(0, 1, 2);
+        assertThat(processor.droppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSurviveFailingDelegate() {
+        RecordingProcessor delegate = new RecordingProcessor() {
+            @Override
+            public void processWithLevel(ObservableEvent event, Level level, String loggerName) {
+                if (event.metric() == 1) {
+                    throw new IllegalStateException("boom");
+                }
+                super.processWithLevel(event, level, loggerName);
+            }
+        };
+        AsyncObservabilityProcessor processor = new AsyncObservabilityProcessor(delegate, new AsyncConfig());
+
+        processor.processWithLevel(new TestEvent(1), Level.ERROR, "logger");
+        processor.processWithLevel(new TestEvent(2), Level.ERROR, "logger");
+        processor.close();
+
+        assertThat(delegate.metrics).containsExactly(2);
+        assertThat(processor.failedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldAccountForEventsPublishedWhileClosing() throws InterruptedException {
+        // Given
+        RecordingProcessor delegate = new RecordingProcessor();
+        AsyncObservabilityProcessor processor = new AsyncObservabilityProcessor(delegate, new AsyncConfig());
+        int perProducer = 20_000;
+        Thread[] producers = new Thread[4];
+        for (int t = 0; t < producers.length; t++) {
+            producers[t] = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    processor.processWithLevel(new TestEvent(i), Level.INFO, "logger");
+                }
+            });
+            producers[t].start();
+        }
+
+        // When
+        Thread.sleep(1);
+        processor.close();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        // Then
+        assertThat(delegate.metrics.size() + processor.droppedCount())
+            .isEqualTo((long) perProducer * producers.length);
+        assertThat(processor.pendingCount()).isZero();
+    }
+
+    @Test
+    void shouldDispatchMeasuredDurations() {
+        RecordingProcessor delegate = new RecordingProcessor();
+        AsyncObservabilityProcessor processor = new AsyncObservabilityProcessor(delegate, new AsyncConfig());
+
+        processor.processTimed(new TestEvent(1), 1_500, Level.INFO, "logger");
+        processor.processWithLevel(new TestEvent(2), Level.INFO, "logger");
+        processor.close();
+
+        assertThat(delegate.metrics).containsExactly(1, 2);
+        assertThat(delegate.durations).containsExactly(1_500L);
+    }
+
+    @Test
+    void shouldDispatchEmitTimeWhileConsumerIsBlocked() throws InterruptedException {
+        // Given
+        BlockingProcessor delegate = new BlockingProcessor();
+        AsyncObservabilityProcessor processor = new AsyncObservabilityProcessor(delegate, new AsyncConfig());
+        processor.processWithLevel(new TestEvent(0), Level.INFO, "logger");
+        delegate.awaitFirstEvent();
+
+        // When
+        Instant before = Instant.now();
+        processor.processWithLevel(new TestEvent(1), Level.INFO, "logger");
+        Instant emitted = Instant.now();
+        Instant own = Instant.parse("2025-09-07T15:00:00Z");
+        processor.processWithLevel(new TimedTestEvent(2, own), Level.INFO, "logger");
+        Thread.sleep(50);
+        Instant released = Instant.now();
+        delegate.release();
+        processor.close();
+
+        // Then
+        // Derived from System.nanoTime(), calibrated against the wall clock
+        assertThat(delegate.timestamps.get(1)).isBetween(before.minusMillis(1), emitted.plusMillis(1))
+            .isBefore(released);
+        assertThat(delegate.events.get(1)).isInstanceOf(TimestampedEvent.class);
+        assertThat(((TimestampedEvent) delegate.events.get(1)).event()).isEqualTo(new TestEvent(1));
+        assertThat(delegate.events.get(1).eventType()).isEqualTo("test-event");
+        assertThat(delegate.timestamps.get(2)).isEqualTo(own);
+        assertThat(delegate.events.get(2)).isEqualTo(new TimedTestEvent(2, own));
+    }
+
+    @Test
+    void shouldReuseTimestampedViewForDispatchedEvents() {
+        // Given
+        RecordingProcessor delegate = new RecordingProcessor();
+        AsyncObservabilityProcessor processor = new AsyncObservabilityProcessor(delegate, new AsyncConfig());
+
+        // When
+        processor.processWithLevel(new TestEvent(1), Level.INFO, "logger");
+        processor.processWithLevel(new TestEvent(2), Level.INFO, "logger");
+        processor.close();
+
+        // Then
+        assertThat(delegate.events.get(0)).isSameAs(delegate.events.get(1));
+        assertThat(((TimestampedEvent) delegate.events.get(1)).event()).isEqualTo(new TestEvent(2));
+        assertThat(delegate.timestamps.get(0)).isBeforeOrEqualTo(delegate.timestamps.get(1));
+    }
+
+    @Test
+    void shouldHandContextOfEmittingThreadToDelegate() {
+        // Given
+        ThreadLocal<String> requestTrace = new ThreadLocal<>();
+        ContextRecordingProcessor delegate = new ContextRecordingProcessor();
+        AsyncObservabilityProcessor processor = new AsyncObservabilityProcessor(delegate, new AsyncConfig());
+        processor.setContextExtractor(new ThreadLocalContextExtractor(requestTrace));
+
+        // When
+        requestTrace.set("trace-1");
+        processor.processWithLevel(new TestEvent(1), Level.INFO, "logger");
+        requestTrace.set("trace-2");
+        processor.processWithLevel(new TestEvent(2), Level.INFO, "logger");
+        requestTrace.remove();
+        processor.processWithLevel(new TestEvent(3), Level.INFO, "logger");
+        processor.close();
+
+        // Then
+        assertThat(delegate.contexts).containsExactly(
+            Map.of("traceId", "trace-1"), Map.of("traceId", "trace-2"), Map.of());
+        assertThat(delegate.traceIds).containsExactly(
+            Optional.of("trace-1"), Optional.of("trace-2"), Optional.empty());
+    }
+
+    @Test
+    void shouldRejectInvalidConfig() {
+        assertThatThrownBy(() -> new AsyncConfig(1,
+                AsyncConfig.WaitStrategy.PARK, AsyncConfig.OverflowPolicy.DROP_NEWEST, Duration.ZERO))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private record TestEvent(int metric) implements ObservableEvent {}
+
+    private record TimedTestEvent(int metric, Instant timestamp) implements ObservableEvent {}
+
+    private static class RecordingProcessor implements ObservabilityProcessor {
+        final List<Integer> metrics = new CopyOnWriteArrayList<>();
+        final List<Long> durations = new CopyOnWriteArrayList<>();
+        final List<ObservableEvent> events = new CopyOnWriteArrayList<>();
+        final List<Instant> timestamps = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void process(ObservableEvent event) {
+            metrics.add(event.metric());
+        }
+
+        @Override
+        public void processWithLevel(ObservableEvent event, Level level, String loggerName) {
+            metrics.add(event.metric());
+            events.add(event);
+            timestamps.add(event.timestamp());
+        }
+
+        @Override
+        public void processTimed(ObservableEvent event, long durationNanos, Level level, String loggerName) {
+            metrics.add(event.metric());
+            durations.add(durationNanos);
+        }
+    }
+
+    private static class ContextRecordingProcessor extends RecordingProcessor {
+        final List<Map<String, String>> contexts = new CopyOnWriteArrayList<>();
+        final List<Optional<String>> traceIds = new CopyOnWriteArrayList<>();
+        private ContextExtractor contextExtractor;
+
+        @Override
+        public void setContextExtractor(ContextExtractor contextExtractor) {
+            this.contextExtractor = contextExtractor;
+        }
+
+        @Override
+        public void processWithLevel(ObservableEvent event, Level level, String loggerName) {
+            contexts.add(contextExtractor.extractContext());
+            traceIds.add(contextExtractor.extractTraceId());
+            super.processWithLevel(event, level, loggerName);
+        }
+    }
+
+    private record ThreadLocalContextExtractor(ThreadLocal<String> traceId) implements ContextExtractor {
+
+        @Override
+        public Map<String, String> extractContext() {
+            String value = traceId.get();
+            return value != null ? Map.of("traceId", value) : Map.of();
+        }
+
+        @Override
+        public Optional<String> extractTraceId() {
+            return Optional.ofNullable(traceId.get());
+        }
+
+        @Override
+        public Optional<String> extractUserId() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> extractCorrelationId() {
+            return Optional.empty();
+        }
+    }
+
+    private static class BlockingProcessor extends RecordingProcessor {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public void processWithLevel(ObservableEvent event, Level level, String loggerName) {
+            started.countDown();
+            try {
+                released.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            super.processWithLevel(event, level, loggerName);
+        }
+
+        void awaitFirstEvent() throws InterruptedException {
+            started.await(10, TimeUnit.SECONDS);
+        }
+
+        void release() {
+            released.countDown();
+        }
+    }
+}
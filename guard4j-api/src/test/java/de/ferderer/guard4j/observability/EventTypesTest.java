@@ -0,0 +1,52 @@
+package de.ferderer.guard4j.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+
+class EventTypesTest {
+
+    @Test
+    void shouldDeriveKebabCaseFromClassName() {
+        assertThat(new PaymentProcessedEvent().eventType()).isEqualTo("payment-processed-event");
+        assertThat(EventTypes.of(PaymentProcessedEvent.class)).isEqualTo("payment-processed-event");
+    }
+
+    @Test
+    void shouldReturnCachedInstance() {
+        assertThat(new PaymentProcessedEvent().eventType())
+            .isSameAs(new PaymentProcessedEvent().eventType());
+    }
+
+    @Test
+    void shouldUseDeclaredEventType() {
+        assertThat(new DeclaredEvent().eventType()).isEqualTo("payment.declared");
+    }
+
+    @Test
+    void shouldRejectBlankDeclaredEventType() {
+        assertThatThrownBy(() -> new BlankEvent().eventType())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("BlankEvent");
+    }
+
+    @Test
+    void shouldHonourOverriddenEventType() {
+        ObservableEvent event = new ObservableEvent() {
+            @Override
+            public String eventType() {
+                return "custom";
+            }
+        };
+
+        assertThat(event.eventType()).isEqualTo("custom");
+    }
+
+    private record PaymentProcessedEvent() implements ObservableEvent {}
+
+    @EventType("payment.declared")
+    private record DeclaredEvent() implements ObservableEvent {}
+
+    @EventType(" ")
+    private record BlankEvent() implements ObservableEvent {}
+}
@@ -0,0 +1,122 @@
+package de.ferderer.guard4j.observability;
+
+import de.ferderer.guard4j.Emitter;
+import de.ferderer.guard4j.EmitterFactory;
+import de.ferderer.guard4j.classification.Level;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import jdk.jfr.consumer.RecordingStream;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JfrObservabilityProcessorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        EmitterFactory.setProcessor(null);
+    }
+
+    @Test
+    void shouldCommitEventFieldsToRecording() throws Exception {
+        JfrObservabilityProcessor processor = new JfrObservabilityProcessor();
+
+        List<RecordedEvent> events = record(() -> {
+            processor.processWithLevel(new OrderPlacedEvent(3), Level.WARN, "com.example.OrderService");
+            processor.processTimed(new OrderPlacedEvent(1), 1_500_000, Level.INFO, "com.example.OrderService");
+        });
+
+        assertThat(events).hasSize(2);
+        RecordedEvent plain = events.get(0);
+        assertThat(plain.getString(JfrObservabilityProcessor.LEVEL_FIELD)).isEqualTo("WARN");
+        assertThat(plain.getString(JfrObservabilityProcessor.LOGGER_NAME_FIELD)).isEqualTo("com.example.OrderService");
+        assertThat(plain.getString(JfrObservabilityProcessor.EVENT_TYPE_FIELD)).isEqualTo("order-placed-event");
+        assertThat(plain.getInt(JfrObservabilityProcessor.METRIC_FIELD)).isEqualTo(3);
+        assertThat(plain.getLong(JfrObservabilityProcessor.MEASURED_DURATION_FIELD)).isEqualTo(Long.MIN_VALUE);
+        assertThat(events.get(1).getLong(JfrObservabilityProcessor.MEASURED_DURATION_FIELD)).isEqualTo(1_500_000);
+    }
+
+    @Test
+    void shouldSkipEventsBelowMinimumLevel() throws Exception {
+        JfrObservabilityProcessor processor = new JfrObservabilityProcessor(Level.WARN);
+
+        List<RecordedEvent> events = record(() -> {
+            processor.processWithLevel(new OrderPlacedEvent(1), Level.INFO, "com.example.OrderService");
+            processor.processWithLevel(new OrderPlacedEvent(1), Level.ERROR, "com.example.OrderService");
+        });
+
+        assertThat(events).extracting(event -> event.getString(JfrObservabilityProcessor.LEVEL_FIELD))
+            .containsExactly("ERROR");
+    }
+
+    @Test
+    void shouldEnableEmittersOnlyWhileRecording() {
+        EmitterFactory.setProcessor(new JfrObservabilityProcessor(Level.DEBUG));
+        Emitter emitter = EmitterFactory.getEmitter("com.example.OrderService");
+
+        assertThat(emitter.isErrorEnabled()).isFalse();
+        try (Recording recording = new Recording()) {
+            recording.enable(JfrObservabilityProcessor.EVENT_NAME);
+            recording.start();
+
+            assertThat(emitter.isDebugEnabled()).isTrue();
+            assertThat(emitter.isTraceEnabled()).isFalse();
+        }
+        assertThat(emitter.isErrorEnabled()).isFalse();
+    }
+
+    @Test
+    void shouldStreamEventsInProcess() throws Exception {
+        JfrObservabilityProcessor processor = new JfrObservabilityProcessor();
+        CountDownLatch received = new CountDownLatch(1);
+        AtomicReference<String> eventType = new AtomicReference<>();
+
+        try (RecordingStream stream = JfrObservabilityProcessor.stream(event -> {
+            eventType.set(event.getString(JfrObservabilityProcessor.EVENT_TYPE_FIELD));
+            received.countDown();
+        })) {
+            stream.startAsync();
+            processor.processWithLevel(new OrderPlacedEvent(1), Level.INFO, "com.example.OrderService");
+
+            assertThat(received.await(10, TimeUnit.SECONDS)).isTrue();
+        }
+        assertThat(eventType.get()).isEqualTo("order-placed-event");
+    }
+
+    @Test
+    void shouldRejectMissingArguments() {
+        assertThatThrownBy(() -> new JfrObservabilityProcessor(null))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JfrObservabilityProcessor.stream(null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<RecordedEvent> record(Runnable action) throws Exception {
+        Path file = tempDir.resolve("events.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(JfrObservabilityProcessor.EVENT_NAME);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        assertThat(Files.exists(file)).isTrue();
+        return RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().equals(JfrObservabilityProcessor.EVENT_NAME))
+            .toList();
+    }
+
+    private record OrderPlacedEvent(int metric) implements ObservableEvent {}
+}
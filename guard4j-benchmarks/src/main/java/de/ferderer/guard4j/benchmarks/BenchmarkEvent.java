@@ -0,0 +1,17 @@
+package de.ferderer.guard4j.benchmarks;
+
+import de.ferderer.guard4j.observability.ObservableEvent;
+
+/**
+ * Typical small business event used by all benchmarks.
+ *
+ * @param orderId the order identifier
+ * @param amount the order amount, reported as metric value
+ */
+public record BenchmarkEvent(String orderId, int amount) implements ObservableEvent {
+
+    @Override
+    public int metric() {
+        return amount;
+    }
+}
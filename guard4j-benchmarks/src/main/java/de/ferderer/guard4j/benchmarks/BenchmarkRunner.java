@@ -0,0 +1,63 @@
+package de.ferderer.guard4j.benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the Guard4j benchmark suite at 1..N threads with the GC profiler.
+ *
+ * <p>N defaults to the number of available processors; thread counts double
+ * from 1 up to N. Each thread count writes its own JSON result file, so runs
+ * can be compared against a stored baseline with any JMH result viewer.
+ *
+ * <p>Usage:
+ * <pre>{@code
+ * mvn -P benchmarks -pl guard4j-api,guard4j-spring,guard4j-benchmarks package
+ * java -jar guard4j-benchmarks/target/benchmarks.jar [jmh options] [benchmark regex]
+ * }</pre>
+ *
+ * <p>Regular JMH command line options are honoured; {@code -t} restricts the
+ * run to a single thread count.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {}
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+
+        for (int threads : threadCounts(commandLine)) {
+            Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .threads(threads)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(commandLine.getResult().orElse("jmh-result") + "-t" + threads + ".json")
+                .build();
+            new Runner(options).run();
+        }
+    }
+
+    private static List<Integer> threadCounts(CommandLineOptions commandLine) {
+        if (commandLine.getThreads().hasValue()) {
+            return List.of(commandLine.getThreads().get());
+        }
+        int max = Runtime.getRuntime().availableProcessors();
+        Set<Integer> counts = new LinkedHashSet<>();
+        for (int threads = 1; threads < max; threads *= 2) {
+            counts.add(threads);
+        }
+        counts.add(max);
+        return new ArrayList<>(counts);
+    }
+}
@@ -0,0 +1,20 @@
+package de.ferderer.guard4j.benchmarks;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import java.io.OutputStream;
+
+/**
+ * Logback appender that encodes every event and discards the bytes.
+ *
+ * <p>Keeps layout, MDC and encoding cost in the measurement while taking
+ * console or disk I/O out of it.
+ */
+public class DiscardingAppender extends OutputStreamAppender<ILoggingEvent> {
+
+    @Override
+    public void start() {
+        setOutputStream(OutputStream.nullOutputStream());
+        super.start();
+    }
+}
@@ -0,0 +1,50 @@
+package de.ferderer.guard4j.benchmarks;
+
+import de.ferderer.guard4j.Emitter;
+import de.ferderer.guard4j.EmitterFactory;
+import de.ferderer.guard4j.Guard4j;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of emitting an event through {@code DefaultEmitter} with no processor installed.
+ *
+ * <p>This is the floor of the emit path: event construction plus the emitter's
+ * own bookkeeping, without any metrics or logging work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmitterDispatchBenchmark {
+
+    private Emitter emitter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        EmitterFactory.setProcessor(null);
+        emitter = Guard4j.getEmitter(EmitterDispatchBenchmark.class);
+    }
+
+    @Benchmark
+    public void emitInfo() {
+        emitter.info(new BenchmarkEvent("ORD-1", 42));
+    }
+
+    @Benchmark
+    public void emitDebugLazily() {
+        emitter.debug(() -> new BenchmarkEvent("ORD-1", 42));
+    }
+}
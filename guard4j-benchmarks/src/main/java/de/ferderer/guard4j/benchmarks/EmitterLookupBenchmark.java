@@ -0,0 +1,34 @@
+package de.ferderer.guard4j.benchmarks;
+
+import de.ferderer.guard4j.Emitter;
+import de.ferderer.guard4j.Guard4j;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of {@link Guard4j#getEmitter(Class)} for an already cached emitter.
+ *
+ * <p>Emitters are normally held in static fields, but frameworks and
+ * non-static usage resolve them per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmitterLookupBenchmark {
+
+    @Benchmark
+    public Emitter getEmitter() {
+        return Guard4j.getEmitter(EmitterLookupBenchmark.class);
+    }
+}
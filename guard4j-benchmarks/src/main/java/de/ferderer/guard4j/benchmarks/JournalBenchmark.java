@@ -0,0 +1,74 @@
+package de.ferderer.guard4j.benchmarks;
+
+import de.ferderer.guard4j.journal.JournalConfig;
+import de.ferderer.guard4j.journal.JournalObservabilityProcessor;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of {@link JournalObservabilityProcessor} with concurrent writers.
+ *
+ * <p>Segments are written to a temporary directory on the local file system and
+ * rolled by size; the directory is deleted after the trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class JournalBenchmark {
+
+    private static final String LOGGER_NAME = "de.ferderer.guard4j.benchmarks.OrderService";
+
+    private Path directory;
+    private JournalObservabilityProcessor processor;
+    private BenchmarkEvent event;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("guard4j-journal");
+        processor = new JournalObservabilityProcessor(
+            new JournalConfig(directory, 64 << 20, Duration.ofHours(1), false));
+        event = new BenchmarkEvent("ORD-1", 42);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        processor.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> {
+                try {
+                    Files.delete(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    public void append() {
+        processor.processWithLevel(event, de.ferderer.guard4j.classification.Level.INFO, LOGGER_NAME);
+    }
+}
@@ -0,0 +1,76 @@
+package de.ferderer.guard4j.benchmarks;
+
+import de.ferderer.guard4j.observability.ContextConfig;
+import de.ferderer.guard4j.observability.ObservableEvent;
+import de.ferderer.guard4j.spring.autoconfigure.Guard4jProperties;
+import de.ferderer.guard4j.spring.observability.SpringObservabilityProcessor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Steady-state cost of the metrics path of {@link SpringObservabilityProcessor}.
+ *
+ * <p>Two event types are processed alternately at the given level, with logging
+ * disabled, so the result isolates meter lookup and increment. With all meters
+ * registered during warmup, {@code gc.alloc.rate.norm} is expected to be 0 B/op
+ * for {@code INFO}; {@code ERROR} also records the error timer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MeterLookupBenchmark {
+
+    @Param({"INFO", "ERROR"})
+    public de.ferderer.guard4j.classification.Level level;
+
+    private SpringObservabilityProcessor processor;
+    private BenchmarkEvent orderEvent;
+    private PaymentEvent paymentEvent;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Guard4jProperties properties = new Guard4jProperties(
+            true,
+            false,
+            false,
+            Map.of(),
+            new Guard4jProperties.Observability(true, "bench", false, false, new ContextConfig()),
+            new Guard4jProperties.Web(true, true, -100)
+        );
+
+        processor = new SpringObservabilityProcessor(new SimpleMeterRegistry(), properties, "bench");
+        orderEvent = new BenchmarkEvent("ORD-1", 42);
+        paymentEvent = new PaymentEvent("PAY-1");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2)
+    public void processMetrics() {
+        processor.processWithLevel(orderEvent, level, "de.ferderer.guard4j.benchmarks.OrderService");
+        processor.processWithLevel(paymentEvent, level, "de.ferderer.guard4j.benchmarks.PaymentService");
+    }
+
+    /**
+     * Second event type, so lookups do not always hit the same cache entry.
+     *
+     * @param paymentId the payment identifier
+     */
+    public record PaymentEvent(String paymentId) implements ObservableEvent {}
+}
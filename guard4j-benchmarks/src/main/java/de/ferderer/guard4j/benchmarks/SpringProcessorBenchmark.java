@@ -0,0 +1,105 @@
+package de.ferderer.guard4j.benchmarks;
+
+import de.ferderer.guard4j.observability.ContextConfig;
+import de.ferderer.guard4j.spring.autoconfigure.Guard4jProperties;
+import de.ferderer.guard4j.spring.observability.SpringContextExtractor;
+import de.ferderer.guard4j.spring.observability.SpringObservabilityProcessor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.MDC;
+
+/**
+ * Cost of {@link SpringObservabilityProcessor#processWithLevel} per scenario.
+ *
+ * <ul>
+ *   <li>{@code METRICS} - Micrometer counters only, logging disabled</li>
+ *   <li>{@code LOGGING_MDC} - Logback logging with MDC population, metrics disabled</li>
+ *   <li>{@code LOGGING_KEY_VALUE} - Logback logging with SLF4J key-value pairs, metrics disabled</li>
+ *   <li>{@code CONTEXT} - logging with MDC plus {@link SpringContextExtractor}</li>
+ * </ul>
+ *
+ * <p>Log output goes through a Logback pattern encoder into a discarding stream,
+ * so formatting cost is included but I/O is not.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpringProcessorBenchmark {
+
+    private static final String LOGGER_NAME = "de.ferderer.guard4j.benchmarks.OrderService";
+
+    public enum Scenario {
+        METRICS,
+        LOGGING_MDC,
+        LOGGING_KEY_VALUE,
+        CONTEXT
+    }
+
+    @Param
+    public Scenario scenario;
+
+    private SpringObservabilityProcessor processor;
+    private BenchmarkEvent event;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean metrics = scenario == Scenario.METRICS;
+        Guard4jProperties properties = new Guard4jProperties(
+            true,
+            false,
+            false,
+            Map.of(),
+            new Guard4jProperties.Observability(metrics, "bench", !metrics, true, new ContextConfig(),
+                scenario == Scenario.LOGGING_KEY_VALUE
+                    ? Guard4jProperties.Observability.LoggingMode.KEY_VALUE
+                    : Guard4jProperties.Observability.LoggingMode.MDC),
+            new Guard4jProperties.Web(true, true, -100)
+        );
+
+        processor = new SpringObservabilityProcessor(new SimpleMeterRegistry(), properties, "bench");
+        if (scenario == Scenario.CONTEXT) {
+            processor.setContextExtractor(new SpringContextExtractor(new ContextConfig()));
+        }
+        event = new BenchmarkEvent("ORD-1", 42);
+    }
+
+    /**
+     * Per-thread request context, as a tracing filter would have set it up.
+     */
+    @State(Scope.Thread)
+    public static class RequestContext {
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            MDC.put("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+            MDC.put("correlationId", "c0ffee00-0000-4000-8000-000000000001");
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            MDC.clear();
+        }
+    }
+
+    @Benchmark
+    public void processWithLevel(RequestContext context) {
+        processor.processWithLevel(event, de.ferderer.guard4j.classification.Level.INFO, LOGGER_NAME);
+    }
+}
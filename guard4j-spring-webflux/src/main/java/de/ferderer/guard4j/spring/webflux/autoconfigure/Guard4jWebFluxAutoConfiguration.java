@@ -0,0 +1,92 @@
+package de.ferderer.guard4j.spring.webflux.autoconfigure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.ferderer.guard4j.error.Error;
+import de.ferderer.guard4j.error.ExceptionClassifier;
+import de.ferderer.guard4j.observability.ContextExtractor;
+import de.ferderer.guard4j.spring.autoconfigure.Guard4jAutoConfiguration;
+import de.ferderer.guard4j.spring.autoconfigure.Guard4jProperties;
+import de.ferderer.guard4j.spring.webflux.error.Guard4jWebExceptionHandler;
+import de.ferderer.guard4j.spring.webflux.observability.Guard4jContextWebFilter;
+import de.ferderer.guard4j.spring.webflux.observability.ReactorContextExtractor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.reactive.DispatcherHandler;
+
+/**
+ * Auto-configuration for Guard4j in Spring WebFlux applications.
+ *
+ * <p>Registered by the {@code guard4j-spring-boot-starter-webflux} module and
+ * activated when:
+ * <ul>
+ *   <li>Spring WebFlux is on the classpath</li>
+ *   <li>Application is a reactive web application</li>
+ *   <li>Web exception handling is enabled (default: true)</li>
+ * </ul>
+ *
+ * <p>Provides a {@code WebExceptionHandler} that writes structured JSON error
+ * responses directly to the response buffer, and a web filter plus context
+ * extractor that carry the observability context in the Reactor Context
+ * instead of thread-locals.
+ *
+ * @since 2.2.0
+ */
+@AutoConfiguration(after = {JacksonAutoConfiguration.class, WebFluxAutoConfiguration.class, Guard4jAutoConfiguration.class})
+@ConditionalOnClass(DispatcherHandler.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnProperty(name = "guard4j.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnProperty(name = "guard4j.web.enabled", havingValue = "true", matchIfMissing = true)
+public class Guard4jWebFluxAutoConfiguration {
+
+    /**
+     * Exception handler that converts exceptions to structured error responses.
+     *
+     * @param properties Guard4j configuration properties
+     * @param classifier classifier mapping exceptions to error codes
+     * @param objectMapper the application's object mapper
+     * @return configured exception handler
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(ObjectMapper.class)
+    public Guard4jWebExceptionHandler guard4jWebExceptionHandler(
+            Guard4jProperties properties,
+            ExceptionClassifier<Error> classifier,
+            ObjectMapper objectMapper) {
+        return new Guard4jWebExceptionHandler(properties, classifier, objectMapper);
+    }
+
+    /**
+     * Filter that resolves the observability context once per exchange into the Reactor Context.
+     *
+     * @param properties Guard4j configuration properties
+     * @return the context web filter
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "guard4j.observability.context.enabled", havingValue = "true", matchIfMissing = true)
+    public Guard4jContextWebFilter guard4jContextWebFilter(Guard4jProperties properties) {
+        return new Guard4jContextWebFilter(properties.getObservabilityOrDefault().context());
+    }
+
+    /**
+     * Context extractor reading the Reactor Context. {@link Guard4jAutoConfiguration}
+     * registers its thread-local based extractor only outside reactive applications,
+     * so this is the only context extractor here.
+     *
+     * @return the reactor context extractor
+     */
+    @Bean
+    @ConditionalOnMissingBean(ContextExtractor.class)
+    @ConditionalOnProperty(name = "guard4j.observability.context.enabled", havingValue = "true", matchIfMissing = true)
+    public ContextExtractor reactorContextExtractor() {
+        return new ReactorContextExtractor();
+    }
+}
@@ -0,0 +1,138 @@
+package de.ferderer.guard4j.spring.webflux.error;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.ferderer.guard4j.error.AppException;
+import de.ferderer.guard4j.error.Error;
+import de.ferderer.guard4j.error.ExceptionClassifier;
+import de.ferderer.guard4j.spring.autoconfigure.Guard4jProperties;
+import de.ferderer.guard4j.spring.error.ErrorResponse;
+import de.ferderer.guard4j.spring.error.ErrorResponseWriter;
+import de.ferderer.guard4j.spring.error.Guard4jExceptionHandler;
+import de.ferderer.guard4j.spring.error.SpringError;
+import java.util.Map;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebExceptionHandler;
+import reactor.core.publisher.Mono;
+
+/**
+ * Exception handler for Spring WebFlux applications.
+ *
+ * <p>The reactive counterpart of {@link Guard4jExceptionHandler}: it maps
+ * Guard4j {@code AppException}s and, if enabled, other exceptions through the
+ * {@link ExceptionClassifier} to an {@link ErrorResponse}, serializes it once
+ * and writes the bytes directly to the {@link ServerHttpResponse} buffer,
+ * without codecs or blocking calls on the event loop. Responses with the
+ * error's default message and no data are taken pre-encoded from an
+ * {@link ErrorResponseWriter}.
+ *
+ * <p>Exceptions are passed on to the next handler if the response is already
+ * committed, or if Spring exception handling is disabled and the exception is
+ * not an {@code AppException}.
+ *
+ * @since 2.2.0
+ */
+public class Guard4jWebExceptionHandler implements WebExceptionHandler, Ordered {
+
+    private static final Logger log = LoggerFactory.getLogger(Guard4jWebExceptionHandler.class);
+
+    private final Guard4jProperties properties;
+    private final ExceptionClassifier<? extends Error> classifier;
+    private final ObjectMapper objectMapper;
+    private final ErrorResponseWriter writer;
+
+    /**
+     * Create a handler.
+     *
+     * @param properties Guard4j configuration properties
+     * @param classifier the classifier for exceptions that are not {@code AppException}s
+     * @param objectMapper the object mapper used to serialize error responses
+     */
+    public Guard4jWebExceptionHandler(Guard4jProperties properties, ExceptionClassifier<? extends Error> classifier,
+                                      ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.classifier = classifier;
+        this.objectMapper = objectMapper;
+        this.writer = new ErrorResponseWriter(objectMapper);
+    }
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (response.isCommitted()) {
+            return Mono.error(ex);
+        }
+
+        String path = exchange.getRequest().getPath().value();
+        Error error;
+        String message;
+        Map<String, Object> data;
+        if (ex instanceof AppException appException) {
+            log.debug("Handling AppException: {} at {}", appException.errorCode().name(), path);
+            error = appException.errorCode();
+            message = appException.getMessage();
+            data = appException.hasData() ? appException.data() : Map.of();
+        } else if (properties.getWebOrDefault().handleSpringExceptions()) {
+            error = classify(ex, path);
+            message = error.message();
+            data = debugData(ex);
+        } else {
+            return Mono.error(ex);
+        }
+
+        byte[] bytes = writer.encode(error, message, data, path);
+        if (bytes == null) {
+            ErrorResponse body = ErrorResponse.of(error.httpStatus().value(), error.name(), message, path, data);
+            try {
+                bytes = objectMapper.writeValueAsBytes(body);
+            } catch (JsonProcessingException e) {
+                log.warn("Failed to serialize error response for {}", body.error(), e);
+                return Mono.error(ex);
+            }
+        }
+
+        response.setStatusCode(HttpStatusCode.valueOf(error.httpStatus().value()));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(bytes.length);
+        DataBuffer buffer = response.bufferFactory().wrap(bytes);
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    @Override
+    public int getOrder() {
+        return properties.getWebOrDefault().handlerOrder();
+    }
+
+    /**
+     * Map an exception to an error through the classifier,
+     * falling back to a generic internal server error.
+     */
+    private Error classify(Throwable ex, String path) {
+        Optional<? extends Error> classified = classifier.classify(ex);
+        Error error = classified.isPresent() ? classified.get() : SpringError.INTERNAL_SERVER_ERROR;
+
+        log.debug("Mapped {} to {} at {}", ex.getClass().getSimpleName(), error.name(), path);
+        return error;
+    }
+
+    /**
+     * Original exception info, included in debug mode only.
+     */
+    private Map<String, Object> debugData(Throwable ex) {
+        if (!properties.includeDebugInfo()) {
+            return Map.of();
+        }
+        return Map.of(
+            "exceptionType", ex.getClass().getSimpleName(),
+            "originalMessage", ex.getMessage() != null ? ex.getMessage() : ""
+        );
+    }
+}
@@ -0,0 +1,119 @@
+package de.ferderer.guard4j.spring.webflux.observability;
+
+import de.ferderer.guard4j.observability.ContextConfig;
+import de.ferderer.guard4j.spring.observability.ContextKeys;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * WebFlux filter that resolves the observability context of an exchange and
+ * writes it into the Reactor Context for {@link ReactorContextExtractor}.
+ *
+ * <p>Trace and correlation ids are read from the same request headers as on the
+ * servlet path, see {@link ContextKeys}; the user id from the exchange principal
+ * or, if there is none, from the user headers. Custom {@code HEADER} and
+ * {@code ATTRIBUTE} fields are resolved from the exchange; {@code MDC} fields are
+ * not supported on the reactive path, as the MDC of an event loop thread does not
+ * belong to the exchange.
+ *
+ * <p>The context is resolved once per exchange, without blocking.
+ *
+ * @since 2.2.0
+ */
+public class Guard4jContextWebFilter implements WebFilter, Ordered {
+
+    /** Default filter order, after the Spring Security web filter chain (-100) so the principal is known. */
+    public static final int DEFAULT_ORDER = -50;
+
+    private final ContextConfig config;
+
+    public Guard4jContextWebFilter(ContextConfig config) {
+        this.config = config;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        Map<String, String> context = resolveRequestContext(exchange);
+        if (!config.includeUserId()) {
+            return proceed(exchange, chain, context);
+        }
+
+        return exchange.getPrincipal()
+            .map(Principal::getName)
+            .filter(name -> ContextKeys.textOrNull(name) != null && !"anonymousUser".equals(name))
+            .map(user -> {
+                Map<String, String> withUser = new HashMap<>(context);
+                withUser.put("userId", user);
+                return withUser;
+            })
+            .defaultIfEmpty(context)
+            .flatMap(resolved -> proceed(exchange, chain, resolved));
+    }
+
+    @Override
+    public int getOrder() {
+        return DEFAULT_ORDER;
+    }
+
+    private static Mono<Void> proceed(ServerWebExchange exchange, WebFilterChain chain, Map<String, String> context) {
+        return chain.filter(exchange)
+            .contextWrite(reactorContext -> ReactorContextExtractor.putContext(reactorContext, context));
+    }
+
+    /**
+     * Resolve all fields available from the request itself.
+     */
+    private Map<String, String> resolveRequestContext(ServerWebExchange exchange) {
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        Map<String, String> context = new HashMap<>();
+        if (config.includeTraceId()) {
+            putIfPresent(context, "traceId", firstHeader(headers, ContextKeys.TRACE_ID));
+        }
+        if (config.includeUserId()) {
+            putIfPresent(context, "userId", firstHeader(headers, ContextKeys.USER_ID));
+        }
+        if (config.includeCorrelationId()) {
+            putIfPresent(context, "correlationId", firstHeader(headers, ContextKeys.CORRELATION_ID));
+        }
+
+        for (ContextConfig.CustomField field : config.customFields()) {
+            switch (field.source()) {
+                case HEADER -> putIfPresent(context, field.name(),
+                    ContextKeys.textOrNull(headers.getFirst(field.key())));
+                case ATTRIBUTE -> {
+                    Object value = exchange.getAttribute(field.key());
+                    putIfPresent(context, field.name(), value != null ? value.toString() : null);
+                }
+                case MDC -> {
+                    // The event loop's MDC does not belong to this exchange
+                }
+            }
+        }
+        return context;
+    }
+
+    private static String firstHeader(HttpHeaders headers, List<String> names) {
+        for (String name : names) {
+            String value = ContextKeys.textOrNull(headers.getFirst(name));
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static void putIfPresent(Map<String, String> context, String name, String value) {
+        if (value != null) {
+            context.put(name, value);
+        }
+    }
+}
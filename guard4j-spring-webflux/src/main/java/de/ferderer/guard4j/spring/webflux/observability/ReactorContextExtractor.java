@@ -0,0 +1,130 @@
+package de.ferderer.guard4j.spring.webflux.observability;
+
+import de.ferderer.guard4j.observability.ContextExtractor;
+import io.micrometer.context.ContextRegistry;
+import org.springframework.util.ClassUtils;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * ContextExtractor for reactive applications that reads the context from the
+ * Reactor {@link Context} instead of request and MDC thread-locals.
+ *
+ * <p>{@link Guard4jContextWebFilter} resolves trace, user and correlation data
+ * once per exchange and writes it into the Reactor Context under
+ * {@link #CONTEXT_KEY}. Events are emitted synchronously, so the context has to
+ * be visible on the emitting thread:
+ * <ul>
+ *   <li>With Micrometer context-propagation on the classpath, the context is
+ *       registered as a thread-local accessor. With automatic propagation
+ *       ({@code spring.reactor.context-propagation=auto}) Reactor restores it
+ *       around every operator, so emitters work without further code.</li>
+ *   <li>Otherwise, wrap the emitting code in {@link #runWith(ContextView, Runnable)}:
+ *       <pre>{@code
+ * return orderService.place(order)
+ *     .doOnEach(signal -> {
+ *         if (signal.isOnNext()) {
+ *             ReactorContextExtractor.runWith(signal.getContextView(),
+ *                 () -> events.info(new OrderPlacedEvent(signal.get().id())));
+ *         }
+ *     });
+ * }</pre></li>
+ * </ul>
+ *
+ * <p>Nothing is read from thread-locals of the event loop, so extraction never
+ * blocks and never sees the context of another exchange.
+ *
+ * @since 2.2.0
+ */
+public class ReactorContextExtractor implements ContextExtractor {
+
+    /** Key of the guard4j context map in the Reactor Context and the context-propagation registry. */
+    public static final String CONTEXT_KEY = "guard4j.context";
+
+    private static final ThreadLocal<Map<String, String>> CURRENT = new ThreadLocal<>();
+
+    private static final boolean CONTEXT_PROPAGATION_PRESENT = ClassUtils.isPresent(
+        "io.micrometer.context.ContextRegistry", ReactorContextExtractor.class.getClassLoader());
+
+    static {
+        if (CONTEXT_PROPAGATION_PRESENT) {
+            ContextPropagation.register();
+        }
+    }
+
+    /**
+     * Store a context map in a Reactor Context.
+     *
+     * @param context the Reactor Context to extend
+     * @param values the context values, e.g. {@code traceId} or {@code userId}
+     * @return the extended Reactor Context
+     */
+    public static Context putContext(Context context, Map<String, String> values) {
+        return context.put(CONTEXT_KEY, Map.copyOf(values));
+    }
+
+    /**
+     * Read the context map from a Reactor Context.
+     *
+     * @param context the Reactor Context view
+     * @return the context values, empty if none were stored
+     */
+    public static Map<String, String> getContext(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, Map.of());
+    }
+
+    /**
+     * Run an action with the context of the given Reactor Context visible to this extractor.
+     *
+     * @param context the Reactor Context view, typically from a signal or {@code deferContextual}
+     * @param action the action emitting events
+     */
+    public static void runWith(ContextView context, Runnable action) {
+        Map<String, String> previous = CURRENT.get();
+        CURRENT.set(getContext(context));
+        try {
+            action.run();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    @Override
+    public Map<String, String> extractContext() {
+        Map<String, String> context = CURRENT.get();
+        return context != null ? context : Map.of();
+    }
+
+    @Override
+    public Optional<String> extractTraceId() {
+        return Optional.ofNullable(extractContext().get("traceId"));
+    }
+
+    @Override
+    public Optional<String> extractUserId() {
+        return Optional.ofNullable(extractContext().get("userId"));
+    }
+
+    @Override
+    public Optional<String> extractCorrelationId() {
+        return Optional.ofNullable(extractContext().get("correlationId"));
+    }
+
+    /**
+     * Isolates context-propagation types so the extractor also loads without them.
+     */
+    private static final class ContextPropagation {
+
+        static void register() {
+            ContextRegistry.getInstance().registerThreadLocalAccessor(
+                CONTEXT_KEY, CURRENT::get, CURRENT::set, CURRENT::remove);
+        }
+    }
+}
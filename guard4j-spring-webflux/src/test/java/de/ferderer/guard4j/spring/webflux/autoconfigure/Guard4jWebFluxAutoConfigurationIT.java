@@ -0,0 +1,67 @@
+package de.ferderer.guard4j.spring.webflux.autoconfigure;
+
+import de.ferderer.guard4j.observability.ContextExtractor;
+import de.ferderer.guard4j.spring.autoconfigure.Guard4jAutoConfiguration;
+import de.ferderer.guard4j.spring.webflux.error.Guard4jWebExceptionHandler;
+import de.ferderer.guard4j.spring.webflux.observability.ReactorContextExtractor;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+
+/**
+ * Integration tests for the Guard4j WebFlux auto-configuration.
+ */
+class Guard4jWebFluxAutoConfigurationIT {
+
+    private final ReactiveWebApplicationContextRunner contextRunner = new ReactiveWebApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(
+            Guard4jAutoConfiguration.class,
+            Guard4jWebFluxAutoConfiguration.class,
+            JacksonAutoConfiguration.class,
+            WebFluxAutoConfiguration.class
+        ));
+
+    @Test
+    void shouldUseReactorContextExtractorInReactiveApplication() {
+        contextRunner
+            .run(context -> {
+                assertThat(context).hasSingleBean(Guard4jWebExceptionHandler.class);
+                assertThat(context).hasSingleBean(ContextExtractor.class);
+                assertThat(context.getBean(ContextExtractor.class)).isExactlyInstanceOf(ReactorContextExtractor.class);
+            });
+    }
+
+    @Test
+    void shouldUseReactorContextExtractorInReactiveApplicationOnVirtualThreads() {
+        contextRunner
+            .withPropertyValues("spring.threads.virtual.enabled=true")
+            .run(context -> {
+                assertThat(context).hasSingleBean(ContextExtractor.class);
+                assertThat(context.getBean(ContextExtractor.class)).isExactlyInstanceOf(ReactorContextExtractor.class);
+            });
+    }
+
+    @Test
+    void shouldNotAutoConfigureExceptionHandlerWithoutObjectMapper() {
+        new ReactiveWebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                Guard4jAutoConfiguration.class,
+                Guard4jWebFluxAutoConfiguration.class,
+                WebFluxAutoConfiguration.class
+            ))
+            .run(context -> assertThat(context).doesNotHaveBean(Guard4jWebExceptionHandler.class));
+    }
+
+    @Test
+    void shouldNotAutoConfigureWebFluxFeaturesWhenDisabled() {
+        contextRunner
+            .withPropertyValues("guard4j.enabled=false")
+            .run(context -> {
+                assertThat(context).doesNotHaveBean(Guard4jWebExceptionHandler.class);
+                assertThat(context).doesNotHaveBean(ContextExtractor.class);
+            });
+    }
+}
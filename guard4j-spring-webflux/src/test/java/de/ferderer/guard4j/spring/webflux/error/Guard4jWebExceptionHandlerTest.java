@@ -0,0 +1,78 @@
+package de.ferderer.guard4j.spring.webflux.error;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.ferderer.guard4j.error.AppException;
+import de.ferderer.guard4j.spring.autoconfigure.Guard4jProperties;
+import de.ferderer.guard4j.spring.error.SpringError;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.MethodNotAllowedException;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the WebFlux exception handler.
+ */
+class Guard4jWebExceptionHandlerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldWriteAppExceptionAsJson() throws Exception {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/orders/42"));
+        AppException ex = new AppException(SpringError.DATA_NOT_FOUND).withData("id", "42");
+
+        // When
+        handler(true).handle(exchange, ex).block();
+
+        // Then
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(exchange.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        JsonNode body = objectMapper.readTree(exchange.getResponse().getBodyAsString().block());
+        assertThat(body.get("error").asText()).isEqualTo("DATA_NOT_FOUND");
+        assertThat(body.get("path").asText()).isEqualTo("/orders/42");
+        assertThat(body.get("data").get("id").asText()).isEqualTo("42");
+    }
+
+    @Test
+    void shouldClassifyReactiveFrameworkExceptions() throws Exception {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.delete("/orders"));
+        MethodNotAllowedException ex = new MethodNotAllowedException("DELETE", List.of());
+
+        // When
+        handler(true).handle(exchange, ex).block();
+
+        // Then
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.METHOD_NOT_ALLOWED);
+        JsonNode body = objectMapper.readTree(exchange.getResponse().getBodyAsString().block());
+        assertThat(body.get("error").asText()).isEqualTo("VALIDATION_METHOD_NOT_ALLOWED");
+    }
+
+    @Test
+    void shouldPassOnExceptionsWhenSpringExceptionHandlingIsDisabled() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/orders"));
+        IllegalStateException ex = new IllegalStateException("boom");
+
+        // When / Then
+        assertThatThrownBy(() -> handler(false).handle(exchange, ex).block()).isSameAs(ex);
+        assertThat(exchange.getResponse().getStatusCode()).isNull();
+    }
+
+    private Guard4jWebExceptionHandler handler(boolean handleSpringExceptions) {
+        Guard4jProperties properties = new Guard4jProperties(
+            true, false, false, Map.of(), null,
+            new Guard4jProperties.Web(true, handleSpringExceptions, -100));
+        return new Guard4jWebExceptionHandler(properties, SpringError.classifier(), objectMapper);
+    }
+}
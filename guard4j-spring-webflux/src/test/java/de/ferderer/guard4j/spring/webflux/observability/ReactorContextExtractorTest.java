@@ -0,0 +1,52 @@
+package de.ferderer.guard4j.spring.webflux.observability;
+
+import org.junit.jupiter.api.Test;
+import reactor.util.context.Context;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ReactorContextExtractor.
+ */
+class ReactorContextExtractorTest {
+
+    private final ReactorContextExtractor extractor = new ReactorContextExtractor();
+
+    @Test
+    void shouldExposeReactorContextOnlyWithinRunWith() {
+        // Given
+        Context context = ReactorContextExtractor.putContext(Context.empty(),
+            Map.of("traceId", "trace-1", "userId", "alice", "correlationId", "corr-1"));
+
+        // When / Then
+        ReactorContextExtractor.runWith(context, () -> {
+            assertThat(extractor.extractContext()).containsEntry("traceId", "trace-1");
+            assertThat(extractor.extractTraceId()).contains("trace-1");
+            assertThat(extractor.extractUserId()).contains("alice");
+            assertThat(extractor.extractCorrelationId()).contains("corr-1");
+        });
+        assertThat(extractor.extractContext()).isEmpty();
+        assertThat(extractor.extractTraceId()).isEmpty();
+    }
+
+    @Test
+    void shouldRestoreOuterContextAfterNestedRun() {
+        // Given
+        Context outer = ReactorContextExtractor.putContext(Context.empty(), Map.of("traceId", "outer"));
+        Context inner = ReactorContextExtractor.putContext(Context.empty(), Map.of("traceId", "inner"));
+
+        // When / Then
+        ReactorContextExtractor.runWith(outer, () -> {
+            ReactorContextExtractor.runWith(inner,
+                () -> assertThat(extractor.extractTraceId()).contains("inner"));
+            assertThat(extractor.extractTraceId()).contains("outer");
+        });
+    }
+
+    @Test
+    void shouldReturnEmptyContextForReactorContextWithoutGuard4jEntry() {
+        assertThat(ReactorContextExtractor.getContext(Context.of("other", "value"))).isEmpty();
+    }
+}
@@ -1,18 +1,29 @@
 package de.ferderer.guard4j.spring.autoconfigure;
 
 import de.ferderer.guard4j.EmitterFactory;
+import de.ferderer.guard4j.error.Error;
+import de.ferderer.guard4j.error.ExceptionClassifier;
 import de.ferderer.guard4j.observability.ContextConfig;
 import de.ferderer.guard4j.observability.ContextExtractor;
+import de.ferderer.guard4j.spring.error.ExceptionClassifierCustomizer;
+import de.ferderer.guard4j.spring.error.SpringError;
+import de.ferderer.guard4j.spring.observability.ScopedContextExtractor;
 import de.ferderer.guard4j.spring.observability.SpringContextExtractor;
 import de.ferderer.guard4j.spring.observability.SpringObservabilityProcessor;
 import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.NoneNestedConditions;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.env.Environment;
 
@@ -21,7 +32,8 @@ import org.springframework.core.env.Environment;
  *
  * <p>This configuration automatically sets up Guard4j for Spring Boot applications
  * when the library is present on the classpath. It enables conditional configuration
- * for different Spring modules (Web, Security, Data JPA, etc.).
+ * for different Spring modules (Web MVC, Security, Data JPA, etc.). WebFlux support
+ * lives in the separate {@code guard4j-spring-boot-starter-webflux} module.
  *
  * <p>Configuration can be customized via application properties:
  * <pre>{@code
@@ -46,7 +58,25 @@ import org.springframework.core.env.Environment;
     Guard4jWebAutoConfiguration.class
 })
 public class Guard4jAutoConfiguration {
-    
+
+    /**
+     * Exception classifier with the {@link SpringError} defaults and all
+     * {@link ExceptionClassifierCustomizer} mappings applied, shared by the
+     * servlet and reactive exception handlers.
+     *
+     * @param customizers application customizers, applied in order
+     * @return the exception classifier
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ExceptionClassifier<Error> guard4jExceptionClassifier(
+            ObjectProvider<ExceptionClassifierCustomizer> customizers) {
+        ExceptionClassifier.Builder<Error> builder = ExceptionClassifier.builder();
+        SpringError.addDefaultMappings(builder);
+        customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+        return builder.build();
+    }
+
     /**
      * Create the context configuration bean from properties.
      */
@@ -58,13 +88,27 @@ public class Guard4jAutoConfiguration {
     }
     
     /**
-     * Create the Spring context extractor bean.
+     * Create the context extractor bean for servlet and non-web applications.
+     *
+     * <p>With virtual threads enabled, the {@link SpringContextExtractor} is wrapped in a
+     * {@link ScopedContextExtractor} that reads the context bound per request by the
+     * scoped context filter. Reactive applications get their extractor from the
+     * {@code guard4j-spring-boot-starter-webflux} module instead, so exactly one
+     * configuration contributes a context extractor, whatever the order of the
+     * auto-configurations.
+     *
+     * @param contextConfig the context configuration
+     * @param environment the Spring environment, to detect virtual threads
+     * @return the context extractor
      */
     @Bean
     @ConditionalOnBean(ContextConfig.class)
+    @ConditionalOnMissingBean(ContextExtractor.class)
     @ConditionalOnProperty(name = "guard4j.observability.context.enabled", havingValue = "true", matchIfMissing = true)
-    public ContextExtractor contextExtractor(ContextConfig contextConfig) {
-        return new SpringContextExtractor(contextConfig);
+    @Conditional(NotReactiveWebApplicationCondition.class)
+    public ContextExtractor contextExtractor(ContextConfig contextConfig, Environment environment) {
+        SpringContextExtractor extractor = new SpringContextExtractor(contextConfig);
+        return Threading.VIRTUAL.isActive(environment) ? new ScopedContextExtractor(extractor) : extractor;
     }
 
     /**
@@ -98,4 +142,31 @@ public class Guard4jAutoConfiguration {
         return processor;
     }
 
+    /**
+     * Refresh the observability processor configuration when the environment changes.
+     *
+     * @param environment the Spring environment to re-bind properties from
+     * @param processor the observability processor, if configured
+     * @return the refresh listener
+     */
+    @Bean
+    public ObservabilityRefreshListener observabilityRefreshListener(
+            Environment environment,
+            ObjectProvider<SpringObservabilityProcessor> processor) {
+        return new ObservabilityRefreshListener(environment, processor);
+    }
+
+    /**
+     * Matches unless the application is a reactive web application.
+     */
+    static class NotReactiveWebApplicationCondition extends NoneNestedConditions {
+
+        NotReactiveWebApplicationCondition() {
+            super(ConfigurationPhase.REGISTER_BEAN);
+        }
+
+        @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+        static class ReactiveWebApplication {
+        }
+    }
 }
@@ -2,8 +2,11 @@ package de.ferderer.guard4j.spring.autoconfigure;
 
 import de.ferderer.guard4j.observability.ContextConfig;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -23,6 +26,12 @@ import java.util.Map;
  *     metrics-enabled: true
  *     metrics-prefix: "myapp"  # defaults to spring.application.name
  *     logging-enabled: true
+ *     logging-mode: MDC  # or KEY_VALUE for SLF4J 2 key-value pairs
+ *     record-untimed-errors: false  # true counts untimed WARN/ERROR events in .errors, as before 2.2.0
+ *     timer:
+ *       percentiles: 0.5, 0.95, 0.99
+ *       slo: 100ms, 500ms, 1s
+ *       percentile-histogram: false
  *     context:
  *       enabled: true
  *       include-trace-id: true
@@ -56,7 +65,10 @@ public record Guard4jProperties(
                     observability.metricsPrefix(),
                     observability.loggingEnabled(),
                     observability.includeMdc(),
-                    new ContextConfig()
+                    new ContextConfig(),
+                    observability.loggingMode(),
+                    observability.timer(),
+                    observability.recordUntimedErrors()
                 );
             }
             return observability;
@@ -77,16 +89,96 @@ public record Guard4jProperties(
      * @param metricsEnabled enable metrics collection
      * @param metricsPrefix metric name prefix (defaults to application name)
      * @param loggingEnabled enable enhanced logging with MDC
-     * @param includeMdc include MDC context in logs
+     * @param includeMdc include event and context fields in logs
      * @param context context extraction configuration
+     * @param loggingMode how event and context fields are attached to log events
+     * @param timer distribution settings of the event duration timer
+     * @param recordUntimedErrors record WARN, ERROR and FATAL events without a measured
+     *                            duration in the errors timer with zero duration, as
+     *                            before 2.2.0; off by default, so that the errors timer
+     *                            only holds real durations
      */
     public record Observability(
         @DefaultValue("true") boolean metricsEnabled,
         String metricsPrefix,
         @DefaultValue("true") boolean loggingEnabled,
         @DefaultValue("true") boolean includeMdc,
-        ContextConfig context
+        ContextConfig context,
+        @DefaultValue("MDC") LoggingMode loggingMode,
+        TimerConfig timer,
+        @DefaultValue("false") boolean recordUntimedErrors
     ) {
+
+        @ConstructorBinding
+        public Observability {
+            if (loggingMode == null) {
+                loggingMode = LoggingMode.MDC;
+            }
+            if (timer == null) {
+                timer = new TimerConfig(null, null, false);
+            }
+        }
+
+        /**
+         * Create an observability configuration using {@link LoggingMode#MDC}.
+         */
+        public Observability(boolean metricsEnabled, String metricsPrefix, boolean loggingEnabled,
+                             boolean includeMdc, ContextConfig context) {
+            this(metricsEnabled, metricsPrefix, loggingEnabled, includeMdc, context, LoggingMode.MDC);
+        }
+
+        /**
+         * Create an observability configuration without timer percentiles or SLOs.
+         */
+        public Observability(boolean metricsEnabled, String metricsPrefix, boolean loggingEnabled,
+                             boolean includeMdc, ContextConfig context, LoggingMode loggingMode) {
+            this(metricsEnabled, metricsPrefix, loggingEnabled, includeMdc, context, loggingMode, null);
+        }
+
+        /**
+         * Create an observability configuration that records only measured durations in the errors timer.
+         */
+        public Observability(boolean metricsEnabled, String metricsPrefix, boolean loggingEnabled,
+                             boolean includeMdc, ContextConfig context, LoggingMode loggingMode, TimerConfig timer) {
+            this(metricsEnabled, metricsPrefix, loggingEnabled, includeMdc, context, loggingMode, timer, false);
+        }
+
+        /**
+         * How event and context fields are attached to log events.
+         *
+         * @since 2.2.0
+         */
+        public enum LoggingMode {
+            /** Put fields into the MDC around each log statement; works with every encoder. */
+            MDC,
+            /** Attach fields as SLF4J 2 key-value pairs; needs an encoder that renders them. */
+            KEY_VALUE
+        }
+
+        /**
+         * Distribution settings of the timer that records the duration of timed events.
+         *
+         * @param percentiles client-side percentiles to publish, each between 0 and 1
+         * @param slo service level objective boundaries published as histogram buckets
+         * @param percentileHistogram publish a histogram for server-side percentile aggregation
+         * @since 2.2.0
+         */
+        public record TimerConfig(
+            List<Double> percentiles,
+            List<Duration> slo,
+            @DefaultValue("false") boolean percentileHistogram
+        ) {
+
+            public TimerConfig {
+                percentiles = percentiles != null ? List.copyOf(percentiles) : List.of();
+                slo = slo != null ? List.copyOf(slo) : List.of();
+                for (double percentile : percentiles) {
+                    if (percentile < 0 || percentile > 1) {
+                        throw new IllegalArgumentException("percentiles must be between 0 and 1");
+                    }
+                }
+            }
+        }
     }
 
     /**
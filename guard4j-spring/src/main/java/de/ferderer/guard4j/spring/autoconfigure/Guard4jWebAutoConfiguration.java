@@ -1,10 +1,22 @@
 package de.ferderer.guard4j.spring.autoconfigure;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.ferderer.guard4j.error.Error;
+import de.ferderer.guard4j.error.ExceptionClassifier;
+import de.ferderer.guard4j.spring.error.ErrorResponseWriter;
 import de.ferderer.guard4j.spring.error.Guard4jExceptionHandler;
+import de.ferderer.guard4j.spring.observability.Guard4jContextFilter;
+import de.ferderer.guard4j.spring.observability.Guard4jScopedContextFilter;
+import de.ferderer.guard4j.spring.observability.ScopedContextExtractor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.web.servlet.DispatcherServlet;
@@ -21,9 +33,15 @@ import org.springframework.web.servlet.DispatcherServlet;
  *
  * <p>Provides global exception handling via {@code @ControllerAdvice}
  * that converts Guard4j {@code AppException} and Spring framework exceptions
- * into structured JSON error responses.
+ * into structured JSON error responses, and a filter that caches the extracted
+ * observability context per request.
+ *
+ * <p>With virtual threads enabled ({@code spring.threads.virtual.enabled=true}),
+ * the request context is additionally bound once per request to a
+ * {@code ScopedValue}, which the {@link ScopedContextExtractor} registered by
+ * {@link Guard4jAutoConfiguration} reads.
  */
-@AutoConfiguration(after = WebMvcAutoConfiguration.class)
+@AutoConfiguration(after = {JacksonAutoConfiguration.class, WebMvcAutoConfiguration.class})
 @ConditionalOnClass(DispatcherServlet.class)
 @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @ConditionalOnProperty(name = "guard4j.web.enabled", havingValue = "true", matchIfMissing = true)
@@ -33,10 +51,44 @@ public class Guard4jWebAutoConfiguration {
      * Global exception handler that converts exceptions to structured error responses.
      *
      * @param properties Guard4j configuration properties
+     * @param classifier classifier mapping exceptions to error codes
+     * @param objectMapper the application's object mapper; without one, error
+     *                     responses are not pre-encoded
      * @return configured exception handler
      */
     @Bean
-    public Guard4jExceptionHandler guard4jExceptionHandler(Guard4jProperties properties) {
-        return new Guard4jExceptionHandler(properties);
+    public Guard4jExceptionHandler guard4jExceptionHandler(
+            Guard4jProperties properties,
+            ExceptionClassifier<Error> classifier,
+            ObjectProvider<ObjectMapper> objectMapper) {
+        ObjectMapper mapper = objectMapper.getIfAvailable();
+        return new Guard4jExceptionHandler(properties, classifier,
+            mapper != null ? new ErrorResponseWriter(mapper) : null);
+    }
+
+    /**
+     * Filter that caches the extracted observability context per request.
+     *
+     * @return the context filter
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "guard4j.observability.context.enabled", havingValue = "true", matchIfMissing = true)
+    public Guard4jContextFilter guard4jContextFilter() {
+        return new Guard4jContextFilter();
+    }
+
+    /**
+     * Filter that binds the request context to a scoped value on virtual threads.
+     *
+     * @param properties Guard4j configuration properties
+     * @return the scoped context filter
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    @ConditionalOnProperty(name = "guard4j.observability.context.enabled", havingValue = "true", matchIfMissing = true)
+    public Guard4jScopedContextFilter guard4jScopedContextFilter(Guard4jProperties properties) {
+        return new Guard4jScopedContextFilter(properties.getObservabilityOrDefault().context());
     }
 }
@@ -0,0 +1,53 @@
+package de.ferderer.guard4j.spring.autoconfigure;
+
+import de.ferderer.guard4j.spring.observability.SpringObservabilityProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.env.Environment;
+
+/**
+ * Re-binds {@link Guard4jProperties} when the environment changes at runtime and
+ * hands the result to the {@link SpringObservabilityProcessor}.
+ *
+ * <p>Reacts to Spring Cloud's {@code EnvironmentChangeEvent}, published for example
+ * by {@code /actuator/refresh}. The event is matched by class name, so Spring Cloud
+ * remains optional. Applications without Spring Cloud can call {@link #refresh()}
+ * after changing property sources.
+ *
+ * @since 2.2.0
+ */
+public class ObservabilityRefreshListener implements GenericApplicationListener {
+
+    /** Event published by Spring Cloud Context after environment properties changed. */
+    static final String ENVIRONMENT_CHANGE_EVENT = "org.springframework.cloud.context.environment.EnvironmentChangeEvent";
+
+    private final Environment environment;
+    private final ObjectProvider<SpringObservabilityProcessor> processor;
+
+    public ObservabilityRefreshListener(Environment environment, ObjectProvider<SpringObservabilityProcessor> processor) {
+        this.environment = environment;
+        this.processor = processor;
+    }
+
+    @Override
+    public boolean supportsEventType(ResolvableType eventType) {
+        Class<?> type = eventType.getRawClass();
+        return type != null && ENVIRONMENT_CHANGE_EVENT.equals(type.getName());
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        refresh();
+    }
+
+    /**
+     * Bind {@code guard4j.*} from the current environment and refresh the processor, if present.
+     */
+    public void refresh() {
+        processor.ifAvailable(current -> current.refresh(
+            Binder.get(environment).bindOrCreate("guard4j", Guard4jProperties.class)));
+    }
+}
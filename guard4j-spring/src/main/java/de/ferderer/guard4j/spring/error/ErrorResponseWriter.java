@@ -0,0 +1,247 @@
+package de.ferderer.guard4j.spring.error;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.ferderer.guard4j.error.Error;
+import de.ferderer.guard4j.error.ErrorRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Encodes {@link ErrorResponse} bodies from UTF-8 JSON fragments pre-encoded per {@link Error}.
+ *
+ * <p>For a response with the error's default message and no data, everything except
+ * the timestamp and the path is constant per error. The writer serializes such a
+ * response once per error with the given {@link ObjectMapper}, using placeholders for
+ * the two variable fields, and keeps the bytes around them. Later responses are
+ * assembled by copying the fragments around the encoded timestamp and path, without
+ * building an {@code ErrorResponse} or going through Jackson.
+ *
+ * <p>Because the fragments come from the object mapper itself, the output matches
+ * what the mapper would write, including custom naming or inclusion settings.
+ * Responses with a custom message or data, and errors whose serialized form does not
+ * contain both placeholders exactly once, are not pre-encoded; {@link #encode} returns
+ * {@code null} for them and the caller serializes the response as usual.
+ *
+ * <p>Templates are kept in an array indexed by {@link ErrorRegistry#id(Error)}, which
+ * is copied on the rare write, so the lookup per response is a plain array read.
+ * Errors without a registry id are not pre-encoded.
+ *
+ * @since 2.2.0
+ */
+public final class ErrorResponseWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(ErrorResponseWriter.class);
+
+    /** Upper bound for cached error ids, in case applications create errors dynamically. */
+    static final int MAX_CACHED_ERRORS = 1024;
+
+    private static final String TIMESTAMP_PLACEHOLDER = "guard4j:timestamp:5d1f0c";
+    private static final String PATH_PLACEHOLDER = "guard4j:path:5d1f0c";
+
+    private static final int[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000};
+
+    /** Marker for errors that cannot be pre-encoded. */
+    private static final Template UNSUPPORTED = new Template(new byte[0], new byte[0], new byte[0], false);
+
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private volatile Template[] templates = new Template[0];
+
+    /** Second and encoded {@code yyyy-MM-ddTHH:mm:ss} prefix of the last timestamp. */
+    private volatile Second lastSecond = new Second(Long.MIN_VALUE, new byte[0]);
+
+    /**
+     * Create a writer.
+     *
+     * @param objectMapper the object mapper used to derive the fragments
+     */
+    public ErrorResponseWriter(ObjectMapper objectMapper) {
+        this(objectMapper, Clock.systemUTC());
+    }
+
+    ErrorResponseWriter(ObjectMapper objectMapper, Clock clock) {
+        if (objectMapper == null) {
+            throw new IllegalArgumentException("objectMapper is required");
+        }
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    /**
+     * Encode an error response for the current time.
+     *
+     * @param error the error
+     * @param message the response message
+     * @param data the response data, may be null
+     * @param path the request path
+     * @return the UTF-8 JSON body, or null if the response cannot be pre-encoded
+     */
+    public byte[] encode(Error error, String message, Map<String, ?> data, String path) {
+        if (data != null && !data.isEmpty() || !Objects.equals(message, error.message()) || path == null) {
+            return null;
+        }
+        Template template = template(error);
+        if (template == UNSUPPORTED) {
+            return null;
+        }
+
+        byte[] timestamp = encodeTimestamp(clock.instant());
+        byte[] encodedPath = encodePath(path);
+        byte[] firstValue = template.pathFirst() ? encodedPath : timestamp;
+        byte[] secondValue = template.pathFirst() ? timestamp : encodedPath;
+
+        byte[] body = new byte[template.head().length + firstValue.length + template.middle().length
+            + secondValue.length + template.tail().length];
+        int offset = copy(template.head(), body, 0);
+        offset = copy(firstValue, body, offset);
+        offset = copy(template.middle(), body, offset);
+        offset = copy(secondValue, body, offset);
+        copy(template.tail(), body, offset);
+        return body;
+    }
+
+    private Template template(Error error) {
+        int id = ErrorRegistry.id(error);
+        if (id == ErrorRegistry.UNREGISTERED) {
+            return UNSUPPORTED;
+        }
+        Template[] cached = templates;
+        if (id < cached.length && cached[id] != null) {
+            return cached[id];
+        }
+        Template template = createTemplate(error);
+        if (id < MAX_CACHED_ERRORS) {
+            cache(id, template);
+        }
+        return template;
+    }
+
+    private synchronized void cache(int id, Template template) {
+        Template[] cached = templates;
+        int length = Math.max(cached.length, Math.min(ErrorRegistry.size(), MAX_CACHED_ERRORS));
+        Template[] copy = Arrays.copyOf(cached, length);
+        if (copy[id] == null) {
+            copy[id] = template;
+            templates = copy;
+        }
+    }
+
+    private Template createTemplate(Error error) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(new ErrorResponse(TIMESTAMP_PLACEHOLDER,
+                error.httpStatus().value(), error.name(), error.message(), PATH_PLACEHOLDER, Map.of()));
+        } catch (JsonProcessingException e) {
+            log.debug("Error response for {} is not pre-encoded", error.name(), e);
+            return UNSUPPORTED;
+        }
+
+        byte[] timestamp = TIMESTAMP_PLACEHOLDER.getBytes(StandardCharsets.US_ASCII);
+        byte[] path = PATH_PLACEHOLDER.getBytes(StandardCharsets.US_ASCII);
+        int timestampAt = indexOfOnly(json, timestamp);
+        int pathAt = indexOfOnly(json, path);
+        if (timestampAt < 0 || pathAt < 0) {
+            return UNSUPPORTED;
+        }
+
+        boolean pathFirst = pathAt < timestampAt;
+        int firstAt = Math.min(timestampAt, pathAt);
+        int firstEnd = firstAt + (pathFirst ? path.length : timestamp.length);
+        int secondAt = Math.max(timestampAt, pathAt);
+        int secondEnd = secondAt + (pathFirst ? timestamp.length : path.length);
+        return new Template(
+            Arrays.copyOfRange(json, 0, firstAt),
+            Arrays.copyOfRange(json, firstEnd, secondAt),
+            Arrays.copyOfRange(json, secondEnd, json.length),
+            pathFirst);
+    }
+
+    /**
+     * Encode an instant as {@link Instant#toString()} does, reusing the encoded
+     * date and time of day while the second does not change.
+     */
+    private byte[] encodeTimestamp(Instant instant) {
+        Second current = lastSecond;
+        if (current.epochSecond() != instant.getEpochSecond()) {
+            String text = Instant.ofEpochSecond(instant.getEpochSecond()).toString();
+            current = new Second(instant.getEpochSecond(),
+                text.substring(0, text.length() - 1).getBytes(StandardCharsets.US_ASCII));
+            lastSecond = current;
+        }
+
+        // Fraction in groups of three digits, as DateTimeFormatter.ISO_INSTANT prints it
+        int nanos = instant.getNano();
+        int digits = nanos == 0 ? 0 : nanos % 1_000_000 == 0 ? 3 : nanos % 1_000 == 0 ? 6 : 9;
+        byte[] prefix = current.prefix();
+        byte[] timestamp = new byte[prefix.length + (digits > 0 ? digits + 1 : 0) + 1];
+        int offset = copy(prefix, timestamp, 0);
+        if (digits > 0) {
+            timestamp[offset++] = '.';
+            int value = nanos / POWERS_OF_TEN[9 - digits];
+            for (int i = offset + digits - 1; i >= offset; i--) {
+                timestamp[i] = (byte) ('0' + value % 10);
+                value /= 10;
+            }
+            offset += digits;
+        }
+        timestamp[offset] = 'Z';
+        return timestamp;
+    }
+
+    private static byte[] encodePath(String path) {
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c < 0x20 || c > 0x7e || c == '"' || c == '\\') {
+                return JsonStringEncoder.getInstance().quoteAsUTF8(path);
+            }
+        }
+        return path.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Find the only occurrence of a sequence.
+     *
+     * @return its index, or -1 if it does not occur exactly once
+     */
+    private static int indexOfOnly(byte[] array, byte[] sequence) {
+        int found = -1;
+        outer:
+        for (int i = 0; i <= array.length - sequence.length; i++) {
+            for (int j = 0; j < sequence.length; j++) {
+                if (array[i + j] != sequence[j]) {
+                    continue outer;
+                }
+            }
+            if (found >= 0) {
+                return -1;
+            }
+            found = i;
+        }
+        return found;
+    }
+
+    private static int copy(byte[] source, byte[] target, int offset) {
+        System.arraycopy(source, 0, target, offset, source.length);
+        return offset + source.length;
+    }
+
+    /**
+     * Constant fragments around the two variable fields of one error's response.
+     *
+     * @param head bytes before the first variable field
+     * @param middle bytes between the variable fields
+     * @param tail bytes after the second variable field
+     * @param pathFirst whether the path precedes the timestamp
+     */
+    private record Template(byte[] head, byte[] middle, byte[] tail, boolean pathFirst) {}
+
+    private record Second(long epochSecond, byte[] prefix) {}
+}
@@ -0,0 +1,32 @@
+package de.ferderer.guard4j.spring.error;
+
+import de.ferderer.guard4j.error.Error;
+import de.ferderer.guard4j.error.ExceptionClassifier;
+
+/**
+ * Callback to add application mappings to the exception classifier used by
+ * {@link Guard4jExceptionHandler}.
+ *
+ * <p>Customizers run after the {@link SpringError} defaults have been added,
+ * so they can override them:
+ * <pre>{@code
+ * @Bean
+ * ExceptionClassifierCustomizer paymentErrors() {
+ *     return builder -> builder
+ *         .map(PaymentDeclinedException.class, PaymentError.PAYMENT_DECLINED)
+ *         .map("org.hibernate.exception.LockTimeoutException", SpringError.DATA_LOCK_ACQUISITION_FAILED);
+ * }
+ * }</pre>
+ *
+ * @since 2.2.0
+ */
+@FunctionalInterface
+public interface ExceptionClassifierCustomizer {
+
+    /**
+     * Customize the classifier builder.
+     *
+     * @param builder the builder, already containing the default mappings
+     */
+    void customize(ExceptionClassifier.Builder<Error> builder);
+}
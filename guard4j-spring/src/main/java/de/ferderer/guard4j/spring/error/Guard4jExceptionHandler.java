@@ -2,12 +2,20 @@ package de.ferderer.guard4j.spring.error;
 
 import de.ferderer.guard4j.classification.HttpStatus;
 import de.ferderer.guard4j.error.AppException;
+import de.ferderer.guard4j.error.Error;
+import de.ferderer.guard4j.error.ExceptionClassifier;
 import de.ferderer.guard4j.spring.autoconfigure.Guard4jProperties;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.Map;
+import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -20,6 +28,13 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
  * It converts exceptions into structured {@code ErrorResponse} objects with
  * appropriate HTTP status codes.
  *
+ * <p>Responses with the error's default message and no data are written as
+ * pre-encoded JSON by an {@link ErrorResponseWriter} directly to the servlet
+ * output stream, bypassing message conversion. This keeps error storms such as
+ * mass 404s or 429s cheap. Requests that do not accept {@code application/json}
+ * and all other responses go through the regular content negotiation, message
+ * converters and {@code ResponseBodyAdvice}.
+ *
  * <p>The handler is ordered to run before Spring Boot's default error handling
  * but after any application-specific exception handlers.
  */
@@ -29,10 +44,37 @@ public class Guard4jExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(Guard4jExceptionHandler.class);
 
+    /** Spring statuses indexed by status code, for allocation- and search-free conversion. */
+    private static final org.springframework.http.HttpStatus[] SPRING_STATUSES = springStatuses();
+
     private final Guard4jProperties properties;
+    private final ExceptionClassifier<? extends Error> classifier;
+    private final ErrorResponseWriter writer;
 
+    /**
+     * Create a handler that writes all responses through the message converters.
+     *
+     * @param properties Guard4j configuration properties
+     */
     public Guard4jExceptionHandler(Guard4jProperties properties) {
+        this(properties, SpringError.classifier(), null);
+    }
+
+    /**
+     * Create a handler that maps exceptions with a custom classifier and writes
+     * pre-encoded responses with the given writer.
+     *
+     * @param properties Guard4j configuration properties
+     * @param classifier the classifier for exceptions that are not {@code AppException}s
+     * @param writer the writer for pre-encoded error responses, or null to write
+     *               all responses through the message converters
+     * @since 2.2.0
+     */
+    public Guard4jExceptionHandler(Guard4jProperties properties, ExceptionClassifier<? extends Error> classifier,
+                                   ErrorResponseWriter writer) {
         this.properties = properties;
+        this.classifier = classifier;
+        this.writer = writer;
     }
 
     /**
@@ -43,16 +85,21 @@ public class Guard4jExceptionHandler {
      */
     @ExceptionHandler(AppException.class)
     public ResponseEntity<ErrorResponse> handleAppException(
-            AppException ex, HttpServletRequest request) {
+            AppException ex, HttpServletRequest request, HttpServletResponse servletResponse) throws IOException {
 
         log.debug("Handling AppException: {} at {}", ex.errorCode().name(), request.getRequestURI());
 
+        Map<String, Object> data = ex.hasData() ? ex.data() : Map.of();
+        if (writePreEncoded(ex.errorCode(), ex.getMessage(), data, request, servletResponse)) {
+            return null;
+        }
+
         ErrorResponse response = ErrorResponse.of(
             ex.errorCode().httpStatus().value(),
             ex.errorCode().name(),
             ex.getMessage(),
             request.getRequestURI(),
-            ex.data()
+            data
         );
 
         return ResponseEntity
@@ -63,13 +110,13 @@ public class Guard4jExceptionHandler {
     /**
      * Handle Spring framework and other exceptions if enabled.
      *
-     * <p>This handler attempts to map common Spring exceptions to appropriate
-     * Guard4j error codes. If no mapping is found, it falls back to a generic
-     * internal server error.
+     * <p>This handler maps exceptions to Guard4j error codes through the
+     * {@link ExceptionClassifier}, taking subclasses and causes into account.
+     * If no mapping is found, it falls back to a generic internal server error.
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(
-            Exception ex, HttpServletRequest request) {
+            Exception ex, HttpServletRequest request, HttpServletResponse servletResponse) throws IOException {
 
         // Only handle Spring exceptions if enabled
         if (!properties.web().handleSpringExceptions()) {
@@ -77,12 +124,13 @@ public class Guard4jExceptionHandler {
             throw new AppException(SpringError.INTERNAL_SERVER_ERROR, ex);
         }
 
-        // Try to map the exception to a SpringError
-        SpringError springError = SpringError.fromExceptionWithFallback(ex);
+        // Try to map the exception to a known error
+        Optional<? extends Error> classified = classifier.classify(ex);
+        Error error = classified.isPresent() ? classified.get() : SpringError.INTERNAL_SERVER_ERROR;
 
         log.debug("Mapped {} to {} at {}",
             ex.getClass().getSimpleName(),
-            springError.name(),
+            error.name(),
             request.getRequestURI());
 
         // Include original exception info in debug mode
@@ -94,19 +142,68 @@ public class Guard4jExceptionHandler {
             );
         }
 
+        if (writePreEncoded(error, error.message(), data, request, servletResponse)) {
+            return null;
+        }
+
         ErrorResponse response = ErrorResponse.of(
-            springError.httpStatus().value(),
-            springError.name(),
-            springError.message(),
+            error.httpStatus().value(),
+            error.name(),
+            error.message(),
             request.getRequestURI(),
             data
         );
 
         return ResponseEntity
-            .status(toSpringHttpStatus(springError.httpStatus()))
+            .status(toSpringHttpStatus(error.httpStatus()))
             .body(response);
     }
 
+    /**
+     * Write the pre-encoded response for an error, if there is one.
+     *
+     * <p>Returning {@code null} from the handler after this marks the request as
+     * handled, so Spring does not write a body of its own.
+     *
+     * @return true if the response was written
+     */
+    private boolean writePreEncoded(Error error, String message, Map<String, Object> data,
+                                    HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (writer == null || response.isCommitted() || !acceptsJson(request)) {
+            return false;
+        }
+        byte[] body = writer.encode(error, message, data, request.getRequestURI());
+        if (body == null) {
+            return false;
+        }
+        response.setStatus(toSpringHttpStatus(error.httpStatus()).value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+        return true;
+    }
+
+    /**
+     * Whether the request accepts the {@code application/json} body of a pre-encoded
+     * response. Requests without an {@code Accept} header accept any type.
+     */
+    private static boolean acceptsJson(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        try {
+            for (MediaType mediaType : MediaType.parseMediaTypes(accept)) {
+                if (mediaType.getQualityValue() > 0 && mediaType.includes(MediaType.APPLICATION_JSON)) {
+                    return true;
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            // Leave invalid headers to the regular content negotiation
+        }
+        return false;
+    }
+
     /**
      * Convert Guard4j HttpStatus to Spring HttpStatus.
      *
@@ -119,6 +216,21 @@ public class Guard4jExceptionHandler {
             return org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
         }
 
-        return org.springframework.http.HttpStatus.valueOf(guard4jStatus.value());
+        int value = guard4jStatus.value();
+        if (value >= 0 && value < SPRING_STATUSES.length && SPRING_STATUSES[value] != null) {
+            return SPRING_STATUSES[value];
+        }
+        return org.springframework.http.HttpStatus.valueOf(value);
+    }
+
+    private static org.springframework.http.HttpStatus[] springStatuses() {
+        org.springframework.http.HttpStatus[] table = new org.springframework.http.HttpStatus[600];
+        for (org.springframework.http.HttpStatus status : org.springframework.http.HttpStatus.values()) {
+            // Keep the first constant per code, as HttpStatus.valueOf does for aliases
+            if (table[status.value()] == null) {
+                table[status.value()] = status;
+            }
+        }
+        return table;
     }
 }
@@ -4,6 +4,8 @@ import de.ferderer.guard4j.classification.Category;
 import de.ferderer.guard4j.classification.HttpStatus;
 import de.ferderer.guard4j.classification.Level;
 import de.ferderer.guard4j.error.Error;
+import de.ferderer.guard4j.error.ErrorRegistry;
+import de.ferderer.guard4j.error.ExceptionClassifier;
 
 /**
  * Spring-specific error codes that map common Spring exceptions to structured error responses.
@@ -105,74 +107,113 @@ public enum SpringError implements Error {
         return category;
     }
 
+    static {
+        ErrorRegistry.register(SpringError.class);
+    }
+
+    /** Classifier with the default mappings, shared by {@link #fromException(Throwable)}. */
+    private static final ExceptionClassifier<SpringError> CLASSIFIER = defaultClassifier();
+
     /**
      * Map a Spring exception to the corresponding SpringError.
-     * Uses pattern matching for clean exception mapping.
+     *
+     * <p>Subclasses of mapped exceptions and exceptions wrapped as causes are
+     * resolved through the {@link #classifier() default classifier}.
      * Returns UNKNOWN_ERROR for unmapped exceptions.
      */
     public static SpringError fromException(Throwable ex) {
-        if (ex == null) {
-            return UNKNOWN_ERROR;
-        }
+        return CLASSIFIER.classify(ex).orElse(UNKNOWN_ERROR);
+    }
 
-        return switch (ex.getClass().getName()) {
+    /**
+     * Map exception with fallback to INTERNAL_SERVER_ERROR for critical system errors.
+     * This provides a stronger fallback than UNKNOWN_ERROR for cases where
+     * a generic server error response is preferred.
+     */
+    public static SpringError fromExceptionWithFallback(Throwable exception) {
+        SpringError error = fromException(exception);
+        return (error == UNKNOWN_ERROR) ? INTERNAL_SERVER_ERROR : error;
+    }
+
+    /**
+     * Classifier with the default mappings of Spring, JPA and common Java exceptions.
+     *
+     * @return the shared default classifier
+     * @since 2.2.0
+     */
+    public static ExceptionClassifier<SpringError> classifier() {
+        return CLASSIFIER;
+    }
+
+    /**
+     * Add the default mappings to a classifier builder.
+     *
+     * <p>Mappings are declared by class name, so exceptions of libraries that are
+     * not on the classpath are never loaded. Applications can add their own
+     * mappings afterwards, overriding defaults for the same class.
+     *
+     * @param builder the builder to add the mappings to
+     * @since 2.2.0
+     */
+    public static void addDefaultMappings(ExceptionClassifier.Builder<? super SpringError> builder) {
+        builder
             // Spring Security (when available)
-            case "org.springframework.security.access.AccessDeniedException" -> AUTH_ACCESS_DENIED;
-            case "org.springframework.security.authentication.BadCredentialsException" -> AUTH_INVALID_CREDENTIALS;
-            case "org.springframework.security.authentication.InsufficientAuthenticationException" -> AUTH_INSUFFICIENT_AUTHENTICATION;
+            .map("org.springframework.security.access.AccessDeniedException", AUTH_ACCESS_DENIED)
+            .map("org.springframework.security.authentication.BadCredentialsException", AUTH_INVALID_CREDENTIALS)
+            .map("org.springframework.security.authentication.InsufficientAuthenticationException", AUTH_INSUFFICIENT_AUTHENTICATION)
 
             // Spring Web
-            case "org.springframework.web.servlet.NoHandlerFoundException" -> DATA_NOT_FOUND;
-            case "org.springframework.web.HttpRequestMethodNotSupportedException" -> VALIDATION_METHOD_NOT_ALLOWED;
-            case "org.springframework.web.HttpMessageNotReadableException" -> VALIDATION_INVALID_JSON;
-            case "org.springframework.web.bind.MissingServletRequestParameterException" -> VALIDATION_MISSING_PARAMETER;
-            case "org.springframework.web.method.annotation.MethodArgumentTypeMismatchException" -> VALIDATION_TYPE_MISMATCH;
-            case "org.springframework.web.bind.MethodArgumentNotValidException" -> VALIDATION_INVALID_INPUT;
-            case "org.springframework.validation.BindException" -> VALIDATION_BINDING_ERROR;
+            .map("org.springframework.web.servlet.NoHandlerFoundException", DATA_NOT_FOUND)
+            .map("org.springframework.web.HttpRequestMethodNotSupportedException", VALIDATION_METHOD_NOT_ALLOWED)
+            .map("org.springframework.http.converter.HttpMessageNotReadableException", VALIDATION_INVALID_JSON)
+            .map("org.springframework.web.bind.MissingServletRequestParameterException", VALIDATION_MISSING_PARAMETER)
+            .map("org.springframework.web.method.annotation.MethodArgumentTypeMismatchException", VALIDATION_TYPE_MISMATCH)
+            .map("org.springframework.web.bind.MethodArgumentNotValidException", VALIDATION_INVALID_INPUT)
+            .map("org.springframework.validation.BindException", VALIDATION_BINDING_ERROR)
+
+            // Spring WebFlux
+            .map("org.springframework.web.reactive.resource.NoResourceFoundException", DATA_NOT_FOUND)
+            .map("org.springframework.web.server.MethodNotAllowedException", VALIDATION_METHOD_NOT_ALLOWED)
+            .map("org.springframework.web.server.ServerWebInputException", VALIDATION_BINDING_ERROR)
+            .map("org.springframework.web.bind.support.WebExchangeBindException", VALIDATION_INVALID_INPUT)
+            .map("org.springframework.web.server.MissingRequestValueException", VALIDATION_MISSING_PARAMETER)
 
             // Validation
-            case "jakarta.validation.ConstraintViolationException" -> VALIDATION_CONSTRAINT_VIOLATION;
+            .map("jakarta.validation.ConstraintViolationException", VALIDATION_CONSTRAINT_VIOLATION)
 
             // Spring Data/DAO
-            case "org.springframework.dao.DataAccessResourceFailureException" -> SYSTEM_DATABASE_CONNECTION_FAILED;
-            case "org.springframework.dao.DuplicateKeyException" -> DATA_DUPLICATE_RESOURCE;
-            case "org.springframework.dao.DataIntegrityViolationException" -> DATA_INTEGRITY_VIOLATION;
-            case "org.springframework.dao.EmptyResultDataAccessException" -> DATA_NOT_FOUND;
-            case "org.springframework.dao.OptimisticLockingFailureException" -> DATA_OPTIMISTIC_LOCK_FAILURE;
-            case "org.springframework.dao.CannotAcquireLockException" -> DATA_LOCK_ACQUISITION_FAILED;
-            case "org.springframework.dao.PessimisticLockingFailureException" -> DATA_PESSIMISTIC_LOCK_FAILURE;
-            case "org.springframework.transaction.CannotCreateTransactionException" -> SYSTEM_TRANSACTION_FAILED;
-            case "org.springframework.dao.TransientDataAccessException" -> SYSTEM_DATABASE_TEMPORARY_FAILURE;
+            .map("org.springframework.dao.DataAccessResourceFailureException", SYSTEM_DATABASE_CONNECTION_FAILED)
+            .map("org.springframework.dao.DuplicateKeyException", DATA_DUPLICATE_RESOURCE)
+            .map("org.springframework.dao.DataIntegrityViolationException", DATA_INTEGRITY_VIOLATION)
+            .map("org.springframework.dao.EmptyResultDataAccessException", DATA_NOT_FOUND)
+            .map("org.springframework.dao.OptimisticLockingFailureException", DATA_OPTIMISTIC_LOCK_FAILURE)
+            .map("org.springframework.dao.CannotAcquireLockException", DATA_LOCK_ACQUISITION_FAILED)
+            .map("org.springframework.dao.PessimisticLockingFailureException", DATA_PESSIMISTIC_LOCK_FAILURE)
+            .map("org.springframework.transaction.CannotCreateTransactionException", SYSTEM_TRANSACTION_FAILED)
+            .map("org.springframework.dao.TransientDataAccessException", SYSTEM_DATABASE_TEMPORARY_FAILURE)
 
             // JPA/Hibernate (when available)
-            case "jakarta.persistence.EntityNotFoundException" -> DATA_NOT_FOUND;
-            case "jakarta.persistence.OptimisticLockException" -> DATA_OPTIMISTIC_LOCK_FAILURE;
-            case "org.springframework.orm.jpa.JpaObjectRetrievalFailureException" -> DATA_NOT_FOUND;
-            case "jakarta.persistence.PersistenceException" -> SYSTEM_DATABASE_ERROR;
+            .map("jakarta.persistence.EntityNotFoundException", DATA_NOT_FOUND)
+            .map("jakarta.persistence.OptimisticLockException", DATA_OPTIMISTIC_LOCK_FAILURE)
+            .map("org.springframework.orm.jpa.JpaObjectRetrievalFailureException", DATA_NOT_FOUND)
+            .map("jakarta.persistence.PersistenceException", SYSTEM_DATABASE_ERROR)
 
             // Common Java
-            case "java.lang.IllegalArgumentException" -> VALIDATION_INVALID_ARGUMENT;
-            case "java.lang.IllegalStateException" -> BUSINESS_INVALID_STATE;
-            case "java.lang.UnsupportedOperationException" -> NOT_IMPLEMENTED;
-            case "java.lang.SecurityException" -> AUTH_SECURITY_VIOLATION;
+            .map("java.lang.IllegalArgumentException", VALIDATION_INVALID_ARGUMENT)
+            .map("java.lang.IllegalStateException", BUSINESS_INVALID_STATE)
+            .map("java.lang.UnsupportedOperationException", NOT_IMPLEMENTED)
+            .map("java.lang.SecurityException", AUTH_SECURITY_VIOLATION)
 
             // Network/IO
-            case "java.net.SocketTimeoutException" -> EXTERNAL_SERVICE_TIMEOUT;
-            case "java.net.ConnectException" -> EXTERNAL_SERVICE_UNAVAILABLE;
-            case "java.io.IOException" -> SYSTEM_IO_ERROR;
-
-            default -> UNKNOWN_ERROR;
-        };
+            .map("java.net.SocketTimeoutException", EXTERNAL_SERVICE_TIMEOUT)
+            .map("java.net.ConnectException", EXTERNAL_SERVICE_UNAVAILABLE)
+            .map("java.io.IOException", SYSTEM_IO_ERROR);
     }
 
-    /**
-     * Map exception with fallback to INTERNAL_SERVER_ERROR for critical system errors.
-     * This provides a stronger fallback than UNKNOWN_ERROR for cases where
-     * a generic server error response is preferred.
-     */
-    public static SpringError fromExceptionWithFallback(Throwable exception) {
-        SpringError error = fromException(exception);
-        return (error == UNKNOWN_ERROR) ? INTERNAL_SERVER_ERROR : error;
+    private static ExceptionClassifier<SpringError> defaultClassifier() {
+        ExceptionClassifier.Builder<SpringError> builder = ExceptionClassifier.builder();
+        addDefaultMappings(builder);
+        return builder.build();
     }
 
 }
@@ -0,0 +1,370 @@
+package de.ferderer.guard4j.spring.observability;
+
+import de.ferderer.guard4j.observability.ContextConfig;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Immutable extraction plan compiled from a {@link ContextConfig}.
+ *
+ * <p>Compiling resolves every configured field once into a typed step with its
+ * MDC keys, header names or attribute name. Running the plan executes the steps
+ * in configuration order and writes their values into a fixed-size array backing
+ * the returned map, without {@code Optional}s or intermediate maps.
+ *
+ * <p>A run that finds values still allocates that array and the map view over it.
+ * They are not reused per thread or per request because the map escapes: it is
+ * cached by {@link RequestContextCache}, bound to a {@code ScopedValue} by
+ * {@link Guard4jScopedContextFilter} and handed to processors that may keep it,
+ * e.g. for asynchronous logging. With the request cache installed, the allocation
+ * happens once per request instead of once per event, unless request attribute
+ * fields are configured. A run without values returns the shared empty map.
+ *
+ * <p>When several steps share a context name, the last step that yields a value
+ * wins, matching the order in which fields are configured.
+ *
+ * <p>Request attributes may change while a request is processed, unlike headers.
+ * For a request-scoped cache the plan therefore runs in two parts:
+ * {@link #executeCacheable} skips every context name that a request attribute
+ * field contributes to, and {@link #executeUncacheable} fills in those names on
+ * top of a cached result for each event.
+ *
+ * @since 2.2.0
+ */
+final class ContextExtractionPlan {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContextExtractionPlan.class);
+
+    // Arrays of the common keys, for iteration without iterators on the hot path
+    private static final String[] TRACE_ID_KEYS = ContextKeys.TRACE_ID.toArray(String[]::new);
+    private static final String[] CORRELATION_ID_KEYS = ContextKeys.CORRELATION_ID.toArray(String[]::new);
+    private static final String[] USER_ID_KEYS = ContextKeys.USER_ID.toArray(String[]::new);
+
+    /**
+     * A single compiled extraction step.
+     */
+    @FunctionalInterface
+    interface Step {
+
+        /**
+         * Extract the value of this step.
+         *
+         * @param request the current HTTP request, null outside of a web context
+         * @return the value, or null if not available
+         */
+        String extract(HttpServletRequest request);
+    }
+
+    private final String[] names;
+    private final Step[] steps;
+    private final int[] slots;
+    private final boolean needsRequest;
+    private final boolean[] cacheableSlots;
+    private final boolean[] uncacheableSlots;
+    private final boolean hasUncacheableSlots;
+
+    private ContextExtractionPlan(String[] names, Step[] steps, int[] slots, boolean needsRequest,
+                                  boolean[] uncacheableSlots) {
+        this.names = names;
+        this.steps = steps;
+        this.slots = slots;
+        this.needsRequest = needsRequest;
+        this.uncacheableSlots = uncacheableSlots;
+        this.cacheableSlots = new boolean[uncacheableSlots.length];
+        boolean hasUncacheable = false;
+        for (int slot = 0; slot < uncacheableSlots.length; slot++) {
+            cacheableSlots[slot] = !uncacheableSlots[slot];
+            hasUncacheable |= uncacheableSlots[slot];
+        }
+        this.hasUncacheableSlots = hasUncacheable;
+    }
+
+    /**
+     * Compile the extraction plan for a context configuration.
+     *
+     * @param config the context configuration
+     * @return the compiled plan
+     */
+    static ContextExtractionPlan compile(ContextConfig config) {
+        List<String> names = new ArrayList<>();
+        List<Step> steps = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        List<Integer> attributeSlots = new ArrayList<>();
+        boolean needsRequest = false;
+
+        if (config.includeTraceId()) {
+            add(names, steps, slots, "traceId", ContextExtractionPlan::traceId);
+            needsRequest = true;
+        }
+        if (config.includeUserId()) {
+            add(names, steps, slots, "userId", ContextExtractionPlan::userId);
+            needsRequest = true;
+        }
+        if (config.includeCorrelationId()) {
+            add(names, steps, slots, "correlationId", ContextExtractionPlan::correlationId);
+            needsRequest = true;
+        }
+
+        for (ContextConfig.CustomField field : config.customFields()) {
+            String key = field.key();
+            Step step = switch (field.source()) {
+                case MDC -> request -> ContextKeys.textOrNull(MDC.get(key));
+                case HEADER -> request -> request != null ? ContextKeys.textOrNull(request.getHeader(key)) : null;
+                case ATTRIBUTE -> request -> {
+                    Object value = request != null ? request.getAttribute(key) : null;
+                    return value != null ? value.toString() : null;
+                };
+            };
+            add(names, steps, slots, field.name(), step);
+            needsRequest |= field.source() != ContextConfig.FieldSource.MDC;
+            if (field.source() == ContextConfig.FieldSource.ATTRIBUTE) {
+                attributeSlots.add(slots.get(slots.size() - 1));
+            }
+        }
+
+        boolean[] uncacheableSlots = new boolean[names.size()];
+        for (int slot : attributeSlots) {
+            uncacheableSlots[slot] = true;
+        }
+        return new ContextExtractionPlan(
+            names.toArray(String[]::new),
+            steps.toArray(Step[]::new),
+            slots.stream().mapToInt(Integer::intValue).toArray(),
+            needsRequest,
+            uncacheableSlots
+        );
+    }
+
+    private static void add(List<String> names, List<Step> steps, List<Integer> slots, String name, Step step) {
+        int slot = names.indexOf(name);
+        if (slot < 0) {
+            slot = names.size();
+            names.add(name);
+        }
+        steps.add(step);
+        slots.add(slot);
+    }
+
+    /**
+     * Run the plan against the current execution context.
+     *
+     * <p>Allocates one value array and one map view over it if any value is found,
+     * see the class documentation for why they are not reused.
+     *
+     * @param requestSource supplies the current HTTP request, only called if a step needs it
+     * @return an immutable map of the extracted values, owned by the caller
+     */
+    Map<String, String> execute(RequestSource requestSource) {
+        HttpServletRequest request = needsRequest ? requestSource.currentRequest() : null;
+        return run(request, new String[names.length], 0, null);
+    }
+
+    /**
+     * Run the part of the plan whose result stays valid for the rest of a request,
+     * as long as the MDC and the authentication do not change.
+     *
+     * @param requestSource supplies the current HTTP request, only called if a step needs it
+     * @return an immutable map of the extracted values, without the names that
+     *     request attribute fields contribute to
+     */
+    Map<String, String> executeCacheable(RequestSource requestSource) {
+        if (!hasUncacheableSlots) {
+            return execute(requestSource);
+        }
+        HttpServletRequest request = needsRequest ? requestSource.currentRequest() : null;
+        return run(request, new String[names.length], 0, cacheableSlots);
+    }
+
+    /**
+     * Complete a result of {@link #executeCacheable} with the names that request
+     * attribute fields contribute to, extracted from the current request.
+     *
+     * @param cacheable a result of {@link #executeCacheable} of this plan
+     * @param requestSource supplies the current HTTP request
+     * @return the complete context, {@code cacheable} itself if the plan reads no request attributes
+     */
+    Map<String, String> executeUncacheable(Map<String, String> cacheable, RequestSource requestSource) {
+        if (!hasUncacheableSlots) {
+            return cacheable;
+        }
+        String[] values = cacheable instanceof ContextValues contextValues
+            ? contextValues.values.clone()
+            : new String[names.length];
+        return run(requestSource.currentRequest(), values, cacheable.size(), uncacheableSlots);
+    }
+
+    /**
+     * Run the steps of the selected slots, all if {@code selectedSlots} is null,
+     * writing into {@code values} which already holds {@code size} values.
+     */
+    private Map<String, String> run(HttpServletRequest request, String[] values, int size, boolean[] selectedSlots) {
+        for (int i = 0; i < steps.length; i++) {
+            int slot = slots[i];
+            if (selectedSlots != null && !selectedSlots[slot]) {
+                continue;
+            }
+            String value = steps[i].extract(request);
+            if (value != null) {
+                if (values[slot] == null) {
+                    size++;
+                }
+                values[slot] = value;
+            }
+        }
+        return size == 0 ? Map.of() : new ContextValues(names, values, size);
+    }
+
+    /**
+     * Lookup of the current HTTP request.
+     */
+    @FunctionalInterface
+    interface RequestSource {
+
+        /**
+         * @return the current HTTP request, or null outside of a web context
+         */
+        HttpServletRequest currentRequest();
+    }
+
+    static String traceId(HttpServletRequest request) {
+        String value = firstInMdc(TRACE_ID_KEYS);
+        return value != null ? value : firstInHeaders(request, TRACE_ID_KEYS);
+    }
+
+    static String userId(HttpServletRequest request) {
+        String value = authenticatedUser();
+        if (value == null) {
+            value = firstInMdc(USER_ID_KEYS);
+        }
+        return value != null ? value : firstInHeaders(request, USER_ID_KEYS);
+    }
+
+    static String correlationId(HttpServletRequest request) {
+        String value = firstInMdc(CORRELATION_ID_KEYS);
+        return value != null ? value : firstInHeaders(request, CORRELATION_ID_KEYS);
+    }
+
+    private static String authenticatedUser() {
+        try {
+            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+            if (auth != null && auth.isAuthenticated() && !"anonymousUser".equals(auth.getName())) {
+                return auth.getName();
+            }
+        } catch (Exception e) {
+            logger.debug("Could not extract user ID from Spring Security: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private static String firstInMdc(String[] keys) {
+        for (String key : keys) {
+            String value = ContextKeys.textOrNull(MDC.get(key));
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static String firstInHeaders(HttpServletRequest request, String[] keys) {
+        if (request == null) {
+            return null;
+        }
+        for (String key : keys) {
+            String value = ContextKeys.textOrNull(request.getHeader(key));
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Immutable map over the plan's shared names and one array of extracted values.
+     * Null values mark fields without a value and are not part of the map.
+     */
+    private static final class ContextValues extends AbstractMap<String, String> {
+
+        private final String[] names;
+        private final String[] values;
+        private final int size;
+
+        ContextValues(String[] names, String[] values, int size) {
+            this.names = names;
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public String get(Object key) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(key)) {
+                    return values[i];
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return size;
+                }
+
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    return new Iterator<>() {
+                        private int next = advance(0);
+
+                        private int advance(int from) {
+                            int i = from;
+                            while (i < values.length && values[i] == null) {
+                                i++;
+                            }
+                            return i;
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < values.length;
+                        }
+
+                        @Override
+                        public Entry<String, String> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            int index = next;
+                            next = advance(index + 1);
+                            return new SimpleImmutableEntry<>(names[index], values[index]);
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
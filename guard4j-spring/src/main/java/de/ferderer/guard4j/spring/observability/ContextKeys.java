@@ -0,0 +1,57 @@
+package de.ferderer.guard4j.spring.observability;
+
+import java.util.List;
+
+/**
+ * MDC keys and request header names that the observability context is read from.
+ *
+ * <p>The servlet extraction looks the keys up in the MDC and then in the request
+ * headers, in list order; integrations for other web stacks, such as the WebFlux
+ * module, read the same headers so that both produce the same context.
+ *
+ * @since 2.2.0
+ */
+public final class ContextKeys {
+
+    /** Common MDC keys and headers for distributed tracing. */
+    public static final List<String> TRACE_ID = List.of(
+        "traceId", "trace_id", "X-Trace-Id", "traceid",
+        "spanId", "span_id", "X-Span-Id", "spanid"
+    );
+
+    /** Common MDC keys and headers for correlation. */
+    public static final List<String> CORRELATION_ID = List.of(
+        "correlationId", "correlation_id", "X-Correlation-ID", "X-Correlation-Id",
+        "requestId", "request_id", "X-Request-ID", "X-Request-Id"
+    );
+
+    /** Common MDC keys and headers for user identification. */
+    public static final List<String> USER_ID = List.of(
+        "userId", "user_id", "X-User-ID", "X-User-Id", "username"
+    );
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ContextKeys() {
+    }
+
+    /**
+     * Returns the value unless it is null or blank, without allocating like
+     * {@code value.trim().isEmpty()} checks do.
+     *
+     * @param value an MDC or header value, may be null
+     * @return the value, or null if it is null or contains only whitespace
+     */
+    public static String textOrNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return value;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,40 @@
+package de.ferderer.guard4j.spring.observability;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Servlet filter that enables request-scoped context caching for
+ * {@link SpringContextExtractor}.
+ *
+ * <p>The filter installs an empty cache as a request attribute. The first
+ * event emitted during the request extracts the context and stores it; later
+ * events reuse it until the MDC or the authentication changes. Without this
+ * filter the context is extracted for every event.
+ *
+ * @since 2.2.0
+ */
+public class Guard4jContextFilter extends OncePerRequestFilter implements Ordered {
+
+    /** Default filter order, early enough to cover the security filter chain. */
+    public static final int DEFAULT_ORDER = Ordered.HIGHEST_PRECEDENCE + 20;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (request.getAttribute(RequestContextCache.ATTRIBUTE) == null) {
+            request.setAttribute(RequestContextCache.ATTRIBUTE, new RequestContextCache());
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    @Override
+    public int getOrder() {
+        return DEFAULT_ORDER;
+    }
+}
@@ -0,0 +1,60 @@
+package de.ferderer.guard4j.spring.observability;
+
+import de.ferderer.guard4j.observability.ContextConfig;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Servlet filter that extracts the request context once and binds it for
+ * {@link ScopedContextExtractor} while the rest of the chain runs.
+ *
+ * <p>Meant for applications running requests on virtual threads: the context is
+ * bound as one immutable map to a {@code ScopedValue}, which structured subtasks
+ * inherit without copying, instead of being kept in per-thread MDC maps.
+ *
+ * <p>The filter runs after the Spring Security filter chain, so the user id of
+ * the authenticated principal is part of the context.
+ *
+ * @since 2.2.0
+ */
+public class Guard4jScopedContextFilter extends OncePerRequestFilter implements Ordered {
+
+    /** Default filter order, after the Spring Security filter chain (-100). */
+    public static final int DEFAULT_ORDER = -90;
+
+    private final ContextExtractionPlan plan;
+
+    public Guard4jScopedContextFilter(ContextConfig config) {
+        this.plan = ContextExtractionPlan.compile(config);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // The binding runs a Runnable, so checked exceptions are carried out of the scope
+        Exception[] failure = new Exception[1];
+        ScopedContext.run(plan.execute(() -> request), () -> {
+            try {
+                filterChain.doFilter(request, response);
+            } catch (IOException | ServletException e) {
+                failure[0] = e;
+            }
+        });
+        if (failure[0] instanceof IOException e) {
+            throw e;
+        }
+        if (failure[0] instanceof ServletException e) {
+            throw e;
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return DEFAULT_ORDER;
+    }
+}
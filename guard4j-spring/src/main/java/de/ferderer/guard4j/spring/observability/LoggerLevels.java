@@ -0,0 +1,121 @@
+package de.ferderer.guard4j.spring.observability;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggerContextListener;
+import de.ferderer.guard4j.EmitterFactory;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.ClassUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks changes of the logging backend's logger levels, so that cached
+ * enabled states can be invalidated.
+ *
+ * <p>With Logback, a reset-resistant {@link LoggerContextListener} bumps a
+ * generation counter whenever the configuration is reset or reloaded, or a
+ * logger level is changed, and refreshes the emitter levels. Cached states
+ * stamped with an older generation are stale.
+ *
+ * <p>Caching is only safe when the enabled state depends on the logger level
+ * alone, so it is off for other backends and for Logback configurations with
+ * turbo filters, which may decide per event.
+ *
+ * @since 2.2.0
+ */
+final class LoggerLevels {
+
+    private static final boolean LOGBACK_PRESENT = ClassUtils.isPresent(
+        "ch.qos.logback.classic.LoggerContext", LoggerLevels.class.getClassLoader());
+
+    private static final AtomicInteger generation = new AtomicInteger();
+    private static volatile boolean tracking;
+
+    private LoggerLevels() {}
+
+    /**
+     * Current generation of the logger levels.
+     *
+     * @return a counter that changes whenever logger levels may have changed
+     */
+    static int generation() {
+        return generation.get();
+    }
+
+    /**
+     * Whether enabled states of loggers may currently be cached.
+     *
+     * <p>Installs the Logback listener on first call.
+     *
+     * @return true if level changes are tracked and no turbo filters are configured
+     */
+    static boolean isCacheable() {
+        if (!tracking) {
+            install();
+        }
+        return tracking && Logback.hasNoTurboFilters();
+    }
+
+    private static synchronized void install() {
+        if (!tracking && LOGBACK_PRESENT) {
+            tracking = Logback.addListener();
+        }
+    }
+
+    /**
+     * Invalidate all cached enabled states and refresh the emitter levels.
+     */
+    static void invalidate() {
+        generation.incrementAndGet();
+        EmitterFactory.refreshLevels();
+    }
+
+    /**
+     * Isolates Logback types so the class also loads without Logback.
+     */
+    private static final class Logback {
+
+        static boolean addListener() {
+            if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+                return false;
+            }
+            context.addListener(new Listener());
+            return true;
+        }
+
+        static boolean hasNoTurboFilters() {
+            return LoggerFactory.getILoggerFactory() instanceof LoggerContext context
+                && context.getTurboFilterList().isEmpty();
+        }
+    }
+
+    /**
+     * Invalidates cached states on every Logback configuration or level change.
+     */
+    private static final class Listener implements LoggerContextListener {
+
+        @Override
+        public boolean isResetResistant() {
+            return true;
+        }
+
+        @Override
+        public void onStart(LoggerContext context) {
+            invalidate();
+        }
+
+        @Override
+        public void onReset(LoggerContext context) {
+            invalidate();
+        }
+
+        @Override
+        public void onStop(LoggerContext context) {
+        }
+
+        @Override
+        public void onLevelChange(ch.qos.logback.classic.Logger logger, ch.qos.logback.classic.Level level) {
+            invalidate();
+        }
+    }
+}
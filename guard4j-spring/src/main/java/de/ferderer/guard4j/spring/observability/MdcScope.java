@@ -0,0 +1,141 @@
+package de.ferderer.guard4j.spring.observability;
+
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import java.util.Arrays;
+import java.util.Map;
+import org.slf4j.MDC;
+import org.slf4j.spi.MDCAdapter;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Scoped set of MDC entries that restores the previous MDC state on close.
+ *
+ * <p>Every {@link #put(String, String)} records the value the key had before,
+ * so closing the scope puts back values owned by the caller instead of blindly
+ * removing them. Keys are restored in reverse order, which also handles keys
+ * put more than once within the same scope.
+ *
+ * <p>Restoring leaves the MDC with the same content but, with Logback, a new
+ * {@link #fingerprint() fingerprint} instance. The scope records both instances
+ * per thread, so that {@link RequestContextCache} can still compare the MDC by
+ * identity after a scope was closed, see {@link #isRestoredFrom(Map, Map)}.
+ *
+ * <p>A scope is confined to the thread that created it.
+ *
+ * @since 2.2.0
+ */
+final class MdcScope implements AutoCloseable {
+
+    private static final boolean LOGBACK_PRESENT = ClassUtils.isPresent(
+        "ch.qos.logback.classic.util.LogbackMDCAdapter", MdcScope.class.getClassLoader());
+
+    private static final ThreadLocal<Restore> LAST_RESTORE = ThreadLocal.withInitial(Restore::new);
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private String[] keys = new String[INITIAL_CAPACITY];
+    private String[] previous = new String[INITIAL_CAPACITY];
+    private int size;
+    private Map<String, String> before;
+
+    /**
+     * Put an MDC entry, remembering the previous value of the key.
+     * Null values are ignored.
+     *
+     * @param key the MDC key
+     * @param value the value, may be null
+     */
+    void put(String key, String value) {
+        if (value == null) {
+            return;
+        }
+        if (size == 0) {
+            before = fingerprint();
+        }
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            previous = Arrays.copyOf(previous, size * 2);
+        }
+        keys[size] = key;
+        previous[size] = MDC.get(key);
+        size++;
+        MDC.put(key, value);
+    }
+
+    /**
+     * Restore all keys put through this scope to their previous values.
+     */
+    @Override
+    public void close() {
+        if (size == 0) {
+            return;
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            if (previous[i] == null) {
+                MDC.remove(keys[i]);
+            } else {
+                MDC.put(keys[i], previous[i]);
+            }
+        }
+        size = 0;
+        if (LOGBACK_PRESENT && LogbackMdc.isLogback(MDC.getMDCAdapter())) {
+            Restore restore = LAST_RESTORE.get();
+            restore.before = before;
+            restore.after = fingerprint();
+        }
+        before = null;
+    }
+
+    /**
+     * Get a map representing the current MDC state.
+     *
+     * <p>Logback hands out the same read-only map until the MDC is modified,
+     * so unchanged MDC state is detected by identity. Other MDC adapters
+     * return a copy that is compared by content.
+     *
+     * @return the MDC fingerprint, may be null for an empty MDC
+     */
+    static Map<String, String> fingerprint() {
+        MDCAdapter adapter = MDC.getMDCAdapter();
+        if (LOGBACK_PRESENT && LogbackMdc.isLogback(adapter)) {
+            return LogbackMdc.propertyMap(adapter);
+        }
+        return adapter != null ? adapter.getCopyOfContextMap() : null;
+    }
+
+    /**
+     * Whether a fingerprint is the MDC state left by the last scope closed on this
+     * thread, which restored the state of an earlier fingerprint. Both then have the
+     * same content, without comparing them entry by entry.
+     *
+     * @param mdc the current fingerprint
+     * @param original the earlier fingerprint
+     * @return true if closing a scope turned {@code original} into {@code mdc}
+     */
+    static boolean isRestoredFrom(Map<String, String> mdc, Map<String, String> original) {
+        Restore restore = LAST_RESTORE.get();
+        return restore.after == mdc && restore.before == original;
+    }
+
+    /**
+     * MDC fingerprints before and after the last scope closed on a thread.
+     */
+    private static final class Restore {
+        private Map<String, String> before;
+        private Map<String, String> after;
+    }
+
+    /**
+     * Isolates Logback types so the scope also loads without Logback.
+     */
+    private static final class LogbackMdc {
+
+        static boolean isLogback(MDCAdapter adapter) {
+            return adapter instanceof LogbackMDCAdapter;
+        }
+
+        static Map<String, String> propertyMap(MDCAdapter adapter) {
+            return ((LogbackMDCAdapter) adapter).getPropertyMap();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package de.ferderer.guard4j.spring.observability;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Per-request cache of the context extracted by {@link SpringContextExtractor}.
+ *
+ * <p>Installed as a request attribute by {@link Guard4jContextFilter}. The cached
+ * context stays valid as long as the authentication and the MDC it was extracted
+ * from are unchanged. Request headers cannot change within a request. Request
+ * attributes can, so custom fields read from them are not part of the cached
+ * context and are read for every event.
+ *
+ * <p>The MDC is compared by identity first. An MDC that an {@link MdcScope} has
+ * restored to the cached state also counts as unchanged, so the comparison by
+ * content is only needed when other code rewrote the MDC with the same entries.
+ *
+ * @since 2.2.0
+ */
+final class RequestContextCache {
+
+    /** Name of the request attribute holding the cache. */
+    static final String ATTRIBUTE = RequestContextCache.class.getName();
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Return the cached context if it was extracted from the same state.
+     *
+     * @param authentication the current authentication, compared by identity
+     * @param mdc the current MDC fingerprint, compared by identity, then by content
+     *     unless an {@link MdcScope} restored it from the cached one
+     * @return the cached context, or null if it has to be extracted again
+     */
+    Map<String, String> get(Object authentication, Map<String, String> mdc) {
+        Snapshot current = snapshot;
+        if (current == null || current.authentication() != authentication) {
+            return null;
+        }
+        if (current.mdc() != mdc) {
+            if (!MdcScope.isRestoredFrom(mdc, current.mdc()) && !Objects.equals(current.mdc(), mdc)) {
+                return null;
+            }
+            // Same content in a new map instance; remember it for identity hits
+            snapshot = new Snapshot(authentication, mdc, current.context());
+        }
+        return current.context();
+    }
+
+    /**
+     * Cache a freshly extracted context.
+     *
+     * @param authentication the authentication the context was extracted with
+     * @param mdc the MDC fingerprint the context was extracted with
+     * @param context the immutable extracted context, without request attributes
+     */
+    void put(Object authentication, Map<String, String> mdc, Map<String, String> context) {
+        snapshot = new Snapshot(authentication, mdc, context);
+    }
+
+    private record Snapshot(Object authentication, Map<String, String> mdc, Map<String, String> context) {}
+}
@@ -0,0 +1,124 @@
+package de.ferderer.guard4j.spring.observability;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+
+/**
+ * Immutable context map bound to the current scope, backed by a
+ * {@code java.lang.ScopedValue} when the runtime provides one.
+ *
+ * <p>ScopedValue is a preview API in Java 21, so it is accessed through method
+ * handles and the library compiles without {@code --enable-preview}. Bindings are
+ * inherited by {@code StructuredTaskScope} subtasks and cost one pointer per scope
+ * instead of a thread-local map per thread.
+ *
+ * <p>If ScopedValue is not available, a plain {@link ThreadLocal} holding the same
+ * immutable map is set for the duration of the scope and restored afterwards. This
+ * fallback is not inherited by subtasks.
+ *
+ * @since 2.2.0
+ */
+final class ScopedContext {
+
+    private static final ThreadLocal<Map<String, String>> FALLBACK = new ThreadLocal<>();
+
+    private static final Object SCOPED_VALUE;
+    private static final MethodHandle WHERE;
+    private static final MethodHandle RUN;
+    private static final MethodHandle IS_BOUND;
+    private static final MethodHandle GET;
+
+    static {
+        Object scopedValue = null;
+        MethodHandle where = null;
+        MethodHandle run = null;
+        MethodHandle isBound = null;
+        MethodHandle get = null;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> scopedValueType = Class.forName("java.lang.ScopedValue");
+            Class<?> carrierType = Class.forName("java.lang.ScopedValue$Carrier");
+            scopedValue = lookup.findStatic(scopedValueType, "newInstance", MethodType.methodType(scopedValueType))
+                .invoke();
+            where = lookup.findStatic(scopedValueType, "where",
+                MethodType.methodType(carrierType, scopedValueType, Object.class));
+            run = lookup.findVirtual(carrierType, "run", MethodType.methodType(void.class, Runnable.class));
+            // orElse(null) is rejected by newer runtimes, so test the binding first
+            isBound = lookup.findVirtual(scopedValueType, "isBound", MethodType.methodType(boolean.class));
+            get = lookup.findVirtual(scopedValueType, "get", MethodType.methodType(Object.class));
+        } catch (Throwable e) {
+            // Not available on this runtime, use the thread-local fallback
+            scopedValue = null;
+        }
+        SCOPED_VALUE = scopedValue;
+        WHERE = where;
+        RUN = run;
+        IS_BOUND = isBound;
+        GET = get;
+    }
+
+    private ScopedContext() {}
+
+    /**
+     * Whether contexts are bound to a ScopedValue rather than the thread-local fallback.
+     */
+    static boolean isScopedValue() {
+        return SCOPED_VALUE != null;
+    }
+
+    /**
+     * Run an action with the given context bound.
+     *
+     * @param context the immutable context to bind
+     * @param action the action to run
+     */
+    static void run(Map<String, String> context, Runnable action) {
+        if (SCOPED_VALUE == null) {
+            runWithThreadLocal(context, action);
+            return;
+        }
+        try {
+            Object carrier = WHERE.invoke(SCOPED_VALUE, context);
+            RUN.invoke(carrier, action);
+        } catch (RuntimeException | java.lang.Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to bind scoped context", e);
+        }
+    }
+
+    /**
+     * Get the context bound to the current scope.
+     *
+     * @return the bound context, or null outside a bound scope
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, String> current() {
+        if (SCOPED_VALUE == null) {
+            return FALLBACK.get();
+        }
+        try {
+            return (boolean) IS_BOUND.invoke(SCOPED_VALUE)
+                ? (Map<String, String>) GET.invoke(SCOPED_VALUE)
+                : null;
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    private static void runWithThreadLocal(Map<String, String> context, Runnable action) {
+        Map<String, String> previous = FALLBACK.get();
+        FALLBACK.set(context);
+        try {
+            action.run();
+        } finally {
+            if (previous != null) {
+                FALLBACK.set(previous);
+            } else {
+                FALLBACK.remove();
+            }
+        }
+    }
+}
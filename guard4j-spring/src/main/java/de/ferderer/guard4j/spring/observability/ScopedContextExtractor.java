@@ -0,0 +1,70 @@
+package de.ferderer.guard4j.spring.observability;
+
+import de.ferderer.guard4j.observability.ContextExtractor;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * ContextExtractor for virtual-thread workloads that reads the context bound by
+ * {@link Guard4jScopedContextFilter}.
+ *
+ * <p>The filter extracts the request context once and binds it as an immutable
+ * map to a {@code ScopedValue} (or a thread-local fallback, see {@link ScopedContext}).
+ * Events emitted within the request, including from {@code StructuredTaskScope}
+ * subtasks, read that map directly, without MDC or request thread-locals.
+ *
+ * <p>Outside a bound scope, e.g. in scheduled tasks, extraction is delegated to
+ * the given fallback extractor.
+ *
+ * @since 2.2.0
+ */
+public class ScopedContextExtractor implements ContextExtractor {
+
+    private final ContextExtractor fallback;
+
+    /**
+     * Create an extractor.
+     *
+     * @param fallback the extractor used outside a bound scope
+     */
+    public ScopedContextExtractor(ContextExtractor fallback) {
+        if (fallback == null) {
+            throw new IllegalArgumentException("fallback is required");
+        }
+        this.fallback = fallback;
+    }
+
+    /**
+     * Whether contexts are carried by a {@code ScopedValue} on this runtime.
+     *
+     * @return false if the thread-local fallback is used
+     */
+    public static boolean isScopedValueAvailable() {
+        return ScopedContext.isScopedValue();
+    }
+
+    @Override
+    public Map<String, String> extractContext() {
+        Map<String, String> context = ScopedContext.current();
+        return context != null ? context : fallback.extractContext();
+    }
+
+    @Override
+    public Optional<String> extractTraceId() {
+        Map<String, String> context = ScopedContext.current();
+        return context != null ? Optional.ofNullable(context.get("traceId")) : fallback.extractTraceId();
+    }
+
+    @Override
+    public Optional<String> extractUserId() {
+        Map<String, String> context = ScopedContext.current();
+        return context != null ? Optional.ofNullable(context.get("userId")) : fallback.extractUserId();
+    }
+
+    @Override
+    public Optional<String> extractCorrelationId() {
+        Map<String, String> context = ScopedContext.current();
+        return context != null ? Optional.ofNullable(context.get("correlationId")) : fallback.extractCorrelationId();
+    }
+}
@@ -3,15 +3,11 @@ package de.ferderer.guard4j.spring.observability;
 import de.ferderer.guard4j.observability.ContextConfig;
 import de.ferderer.guard4j.observability.ContextExtractor;
 import jakarta.servlet.http.HttpServletRequest;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.slf4j.MDC;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -22,176 +18,92 @@ import java.util.Optional;
  * 
  * <p>This implementation can work both in web and non-web contexts,
  * gracefully handling cases where HTTP request context is not available.
+ *
+ * <p>The {@link ContextConfig} is compiled into a {@link ContextExtractionPlan}
+ * at construction time, so extraction does not interpret the configuration.
+ *
+ * <p>When {@link Guard4jContextFilter} is installed, the context is extracted
+ * once per request and reused by later events of the same request until the
+ * MDC or the Spring Security authentication changes. Custom fields read from
+ * request attributes are read again for every event.
  * 
  * @since 2.1.0
  */
 public class SpringContextExtractor implements ContextExtractor {
-    
-    private static final Logger logger = LoggerFactory.getLogger(SpringContextExtractor.class);
-    
-    private final ContextConfig config;
-    
-    // Common MDC keys for distributed tracing
-    private static final String[] TRACE_ID_KEYS = {
-        "traceId", "trace_id", "X-Trace-Id", "traceid",
-        "spanId", "span_id", "X-Span-Id", "spanid"
-    };
-    
-    // Common header/MDC keys for correlation
-    private static final String[] CORRELATION_ID_KEYS = {
-        "correlationId", "correlation_id", "X-Correlation-ID", "X-Correlation-Id",
-        "requestId", "request_id", "X-Request-ID", "X-Request-Id"
-    };
-    
-    // Common header/MDC keys for user identification
-    private static final String[] USER_ID_KEYS = {
-        "userId", "user_id", "X-User-ID", "X-User-Id", "username"
-    };
-    
+
+    private final ContextExtractionPlan plan;
+    private final ContextExtractionPlan.RequestSource requestSource = this::getCurrentHttpRequest;
+
     public SpringContextExtractor(ContextConfig config) {
-        this.config = config;
+        this.plan = ContextExtractionPlan.compile(config);
     }
     
     @Override
     public Map<String, String> extractContext() {
-        Map<String, String> context = new HashMap<>();
-        
-        // Extract configured built-in context
-        if (config.includeTraceId()) {
-            extractTraceId().ifPresent(value -> context.put("traceId", value));
-        }
-        
-        if (config.includeUserId()) {
-            extractUserId().ifPresent(value -> context.put("userId", value));
+        RequestContextCache cache = getRequestContextCache();
+        if (cache == null) {
+            return extractCurrentContext();
         }
-        
-        if (config.includeCorrelationId()) {
-            extractCorrelationId().ifPresent(value -> context.put("correlationId", value));
-        }
-        
-        // Extract custom fields
-        for (ContextConfig.CustomField field : config.customFields()) {
-            extractCustomField(field).ifPresent(value -> context.put(field.name(), value));
+
+        Object authentication = getCurrentAuthentication();
+        Map<String, String> mdc = MdcScope.fingerprint();
+        Map<String, String> context = cache.get(authentication, mdc);
+        if (context == null) {
+            context = plan.executeCacheable(requestSource);
+            cache.put(authentication, mdc, context);
         }
-        
-        return context;
+        return plan.executeUncacheable(context, requestSource);
     }
-    
+
+    /**
+     * Extract the context from all sources by running the compiled plan,
+     * bypassing the request cache.
+     */
+    private Map<String, String> extractCurrentContext() {
+        return plan.execute(requestSource);
+    }
+
     @Override
     public Optional<String> extractTraceId() {
-        // Try MDC first (most common for distributed tracing)
-        for (String key : TRACE_ID_KEYS) {
-            String value = MDC.get(key);
-            if (value != null && !value.trim().isEmpty()) {
-                return Optional.of(value);
-            }
-        }
-        
-        // Try HTTP headers if in web context
-        HttpServletRequest request = getCurrentHttpRequest();
-        if (request != null) {
-            for (String key : TRACE_ID_KEYS) {
-                String value = request.getHeader(key);
-                if (value != null && !value.trim().isEmpty()) {
-                    return Optional.of(value);
-                }
-            }
-        }
-        
-        return Optional.empty();
+        // MDC first (most common for distributed tracing), then HTTP headers
+        return Optional.ofNullable(ContextExtractionPlan.traceId(getCurrentHttpRequest()));
     }
-    
+
     @Override
     public Optional<String> extractUserId() {
-        // Try Spring Security first
-        try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            if (auth != null && auth.isAuthenticated() && !"anonymousUser".equals(auth.getName())) {
-                return Optional.of(auth.getName());
-            }
-        } catch (Exception e) {
-            logger.debug("Could not extract user ID from Spring Security: {}", e.getMessage());
-        }
-        
-        // Try MDC
-        for (String key : USER_ID_KEYS) {
-            String value = MDC.get(key);
-            if (value != null && !value.trim().isEmpty()) {
-                return Optional.of(value);
-            }
-        }
-        
-        // Try HTTP headers if in web context
-        HttpServletRequest request = getCurrentHttpRequest();
-        if (request != null) {
-            for (String key : USER_ID_KEYS) {
-                String value = request.getHeader(key);
-                if (value != null && !value.trim().isEmpty()) {
-                    return Optional.of(value);
-                }
-            }
-        }
-        
-        return Optional.empty();
+        // Spring Security first, then MDC, then HTTP headers
+        return Optional.ofNullable(ContextExtractionPlan.userId(getCurrentHttpRequest()));
     }
-    
+
     @Override
     public Optional<String> extractCorrelationId() {
-        // Try MDC first
-        for (String key : CORRELATION_ID_KEYS) {
-            String value = MDC.get(key);
-            if (value != null && !value.trim().isEmpty()) {
-                return Optional.of(value);
-            }
-        }
-        
-        // Try HTTP headers if in web context
-        HttpServletRequest request = getCurrentHttpRequest();
-        if (request != null) {
-            for (String key : CORRELATION_ID_KEYS) {
-                String value = request.getHeader(key);
-                if (value != null && !value.trim().isEmpty()) {
-                    return Optional.of(value);
-                }
-            }
+        // MDC first, then HTTP headers
+        return Optional.ofNullable(ContextExtractionPlan.correlationId(getCurrentHttpRequest()));
+    }
+
+    /**
+     * Get the request context cache installed by {@link Guard4jContextFilter}, if any.
+     */
+    private RequestContextCache getRequestContextCache() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
         }
-        
-        return Optional.empty();
+        Object cache = attributes.getAttribute(RequestContextCache.ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return cache instanceof RequestContextCache requestContextCache ? requestContextCache : null;
     }
-    
+
     /**
-     * Extract a custom field value based on its configuration.
+     * Get the current authentication, compared by identity to detect security context changes.
      */
-    private Optional<String> extractCustomField(ContextConfig.CustomField field) {
-        switch (field.source()) {
-            case MDC:
-                String mdcValue = MDC.get(field.key());
-                return mdcValue != null && !mdcValue.trim().isEmpty() ? 
-                    Optional.of(mdcValue) : Optional.empty();
-                
-            case HEADER:
-                HttpServletRequest request = getCurrentHttpRequest();
-                if (request != null) {
-                    String headerValue = request.getHeader(field.key());
-                    return headerValue != null && !headerValue.trim().isEmpty() ? 
-                        Optional.of(headerValue) : Optional.empty();
-                }
-                return Optional.empty();
-                
-            case ATTRIBUTE:
-                HttpServletRequest requestForAttr = getCurrentHttpRequest();
-                if (requestForAttr != null) {
-                    Object attrValue = requestForAttr.getAttribute(field.key());
-                    return attrValue != null ? Optional.of(attrValue.toString()) : Optional.empty();
-                }
-                return Optional.empty();
-                
-            default:
-                logger.warn("Unknown custom field source: {}", field.source());
-                return Optional.empty();
+    private Object getCurrentAuthentication() {
+        try {
+            return SecurityContextHolder.getContext().getAuthentication();
+        } catch (Exception e) {
+            return null;
         }
     }
-    
+
     /**
      * Get the current HTTP request if we're in a web context.
      * Returns null if not in a web context or if request is not available.
@@ -1,5 +1,6 @@
 package de.ferderer.guard4j.spring.observability;
 
+import de.ferderer.guard4j.EmitterFactory;
 import de.ferderer.guard4j.classification.Level;
 import de.ferderer.guard4j.observability.ContextExtractor;
 import de.ferderer.guard4j.observability.ObservabilityProcessor;
@@ -10,11 +11,14 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.slf4j.MDC;
+import org.slf4j.spi.LoggingEventBuilder;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
+import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Spring Boot implementation of ObservabilityProcessor.
@@ -30,7 +34,15 @@ import java.util.Map;
  *
  * <p>Metrics are automatically registered with the configured {@link MeterRegistry}
  * and follow Spring Boot naming conventions for optimal integration with
- * monitoring systems like Prometheus, InfluxDB, or CloudWatch.
+ * monitoring systems like Prometheus, InfluxDB, or CloudWatch. Every event increments
+ * the {@code <prefix>.events} counter; events emitted with a measured duration, e.g.
+ * through {@link de.ferderer.guard4j.Emitter#time(Level, ObservableEvent, Runnable)},
+ * also record it in the {@code <prefix>.duration} timer, which publishes the percentiles
+ * and SLO buckets configured under {@code guard4j.observability.timer}. Timed events at
+ * {@code WARN} level and above also record their duration in the {@code <prefix>.errors}
+ * timer. Untimed ones are counted by {@code <prefix>.events}; dashboards that count
+ * them through the errors timer can set {@code guard4j.observability.record-untimed-errors}
+ * to record them there with zero duration, as before 2.2.0.
  *
  * <p>Logging uses class-based logger names in the new Emitter pattern, providing
  * familiar SLF4J-style log organization. MDC context includes:
@@ -43,6 +55,12 @@ import java.util.Map;
  *   <li>Context fields from ContextExtractor (e.g., traceId, userId, correlationId)</li>
  * </ul>
  *
+ * <p>Context is extracted once per event, and the MDC entries of the calling
+ * thread are restored after the event has been logged. With
+ * {@code guard4j.observability.logging-mode=KEY_VALUE} the same fields are attached
+ * as SLF4J 2 key-value pairs instead, which avoids MDC updates entirely but needs
+ * an encoder that renders key-value pairs (e.g. {@code %kvp} or a JSON encoder).
+ *
  * <p>This approach allows standard logger configuration in {@code logback-spring.xml}
  * while providing rich contextual information for filtering and routing logs in
  * multi-application environments.
@@ -55,24 +73,70 @@ public class SpringObservabilityProcessor implements ObservabilityProcessor {
     private static final Logger log = LoggerFactory.getLogger(SpringObservabilityProcessor.class);
 
     private final MeterRegistry meterRegistry;
-    private final Guard4jProperties properties;
-    private final String effectiveMetricsPrefix;
     private final String applicationName;
-    
+
+    /** MDC value of {@code guard4j.app}, or null for missing or generic application names. */
+    private final String mdcApplicationName;
+
+    /** Current configuration snapshot, swapped atomically by {@link #refresh(Guard4jProperties)}. */
+    private volatile Settings settings;
+
     // Context extraction support
     private ContextExtractor contextExtractor;
 
+    private static final String LOG_MESSAGE = "Guard4j event: {} at level {}";
+
+    /** SLF4J levels, indexed by level ordinal; FATAL is logged as ERROR. */
+    private static final org.slf4j.event.Level[] SLF4J_LEVELS = {
+        org.slf4j.event.Level.TRACE,
+        org.slf4j.event.Level.DEBUG,
+        org.slf4j.event.Level.INFO,
+        org.slf4j.event.Level.WARN,
+        org.slf4j.event.Level.ERROR,
+        org.slf4j.event.Level.ERROR
+    };
+
+    /** Lower-case level tag values, indexed by level ordinal. */
+    private static final String[] LEVEL_TAGS = levelTags();
+
+    /** Duration of events emitted without a measured duration. */
+    private static final long NO_DURATION = -1;
+
+    /** Marks a logger state whose enabled levels must be asked from the logger on each event. */
+    private static final int UNCACHED = -1;
+
+    /** Threshold of a logger that is disabled for all levels. */
+    private static final int DISABLED = Integer.MAX_VALUE;
+
     // Cache for performance
-    private final Map<String, Counter> counterCache = new ConcurrentHashMap<>();
-    private final Map<String, Timer> timerCache = new ConcurrentHashMap<>();
-    private final Map<String, Logger> loggerCache = new ConcurrentHashMap<>();
+    private final Map<String, LoggerState> loggerCache = new ConcurrentHashMap<>();
+    private final Map<String, String> contextKeys = new ConcurrentHashMap<>();
 
     public SpringObservabilityProcessor(MeterRegistry meterRegistry, Guard4jProperties properties,
                                       String applicationName) {
         this.meterRegistry = meterRegistry;
-        this.properties = properties;
         this.applicationName = applicationName;
-        this.effectiveMetricsPrefix = determineMetricsPrefix(properties, applicationName);
+        this.mdcApplicationName = applicationName != null && !applicationName.trim().isEmpty()
+            && !"application".equals(applicationName) ? applicationName : null;
+        this.settings = Settings.of(properties, applicationName, null);
+    }
+
+    /**
+     * Replace the configuration with a new snapshot resolved from the given properties.
+     *
+     * <p>The snapshot is swapped atomically; events being processed finish with the
+     * previous configuration. Meters are kept if the metric names did not change.
+     * Emitter levels are refreshed afterwards, as enabling or disabling metrics and
+     * logging changes {@link #effectiveLevel(String)}. Logback level changes are
+     * picked up automatically.
+     *
+     * @param properties the new Guard4j properties
+     * @since 2.2.0
+     */
+    public void refresh(Guard4jProperties properties) {
+        settings = Settings.of(properties, applicationName, settings);
+        EmitterFactory.refreshLevels();
+        log.debug("Observability configuration refreshed");
     }
     
     @Override
@@ -82,24 +146,7 @@ public class SpringObservabilityProcessor implements ObservabilityProcessor {
                  contextExtractor != null ? "enabled" : "disabled");
     }
 
-    /**
-     * Determine the effective metrics prefix.
-     * Uses configured prefix if set, otherwise falls back to application name, then "guard4j".
-     */
-    private String determineMetricsPrefix(Guard4jProperties properties, String applicationName) {
-        String configuredPrefix = properties.getObservabilityOrDefault().metricsPrefix();
-        if (configuredPrefix != null && !configuredPrefix.trim().isEmpty()) {
-            return configuredPrefix.trim();
-        }
-        
-        // Fallback: use application name, but avoid generic names
-        if (applicationName != null && !applicationName.equals("application") && !applicationName.trim().isEmpty()) {
-            return applicationName.trim();
-        }
-        
-        // Last resort: use "guard4j" as prefix
-        return "guard4j";
-    }    @Override
+    @Override
     public void process(ObservableEvent event) {
         // This method is kept for backward compatibility but should not be used in new Emitter pattern
         // Default to INFO level and use event type as logger name for compatibility
@@ -108,164 +155,427 @@ public class SpringObservabilityProcessor implements ObservabilityProcessor {
 
     @Override
     public void processWithLevel(ObservableEvent event, Level level, String loggerName) {
+        processEvent(event, NO_DURATION, level, loggerName);
+    }
+
+    @Override
+    public void processTimed(ObservableEvent event, long durationNanos, Level level, String loggerName) {
+        processEvent(event, durationNanos, level, loggerName);
+    }
+
+    private void processEvent(ObservableEvent event, long durationNanos, Level level, String loggerName) {
+        Settings current = settings;
         try {
+            // Resolve the event type once and reuse it for metrics and logging
+            String eventType = event.eventType();
+
             // Process metrics if enabled
-            if (properties.getObservabilityOrDefault().metricsEnabled()) {
-                processMetrics(event, level);
+            if (current.metricsEnabled()) {
+                processMetrics(current, event, eventType, level, durationNanos);
             }
 
             // Process logging if enabled
-            if (properties.getObservabilityOrDefault().loggingEnabled()) {
-                processLogging(event, level, loggerName);
+            if (current.loggingEnabled()) {
+                processLogging(current, event, eventType, level, loggerName);
             }
 
         } catch (Exception e) {
             // Never let observability processing break the main application flow
-            log.warn("Failed to process observability event: {}", event.eventType(), e);
+            log.warn("Failed to process observability event: {}", event.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * Returns the lowest level that produces any output for the given logger.
+     *
+     * <p>Metrics count events at every level, so with metrics enabled all levels
+     * are processed. With logging only, the level is taken from the SLF4J logger.
+     * Logback configuration reloads and level changes refresh the emitter levels
+     * automatically; with other backends call
+     * {@link de.ferderer.guard4j.EmitterFactory#refreshLevels()} after changing
+     * logger levels at runtime.
+     */
+    @Override
+    public Level effectiveLevel(String loggerName) {
+        Settings current = settings;
+        if (current.metricsEnabled()) {
+            return Level.TRACE;
         }
+        if (!current.loggingEnabled()) {
+            return null;
+        }
+
+        int threshold = threshold(getLoggerState(loggerName).logger());
+        return threshold != DISABLED ? Level.values()[threshold] : null;
     }
 
     /**
      * Process metrics for the given event with the specified level.
+     *
+     * <p>Meters are looked up by event type and then by level, so the steady
+     * state is a map probe with the cached event type string plus an
+     * {@link EnumMap} read, without building keys or tag values.
      */
-    private void processMetrics(ObservableEvent event, Level level) {
-        String eventType = event.eventType();
-        String levelName = level.name().toLowerCase();
+    private void processMetrics(Settings current, ObservableEvent event, String eventType, Level level,
+                                long durationNanos) {
+        EventMeters meters = current.meters().get(eventType);
+        if (meters == null) {
+            meters = current.meters().computeIfAbsent(eventType, type -> new EventMeters(type, current));
+        }
 
         // Increment counter using event metric value
-        String counterName = buildMetricName("events");
-        getOrCreateCounter(counterName, eventType, levelName).increment(event.metric());
+        meters.counter(level).increment(event.metric());
 
-        // Record timer for error events (useful for tracking error frequency patterns)
+        // Record the measured duration of timed events
+        if (durationNanos != NO_DURATION) {
+            meters.timer(level).record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+
+        // Record the duration of timed error events; untimed ones only for compatibility,
+        // as their zero durations would distort the timer's mean and percentiles
         if (isErrorEvent(level)) {
-            String timerName = buildMetricName("errors");
-            getOrCreateTimer(timerName, eventType, levelName)
-                .record(() -> { /* No operation - just recording the occurrence */ });
+            if (durationNanos != NO_DURATION) {
+                meters.errorTimer(level).record(durationNanos, TimeUnit.NANOSECONDS);
+            } else if (current.recordUntimedErrors()) {
+                meters.errorTimer(level).record(0, TimeUnit.NANOSECONDS);
+            }
         }
     }
 
+    /**
+     * Check if this is an error-level event.
+     */
+    private static boolean isErrorEvent(Level level) {
+        return level == Level.ERROR ||
+               level == Level.WARN ||
+               level == Level.FATAL;
+    }
+
     /**
      * Process structured logging for the given event with the specified level and logger.
+     *
+     * <p>The logger level is checked first, so events for disabled loggers cost
+     * neither context extraction nor MDC or key-value work. The enabled state is
+     * cached per logger and invalidated when the Logback configuration changes.
      */
-    private void processLogging(ObservableEvent event, Level level, String loggerName) {
-        if (!properties.observability().includeMdc()) {
+    private void processLogging(Settings current, ObservableEvent event, String eventType, Level level,
+                                String loggerName) {
+        LoggerState state = getLoggerState(loggerName);
+        org.slf4j.event.Level slf4jLevel = SLF4J_LEVELS[level.ordinal()];
+        if (!state.isEnabled(level, slf4jLevel)) {
+            return;
+        }
+        Logger logger = state.logger();
+
+        if (!current.includeMdc()) {
             // Simple logging without MDC
-            logEvent(event, level, loggerName);
+            logEvent(logger, slf4jLevel, eventType, level);
             return;
         }
 
-        // Enhanced logging with MDC context
-        try {
+        // Take the context snapshot before touching MDC, so a request-scoped
+        // context cache sees the caller's MDC state
+        Map<String, String> context = extractContext();
+
+        if (current.keyValueLogging()) {
+            logEventWithKeyValues(logger, slf4jLevel, event, eventType, level, context);
+            return;
+        }
+
+        // Enhanced logging with MDC context, restoring the caller's MDC afterwards
+        try (MdcScope mdc = new MdcScope()) {
             // Add application context to MDC
-            if (applicationName != null && !applicationName.trim().isEmpty() && !"application".equals(applicationName)) {
-                MDC.put("guard4j.app", applicationName);
-            }
+            mdc.put("guard4j.app", mdcApplicationName);
 
-            MDC.put("guard4j.event.type", event.eventType());
-            MDC.put("guard4j.event.level", level.name());
-            MDC.put("guard4j.event.timestamp", event.timestamp().toString());
-            MDC.put("guard4j.event.metric", String.valueOf(event.metric()));
-            
-            // Add context from ContextExtractor if available
-            if (contextExtractor != null) {
-                try {
-                    Map<String, String> context = contextExtractor.extractContext();
-                    for (Map.Entry<String, String> entry : context.entrySet()) {
-                        MDC.put("guard4j.context." + entry.getKey(), entry.getValue());
-                    }
-                } catch (Exception e) {
-                    log.debug("Failed to extract context: {}", e.getMessage());
-                }
-            }
+            mdc.put("guard4j.event.type", eventType);
+            mdc.put("guard4j.event.level", level.name());
+            mdc.put("guard4j.event.timestamp", event.timestamp().toString());
+            mdc.put("guard4j.event.metric", String.valueOf(event.metric()));
 
-            logEvent(event, level, loggerName);
-
-        } finally {
-            // Always clean up MDC
-            MDC.remove("guard4j.app");
-            MDC.remove("guard4j.event.type");
-            MDC.remove("guard4j.event.level");
-            MDC.remove("guard4j.event.timestamp");
-            MDC.remove("guard4j.event.metric");
-            
-            // Clean up context fields
-            if (contextExtractor != null) {
-                try {
-                    Map<String, String> context = contextExtractor.extractContext();
-                    for (String key : context.keySet()) {
-                        MDC.remove("guard4j.context." + key);
-                    }
-                } catch (Exception e) {
-                    // Ignore cleanup errors
-                }
+            // Add the context snapshot from ContextExtractor
+            for (Map.Entry<String, String> entry : context.entrySet()) {
+                mdc.put(contextKey(entry.getKey()), entry.getValue());
             }
+
+            logEvent(logger, slf4jLevel, eventType, level);
+        }
+    }
+
+    /**
+     * Log the event with its fields attached as SLF4J 2 key-value pairs, leaving the MDC untouched.
+     */
+    private void logEventWithKeyValues(Logger logger, org.slf4j.event.Level slf4jLevel, ObservableEvent event,
+                                       String eventType, Level level, Map<String, String> context) {
+        LoggingEventBuilder builder = logger.atLevel(slf4jLevel);
+        if (mdcApplicationName != null) {
+            builder.addKeyValue("guard4j.app", mdcApplicationName);
+        }
+        builder
+            .addKeyValue("guard4j.event.type", eventType)
+            .addKeyValue("guard4j.event.level", level.name())
+            .addKeyValue("guard4j.event.timestamp", event.timestamp())
+            .addKeyValue("guard4j.event.metric", event.metric());
+
+        for (Map.Entry<String, String> entry : context.entrySet()) {
+            builder.addKeyValue(contextKey(entry.getKey()), entry.getValue());
+        }
+
+        builder.log(LOG_MESSAGE, eventType, level);
+    }
+
+    /**
+     * Prefixed key of a context field, cached to avoid concatenation per event.
+     */
+    private String contextKey(String name) {
+        return contextKeys.computeIfAbsent(name, key -> "guard4j.context." + key);
+    }
+
+    /**
+     * Take one context snapshot for the current event.
+     *
+     * @return the extracted context, empty if there is no extractor or extraction fails
+     */
+    private Map<String, String> extractContext() {
+        if (contextExtractor == null) {
+            return Map.of();
+        }
+        try {
+            return contextExtractor.extractContext();
+        } catch (Exception e) {
+            log.debug("Failed to extract context: {}", e.getMessage());
+            return Map.of();
         }
     }
 
     /**
      * Log the event at the appropriate level using the specified logger.
      */
-    private void logEvent(ObservableEvent event, Level level, String loggerName) {
-        Logger logger = getClassLogger(loggerName);
-        String message = "Guard4j event: {} at level {}";
-
-        switch (level) {
-            case TRACE -> logger.trace(message, event.eventType(), level);
-            case DEBUG -> logger.debug(message, event.eventType(), level);
-            case INFO -> logger.info(message, event.eventType(), level);
-            case WARN -> logger.warn(message, event.eventType(), level);
-            case ERROR, FATAL -> logger.error(message, event.eventType(), level);
+    private void logEvent(Logger logger, org.slf4j.event.Level slf4jLevel, String eventType, Level level) {
+        switch (slf4jLevel) {
+            case TRACE -> logger.trace(LOG_MESSAGE, eventType, level);
+            case DEBUG -> logger.debug(LOG_MESSAGE, eventType, level);
+            case INFO -> logger.info(LOG_MESSAGE, eventType, level);
+            case WARN -> logger.warn(LOG_MESSAGE, eventType, level);
+            case ERROR -> logger.error(LOG_MESSAGE, eventType, level);
         }
     }
 
     /**
-     * Get or create a logger for the specified class name.
+     * Get the logger for the specified class name with its cached enabled state,
+     * resolving the state again if logger levels changed since it was cached.
      */
-    private Logger getClassLogger(String className) {
-        return loggerCache.computeIfAbsent(className, LoggerFactory::getLogger);
+    private LoggerState getLoggerState(String className) {
+        LoggerState state = loggerCache.get(className);
+        // Read the generation before resolving, so a concurrent change leaves the new state stale
+        int generation = LoggerLevels.generation();
+        if (state == null || state.generation() != generation) {
+            Logger logger = state != null ? state.logger() : LoggerFactory.getLogger(className);
+            int threshold = LoggerLevels.isCacheable() ? threshold(logger) : UNCACHED;
+            state = new LoggerState(logger, threshold, generation);
+            loggerCache.put(className, state);
+        }
+        return state;
     }
 
     /**
-     * Check if this is an error-level event.
+     * Ordinal of the lowest level enabled for the logger, or {@link #DISABLED}.
      */
-    private boolean isErrorEvent(Level level) {
-        return level == Level.ERROR ||
-               level == Level.WARN ||
-               level == Level.FATAL;
+    private static int threshold(Logger logger) {
+        for (Level level : Level.values()) {
+            if (logger.isEnabledForLevel(SLF4J_LEVELS[level.ordinal()])) {
+                return level.ordinal();
+            }
+        }
+        return DISABLED;
     }
 
     /**
-     * Build metric name with effective prefix.
+     * Flattened configuration snapshot, resolved once from {@link Guard4jProperties}.
+     *
+     * @param metricsEnabled whether metrics are recorded
+     * @param loggingEnabled whether events are logged
+     * @param includeMdc whether logged events carry event and context fields
+     * @param keyValueLogging whether fields are attached as key-value pairs instead of MDC entries
+     * @param eventsMetricName name of the event counter
+     * @param errorsMetricName name of the error timer
+     * @param durationMetricName name of the event duration timer
+     * @param timer distribution settings of the duration timer
+     * @param recordUntimedErrors whether untimed error events are recorded with zero duration
+     * @param meters meters by event type, shared between snapshots with the same meter settings
      */
-    private String buildMetricName(String suffix) {
-        return effectiveMetricsPrefix + "." + suffix;
+    private record Settings(
+        boolean metricsEnabled,
+        boolean loggingEnabled,
+        boolean includeMdc,
+        boolean keyValueLogging,
+        String eventsMetricName,
+        String errorsMetricName,
+        String durationMetricName,
+        Guard4jProperties.Observability.TimerConfig timer,
+        boolean recordUntimedErrors,
+        Map<String, EventMeters> meters
+    ) {
+
+        static Settings of(Guard4jProperties properties, String applicationName, Settings previous) {
+            Guard4jProperties.Observability observability = properties.getObservabilityOrDefault();
+            String prefix = determineMetricsPrefix(observability, applicationName);
+            String eventsMetricName = prefix + ".events";
+            String errorsMetricName = prefix + ".errors";
+            String durationMetricName = prefix + ".duration";
+
+            Map<String, EventMeters> meters = previous != null
+                && previous.eventsMetricName().equals(eventsMetricName)
+                && previous.errorsMetricName().equals(errorsMetricName)
+                && previous.durationMetricName().equals(durationMetricName)
+                && previous.timer().equals(observability.timer())
+                ? previous.meters()
+                : new ConcurrentHashMap<>();
+
+            return new Settings(
+                observability.metricsEnabled(),
+                observability.loggingEnabled(),
+                observability.includeMdc(),
+                observability.loggingMode() == Guard4jProperties.Observability.LoggingMode.KEY_VALUE,
+                eventsMetricName,
+                errorsMetricName,
+                durationMetricName,
+                observability.timer(),
+                observability.recordUntimedErrors(),
+                meters
+            );
+        }
+
+        /**
+         * Determine the effective metrics prefix.
+         * Uses configured prefix if set, otherwise falls back to application name, then "guard4j".
+         */
+        private static String determineMetricsPrefix(Guard4jProperties.Observability observability,
+                                                     String applicationName) {
+            String configuredPrefix = observability.metricsPrefix();
+            if (configuredPrefix != null && !configuredPrefix.trim().isEmpty()) {
+                return configuredPrefix.trim();
+            }
+
+            // Fallback: use application name, but avoid generic names
+            if (applicationName != null && !applicationName.equals("application") && !applicationName.trim().isEmpty()) {
+                return applicationName.trim();
+            }
+
+            // Last resort: use "guard4j" as prefix
+            return "guard4j";
+        }
     }
 
     /**
-     * Get or create a counter with tags.
+     * A logger with its enabled state, valid for one generation of {@link LoggerLevels}.
+     *
+     * @param logger the SLF4J logger
+     * @param threshold ordinal of the lowest enabled level, {@link #DISABLED},
+     *                  or {@link #UNCACHED} to ask the logger on each event
+     * @param generation the logger levels generation the threshold was resolved in
      */
-    private Counter getOrCreateCounter(String name, String eventType, String level) {
-        String key = name + ":" + eventType + ":" + level;
-        return counterCache.computeIfAbsent(key, k ->
-            Counter.builder(name)
-                .description("Guard4j event counter")
-                .tag("event_type", eventType)
-                .tag("level", level)
-                .register(meterRegistry)
-        );
+    private record LoggerState(Logger logger, int threshold, int generation) {
+
+        boolean isEnabled(Level level, org.slf4j.event.Level slf4jLevel) {
+            return threshold == UNCACHED ? logger.isEnabledForLevel(slf4jLevel) : level.ordinal() >= threshold;
+        }
+    }
+
+    private static String[] levelTags() {
+        Level[] levels = Level.values();
+        String[] tags = new String[levels.length];
+        for (Level level : levels) {
+            tags[level.ordinal()] = level.name().toLowerCase();
+        }
+        return tags;
     }
 
     /**
-     * Get or create a timer with tags.
+     * Counters and timers of one event type, created per level on first use.
+     *
+     * <p>The level maps are copied on write, so lookups are a volatile read
+     * plus an ordinal-indexed {@link EnumMap} access without locking.
      */
-    private Timer getOrCreateTimer(String name, String eventType, String level) {
-        String key = name + ":" + eventType + ":" + level;
-        return timerCache.computeIfAbsent(key, k ->
-            Timer.builder(name)
-                .description("Guard4j error timer")
-                .tag("event_type", eventType)
-                .tag("level", level)
-                .register(meterRegistry)
-        );
+    private final class EventMeters {
+
+        private final String eventType;
+        private final String eventsMetricName;
+        private final String errorsMetricName;
+        private final String durationMetricName;
+        private final Guard4jProperties.Observability.TimerConfig timerConfig;
+        private volatile EnumMap<Level, Counter> counters = new EnumMap<>(Level.class);
+        private volatile EnumMap<Level, Timer> timers = new EnumMap<>(Level.class);
+        private volatile EnumMap<Level, Timer> errorTimers = new EnumMap<>(Level.class);
+
+        EventMeters(String eventType, Settings settings) {
+            this.eventType = eventType;
+            this.eventsMetricName = settings.eventsMetricName();
+            this.errorsMetricName = settings.errorsMetricName();
+            this.durationMetricName = settings.durationMetricName();
+            this.timerConfig = settings.timer();
+        }
+
+        Counter counter(Level level) {
+            Counter counter = counters.get(level);
+            return counter != null ? counter : createCounter(level);
+        }
+
+        Timer timer(Level level) {
+            Timer timer = timers.get(level);
+            return timer != null ? timer : createTimer(level);
+        }
+
+        Timer errorTimer(Level level) {
+            Timer timer = errorTimers.get(level);
+            return timer != null ? timer : createErrorTimer(level);
+        }
+
+        private synchronized Counter createCounter(Level level) {
+            Counter counter = counters.get(level);
+            if (counter == null) {
+                counter = Counter.builder(eventsMetricName)
+                    .description("Guard4j event counter")
+                    .tag("event_type", eventType)
+                    .tag("level", LEVEL_TAGS[level.ordinal()])
+                    .register(meterRegistry);
+                EnumMap<Level, Counter> copy = new EnumMap<>(counters);
+                copy.put(level, counter);
+                counters = copy;
+            }
+            return counter;
+        }
+
+        private synchronized Timer createTimer(Level level) {
+            Timer timer = timers.get(level);
+            if (timer == null) {
+                timer = Timer.builder(durationMetricName)
+                    .description("Guard4j event duration")
+                    .tag("event_type", eventType)
+                    .tag("level", LEVEL_TAGS[level.ordinal()])
+                    .publishPercentiles(timerConfig.percentiles().stream().mapToDouble(Double::doubleValue).toArray())
+                    .serviceLevelObjectives(timerConfig.slo().toArray(Duration[]::new))
+                    .publishPercentileHistogram(timerConfig.percentileHistogram())
+                    .register(meterRegistry);
+                EnumMap<Level, Timer> copy = new EnumMap<>(timers);
+                copy.put(level, timer);
+                timers = copy;
+            }
+            return timer;
+        }
+
+        private synchronized Timer createErrorTimer(Level level) {
+            Timer timer = errorTimers.get(level);
+            if (timer == null) {
+                timer = Timer.builder(errorsMetricName)
+                    .description("Guard4j error timer")
+                    .tag("event_type", eventType)
+                    .tag("level", LEVEL_TAGS[level.ordinal()])
+                    .register(meterRegistry);
+                EnumMap<Level, Timer> copy = new EnumMap<>(errorTimers);
+                copy.put(level, timer);
+                errorTimers = copy;
+            }
+            return timer;
+        }
     }
 }
@@ -1,10 +1,14 @@
 package de.ferderer.guard4j.spring.autoconfigure;
 
+import de.ferderer.guard4j.observability.ContextExtractor;
 import de.ferderer.guard4j.spring.error.Guard4jExceptionHandler;
+import de.ferderer.guard4j.spring.observability.ScopedContextExtractor;
+import de.ferderer.guard4j.spring.observability.SpringContextExtractor;
 import static org.assertj.core.api.Assertions.assertThat;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
 
 /**
@@ -91,4 +95,33 @@ class Guard4jAutoConfigurationIT {
                 assertThat(properties.getWebOrDefault().handleSpringExceptions()).isFalse();
             });
     }
+
+    @Test
+    void shouldUseSpringContextExtractorInServletApplication() {
+        contextRunner
+            .run(context -> {
+                assertThat(context).hasSingleBean(ContextExtractor.class);
+                assertThat(context.getBean(ContextExtractor.class)).isExactlyInstanceOf(SpringContextExtractor.class);
+            });
+    }
+
+    @Test
+    void shouldUseScopedContextExtractorInServletApplicationOnVirtualThreads() {
+        contextRunner
+            .withPropertyValues("spring.threads.virtual.enabled=true")
+            .run(context -> {
+                assertThat(context).hasSingleBean(ContextExtractor.class);
+                assertThat(context.getBean(ContextExtractor.class)).isExactlyInstanceOf(ScopedContextExtractor.class);
+            });
+    }
+
+    @Test
+    void shouldUseSpringContextExtractorInNonWebApplication() {
+        new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(Guard4jAutoConfiguration.class))
+            .run(context -> {
+                assertThat(context).hasSingleBean(ContextExtractor.class);
+                assertThat(context.getBean(ContextExtractor.class)).isExactlyInstanceOf(SpringContextExtractor.class);
+            });
+    }
 }
@@ -0,0 +1,175 @@
+package de.ferderer.guard4j.spring.error;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import de.ferderer.guard4j.classification.Category;
+import de.ferderer.guard4j.classification.HttpStatus;
+import de.ferderer.guard4j.classification.Level;
+import de.ferderer.guard4j.error.CoreError;
+import de.ferderer.guard4j.error.Error;
+import de.ferderer.guard4j.error.ErrorRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for ErrorResponseWriter.
+ */
+class ErrorResponseWriterTest {
+
+    private static final Instant NOW = Instant.parse("2025-09-07T15:30:45.123Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldEncodeSameJsonAsObjectMapper() throws Exception {
+        // Given
+        ErrorResponseWriter writer = writerAt(NOW, objectMapper);
+        SpringError error = SpringError.DATA_NOT_FOUND;
+
+        // When
+        byte[] body = writer.encode(error, error.message(), Map.of(), "/api/users/42");
+
+        // Then
+        ErrorResponse expected = new ErrorResponse(NOW.toString(), error.httpStatus().value(), error.name(),
+            error.message(), "/api/users/42", Map.of());
+        assertThat(new String(body, StandardCharsets.UTF_8)).isEqualTo(objectMapper.writeValueAsString(expected));
+    }
+
+    @Test
+    void shouldReuseFragmentsAcrossCalls() {
+        // Given
+        ErrorResponseWriter writer = writerAt(NOW, objectMapper);
+        SpringError error = SpringError.RATE_LIMIT_EXCEEDED;
+
+        // When
+        String first = new String(writer.encode(error, error.message(), null, "/a"), StandardCharsets.UTF_8);
+        String second = new String(writer.encode(error, error.message(), null, "/b"), StandardCharsets.UTF_8);
+
+        // Then
+        assertThat(first).contains("\"path\":\"/a\"");
+        assertThat(second).isEqualTo(first.replace("\"/a\"", "\"/b\""));
+    }
+
+    @Test
+    void shouldKeepTemplatesOfErrorsFromDifferentEnumsApart() throws Exception {
+        // Given
+        ErrorResponseWriter writer = writerAt(NOW, objectMapper);
+
+        // When
+        byte[] spring = writer.encode(SpringError.DATA_NOT_FOUND, SpringError.DATA_NOT_FOUND.message(), null, "/a");
+        byte[] core = writer.encode(CoreError.RESOURCE_NOT_FOUND, CoreError.RESOURCE_NOT_FOUND.message(), null, "/a");
+        byte[] springAgain = writer.encode(SpringError.DATA_NOT_FOUND, SpringError.DATA_NOT_FOUND.message(), null, "/a");
+
+        // Then
+        assertThat(ErrorRegistry.byName("DATA_NOT_FOUND")).isPresent();
+        assertThat(objectMapper.readTree(spring).get("error").asText()).isEqualTo("DATA_NOT_FOUND");
+        assertThat(objectMapper.readTree(core).get("error").asText()).isEqualTo("RESOURCE_NOT_FOUND");
+        assertThat(springAgain).isEqualTo(spring);
+    }
+
+    @Test
+    void shouldFormatTimestampLikeInstantToString() throws Exception {
+        SpringError error = SpringError.DATA_NOT_FOUND;
+        for (String timestamp : new String[] {
+            "2025-09-07T15:30:45Z",
+            "2025-09-07T15:30:45.100Z",
+            "2025-09-07T15:30:45.000123Z",
+            "2025-09-07T15:30:45.000000007Z",
+            "1969-12-31T23:59:59.999Z"
+        }) {
+            // Given
+            ErrorResponseWriter writer = writerAt(Instant.parse(timestamp), objectMapper);
+
+            // When
+            byte[] body = writer.encode(error, error.message(), Map.of(), "/");
+
+            // Then
+            assertThat(objectMapper.readTree(body).get("timestamp").asText())
+                .isEqualTo(Instant.parse(timestamp).toString());
+        }
+    }
+
+    @Test
+    void shouldEscapePathCharacters() throws Exception {
+        // Given
+        ErrorResponseWriter writer = writerAt(NOW, objectMapper);
+        SpringError error = SpringError.DATA_NOT_FOUND;
+        String path = "/files/\"quoted\"\\ümlaut";
+
+        // When
+        byte[] body = writer.encode(error, error.message(), Map.of(), path);
+
+        // Then
+        assertThat(objectMapper.readTree(body).get("path").asText()).isEqualTo(path);
+    }
+
+    @Test
+    void shouldFollowObjectMapperConfiguration() throws Exception {
+        // Given
+        ObjectMapper custom = new ObjectMapper()
+            .setPropertyNamingStrategy(PropertyNamingStrategies.UPPER_CAMEL_CASE)
+            .setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+        ErrorResponseWriter writer = writerAt(NOW, custom);
+        SpringError error = SpringError.DATA_NOT_FOUND;
+
+        // When
+        byte[] body = writer.encode(error, error.message(), Map.of(), "/x");
+
+        // Then
+        ErrorResponse expected = new ErrorResponse(NOW.toString(), error.httpStatus().value(), error.name(),
+            error.message(), "/x", Map.of());
+        assertThat(new String(body, StandardCharsets.UTF_8)).isEqualTo(custom.writeValueAsString(expected));
+    }
+
+    @Test
+    void shouldNotEncodeCustomMessageOrData() {
+        // Given
+        ErrorResponseWriter writer = writerAt(NOW, objectMapper);
+        SpringError error = SpringError.DATA_NOT_FOUND;
+
+        // When / Then
+        assertThat(writer.encode(error, "User 42 not found", Map.of(), "/")).isNull();
+        assertThat(writer.encode(error, error.message(), Map.of("id", 42), "/")).isNull();
+    }
+
+    @Test
+    void shouldNotEncodeUnregisteredErrors() {
+        // Given
+        ErrorResponseWriter writer = writerAt(NOW, objectMapper);
+        Error error = new DynamicError();
+
+        // When
+        byte[] body = writer.encode(error, error.message(), null, "/");
+
+        // Then
+        assertThat(body).isNull();
+        assertThat(ErrorRegistry.byName(error.name())).isEmpty();
+    }
+
+    @Test
+    void shouldRejectMissingObjectMapper() {
+        assertThatThrownBy(() -> new ErrorResponseWriter(null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class DynamicError implements Error {
+        @Override public String name() { return "DYNAMIC_ERROR"; }
+        @Override public HttpStatus httpStatus() { return HttpStatus.BAD_REQUEST; }
+        @Override public String message() { return "Dynamic"; }
+        @Override public Level level() { return Level.INFO; }
+        @Override public Category category() { return Category.VALIDATION; }
+    }
+
+    private static ErrorResponseWriter writerAt(Instant instant, ObjectMapper objectMapper) {
+        return new ErrorResponseWriter(objectMapper, Clock.fixed(instant, ZoneOffset.UTC));
+    }
+}
@@ -68,6 +68,28 @@ class Guard4jExceptionHandlerIT {
                 .andExpect(jsonPath("$.message").value("Internal server error occurred"));
     }
 
+    @Test
+    void shouldWritePreEncodedResponseForErrorWithoutData() throws Exception {
+        mockMvc.perform(get("/test/rate-limited"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.timestamp").exists())
+                .andExpect(jsonPath("$.status").value(429))
+                .andExpect(jsonPath("$.error").value("RATE_LIMIT_EXCEEDED"))
+                .andExpect(jsonPath("$.message").value("Rate limit exceeded"))
+                .andExpect(jsonPath("$.path").value("/test/rate-limited"))
+                .andExpect(jsonPath("$.data").isEmpty());
+    }
+
+    @Test
+    void shouldNegotiateContentTypeIfJsonIsNotAccepted() throws Exception {
+        mockMvc.perform(get("/test/rate-limited").accept(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.status").value(429))
+                .andExpect(jsonPath("$.error").value("RATE_LIMIT_EXCEEDED"));
+    }
+
     @SpringBootApplication
     static class TestApplication {
         // Guard4j auto-configuration will be applied automatically
@@ -83,6 +105,11 @@ class Guard4jExceptionHandlerIT {
                     .withData("id", "123");
         }
 
+        @GetMapping("/test/rate-limited")
+        public String rateLimited() {
+            throw new AppException(SpringError.RATE_LIMIT_EXCEEDED);
+        }
+
         @GetMapping("/test/generic-exception")
         public String genericException() {
             throw new RuntimeException("Something went wrong");
@@ -0,0 +1,123 @@
+package de.ferderer.guard4j.spring.observability;
+
+import de.ferderer.guard4j.observability.ContextConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContextExtractionPlanTest {
+
+    private static final ContextExtractionPlan.RequestSource NO_REQUEST = () -> null;
+
+    @BeforeEach
+    void setUp() {
+        MDC.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    void shouldReturnEmptyMapWhenNothingIsAvailable() {
+        ContextExtractionPlan plan = ContextExtractionPlan.compile(new ContextConfig());
+
+        assertThat(plan.execute(NO_REQUEST)).isEmpty();
+    }
+
+    @Test
+    void shouldExtractOnlyConfiguredFields() {
+        MDC.put("traceId", "trace-123");
+        MDC.put("correlationId", "corr-456");
+        ContextExtractionPlan plan = ContextExtractionPlan.compile(
+            new ContextConfig(true, true, false, false, List.of()));
+
+        assertThat(plan.execute(NO_REQUEST)).containsExactly(Map.entry("traceId", "trace-123"));
+    }
+
+    @Test
+    void shouldExtractCustomMdcFieldsAndSkipBlankValues() {
+        MDC.put("tenant", "tenant-abc");
+        MDC.put("region", "   ");
+        ContextExtractionPlan plan = ContextExtractionPlan.compile(new ContextConfig(true, false, false, false, List.of(
+            new ContextConfig.CustomField("tenantId", ContextConfig.FieldSource.MDC, "tenant"),
+            new ContextConfig.CustomField("region", ContextConfig.FieldSource.MDC, "region")
+        )));
+
+        Map<String, String> context = plan.execute(NO_REQUEST);
+
+        assertThat(context).containsOnly(Map.entry("tenantId", "tenant-abc"));
+        assertThat(context.get("region")).isNull();
+    }
+
+    @Test
+    void shouldLetLaterFieldWinForSameName() {
+        MDC.put("traceId", "trace-123");
+        MDC.put("customTrace", "custom-trace");
+        ContextExtractionPlan plan = ContextExtractionPlan.compile(new ContextConfig(true, true, false, false, List.of(
+            new ContextConfig.CustomField("traceId", ContextConfig.FieldSource.MDC, "customTrace"),
+            new ContextConfig.CustomField("traceId", ContextConfig.FieldSource.MDC, "missing")
+        )));
+
+        assertThat(plan.execute(NO_REQUEST)).containsOnly(Map.entry("traceId", "custom-trace"));
+    }
+
+    @Test
+    void shouldNotRequestHttpRequestForMdcOnlyPlan() {
+        ContextExtractionPlan plan = ContextExtractionPlan.compile(new ContextConfig(true, false, false, false, List.of(
+            new ContextConfig.CustomField("tenantId", ContextConfig.FieldSource.MDC, "tenant")
+        )));
+
+        plan.execute(() -> {
+            throw new AssertionError("request must not be resolved");
+        });
+    }
+
+    @Test
+    void shouldReadRequestAttributesOnlyInUncacheablePart() {
+        // Given
+        MDC.put("traceId", "trace-123");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("tenant", "tenant-a");
+        ContextExtractionPlan plan = ContextExtractionPlan.compile(new ContextConfig(true, true, false, false, List.of(
+            new ContextConfig.CustomField("tenantId", ContextConfig.FieldSource.ATTRIBUTE, "tenant")
+        )));
+
+        // When
+        Map<String, String> cacheable = plan.executeCacheable(() -> request);
+        request.setAttribute("tenant", "tenant-b");
+        Map<String, String> context = plan.executeUncacheable(cacheable, () -> request);
+
+        // Then
+        assertThat(cacheable).containsOnly(Map.entry("traceId", "trace-123"));
+        assertThat(context).containsOnly(Map.entry("traceId", "trace-123"), Map.entry("tenantId", "tenant-b"));
+    }
+
+    @Test
+    void shouldReturnCacheablePartWithoutRequestAttributeFields() {
+        MDC.put("traceId", "trace-123");
+        ContextExtractionPlan plan = ContextExtractionPlan.compile(new ContextConfig());
+
+        Map<String, String> cacheable = plan.executeCacheable(NO_REQUEST);
+
+        assertThat(plan.executeUncacheable(cacheable, NO_REQUEST)).isSameAs(cacheable);
+    }
+
+    @Test
+    void shouldReturnImmutableContext() {
+        MDC.put("traceId", "trace-123");
+        Map<String, String> context = ContextExtractionPlan.compile(new ContextConfig()).execute(NO_REQUEST);
+
+        assertThatThrownBy(() -> context.put("other", "value"))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
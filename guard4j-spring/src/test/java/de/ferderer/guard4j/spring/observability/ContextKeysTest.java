@@ -0,0 +1,26 @@
+package de.ferderer.guard4j.spring.observability;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContextKeysTest {
+
+    @Test
+    void shouldTreatBlankValuesAsMissing() {
+        assertThat(ContextKeys.textOrNull(null)).isNull();
+        assertThat(ContextKeys.textOrNull("")).isNull();
+        assertThat(ContextKeys.textOrNull(" \t\n")).isNull();
+        assertThat(ContextKeys.textOrNull(" trace-1 ")).isEqualTo(" trace-1 ");
+    }
+
+    @Test
+    void shouldExposeImmutableKeys() {
+        assertThat(ContextKeys.TRACE_ID).startsWith("traceId").contains("X-Trace-Id");
+        assertThat(ContextKeys.USER_ID).startsWith("userId").contains("X-User-ID");
+        assertThat(ContextKeys.CORRELATION_ID).startsWith("correlationId").contains("X-Request-ID");
+        assertThatThrownBy(() -> ContextKeys.TRACE_ID.add("other"))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,84 @@
+package de.ferderer.guard4j.spring.observability;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MdcScopeTest {
+
+    @BeforeEach
+    void setUp() {
+        MDC.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    void shouldRestoreCallerValuesOnClose() {
+        MDC.put("traceId", "caller-trace");
+
+        try (MdcScope scope = new MdcScope()) {
+            scope.put("traceId", "event-trace");
+            scope.put("guard4j.event.type", "test-event");
+            scope.put("ignored", null);
+
+            assertThat(MDC.get("traceId")).isEqualTo("event-trace");
+            assertThat(MDC.get("guard4j.event.type")).isEqualTo("test-event");
+        }
+
+        assertThat(MDC.get("traceId")).isEqualTo("caller-trace");
+        assertThat(MDC.get("guard4j.event.type")).isNull();
+        assertThat(MDC.get("ignored")).isNull();
+    }
+
+    @Test
+    void shouldRecognizeMdcRestoredByScope() {
+        // Given
+        MDC.put("traceId", "trace-123");
+        Map<String, String> before = MdcScope.fingerprint();
+
+        // When
+        try (MdcScope scope = new MdcScope()) {
+            scope.put("guard4j.event.type", "test-event");
+        }
+        Map<String, String> after = MdcScope.fingerprint();
+
+        // Then
+        assertThat(after).isNotSameAs(before).isEqualTo(before);
+        assertThat(MdcScope.isRestoredFrom(after, before)).isTrue();
+
+        MDC.put("correlationId", "corr-456");
+        assertThat(MdcScope.isRestoredFrom(MdcScope.fingerprint(), before)).isFalse();
+    }
+
+    @Test
+    void shouldHitRequestContextCacheAcrossScopes() {
+        // Given
+        MDC.put("traceId", "trace-123");
+        RequestContextCache cache = new RequestContextCache();
+        Map<String, String> context = Map.of("traceId", "trace-123");
+        cache.put(null, MdcScope.fingerprint(), context);
+
+        for (int event = 0; event < 3; event++) {
+            // When
+            try (MdcScope scope = new MdcScope()) {
+                scope.put("guard4j.event.type", "test-event");
+            }
+            Map<String, String> mdc = MdcScope.fingerprint();
+
+            // Then
+            assertThat(cache.get(null, mdc)).isSameAs(context);
+        }
+
+        MDC.put("traceId", "trace-456");
+        assertThat(cache.get(null, MdcScope.fingerprint())).isNull();
+    }
+}
@@ -0,0 +1,102 @@
+package de.ferderer.guard4j.spring.observability;
+
+import de.ferderer.guard4j.observability.ContextExtractor;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for ScopedContextExtractor.
+ */
+class ScopedContextExtractorTest {
+
+    private final ContextExtractor fallback = new ContextExtractor() {
+        @Override
+        public Map<String, String> extractContext() {
+            return Map.of("traceId", "fallback-trace");
+        }
+
+        @Override
+        public Optional<String> extractTraceId() {
+            return Optional.of("fallback-trace");
+        }
+
+        @Override
+        public Optional<String> extractUserId() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> extractCorrelationId() {
+            return Optional.empty();
+        }
+    };
+
+    private final ScopedContextExtractor extractor = new ScopedContextExtractor(fallback);
+
+    @Test
+    void shouldReadBoundContextWithinScope() {
+        // Given
+        Map<String, String> context = Map.of("traceId", "trace-1", "userId", "alice", "correlationId", "corr-1");
+
+        // When / Then
+        ScopedContext.run(context, () -> {
+            assertThat(extractor.extractContext()).isSameAs(context);
+            assertThat(extractor.extractTraceId()).contains("trace-1");
+            assertThat(extractor.extractUserId()).contains("alice");
+            assertThat(extractor.extractCorrelationId()).contains("corr-1");
+        });
+    }
+
+    @Test
+    void shouldDelegateToFallbackOutsideScope() {
+        assertThat(extractor.extractContext()).containsOnly(Map.entry("traceId", "fallback-trace"));
+        assertThat(extractor.extractTraceId()).contains("fallback-trace");
+        assertThat(extractor.extractUserId()).isEmpty();
+    }
+
+    @Test
+    void shouldNotFallBackForFieldsMissingFromBoundContext() {
+        ScopedContext.run(Map.of(), () -> {
+            assertThat(extractor.extractContext()).isEmpty();
+            assertThat(extractor.extractTraceId()).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldRestoreOuterContextAfterNestedScope() {
+        // Given
+        AtomicReference<Optional<String>> afterNested = new AtomicReference<>();
+
+        // When
+        ScopedContext.run(Map.of("traceId", "outer"), () -> {
+            ScopedContext.run(Map.of("traceId", "inner"),
+                () -> assertThat(extractor.extractTraceId()).contains("inner"));
+            afterNested.set(extractor.extractTraceId());
+        });
+
+        // Then
+        assertThat(afterNested.get()).contains("outer");
+        assertThat(extractor.extractTraceId()).contains("fallback-trace");
+    }
+
+    @Test
+    void shouldUnbindContextWhenActionFails() {
+        assertThatThrownBy(() -> ScopedContext.run(Map.of("traceId", "failing"), () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+
+        assertThat(extractor.extractTraceId()).contains("fallback-trace");
+    }
+
+    @Test
+    void shouldRejectMissingFallback() {
+        assertThatThrownBy(() -> new ScopedContextExtractor(null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
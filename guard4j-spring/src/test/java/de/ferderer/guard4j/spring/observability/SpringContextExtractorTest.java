@@ -208,4 +208,88 @@ class SpringContextExtractorTest {
         
         assertThat(context).containsEntry("clientVersion", "1.2.3");
     }
+
+    @Test
+    void extractContext_shouldReuseCachedContextWithinRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(RequestContextCache.ATTRIBUTE, new RequestContextCache());
+        request.addHeader("X-Trace-Id", "trace-123");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        Map<String, String> first = contextExtractor.extractContext();
+        request.addHeader("X-Correlation-ID", "corr-ignored");
+        Map<String, String> second = contextExtractor.extractContext();
+
+        assertThat(second).isSameAs(first);
+        assertThat(second).containsEntry("traceId", "trace-123").doesNotContainKey("correlationId");
+    }
+
+    @Test
+    void extractContext_shouldInvalidateCacheWhenMdcChanges() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(RequestContextCache.ATTRIBUTE, new RequestContextCache());
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        Map<String, String> before = contextExtractor.extractContext();
+        MDC.put("correlationId", "corr-456");
+        Map<String, String> after = contextExtractor.extractContext();
+
+        assertThat(before).isEmpty();
+        assertThat(after).containsEntry("correlationId", "corr-456");
+    }
+
+    @Test
+    void extractContext_shouldReadRequestAttributesForEveryEvent() {
+        var customFields = new ArrayList<ContextConfig.CustomField>();
+        customFields.add(new ContextConfig.CustomField("tenantId", ContextConfig.FieldSource.ATTRIBUTE, "tenant"));
+        SpringContextExtractor customExtractor = new SpringContextExtractor(
+            new ContextConfig(true, true, true, true, customFields));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(RequestContextCache.ATTRIBUTE, new RequestContextCache());
+        request.setAttribute("tenant", "tenant-a");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        Map<String, String> first = customExtractor.extractContext();
+        request.setAttribute("tenant", "tenant-b");
+        Map<String, String> second = customExtractor.extractContext();
+
+        assertThat(first).containsEntry("tenantId", "tenant-a");
+        assertThat(second).containsEntry("tenantId", "tenant-b");
+    }
+
+    @Test
+    void extractContext_shouldReuseCachedContextAfterMdcScope() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(RequestContextCache.ATTRIBUTE, new RequestContextCache());
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        MDC.put("traceId", "trace-123");
+
+        Map<String, String> first = contextExtractor.extractContext();
+        Map<String, String> mdcBefore = MdcScope.fingerprint();
+        try (MdcScope scope = new MdcScope()) {
+            scope.put("guard4j.event.type", "test-event");
+        }
+        Map<String, String> second = contextExtractor.extractContext();
+
+        assertThat(MdcScope.fingerprint()).isNotSameAs(mdcBefore);
+        assertThat(MdcScope.isRestoredFrom(MdcScope.fingerprint(), mdcBefore)).isTrue();
+        assertThat(second).isSameAs(first).containsEntry("traceId", "trace-123");
+    }
+
+    @Test
+    void extractContext_shouldInvalidateCacheWhenAuthenticationChanges() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(RequestContextCache.ATTRIBUTE, new RequestContextCache());
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        Map<String, String> anonymous = contextExtractor.extractContext();
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(authentication.getName()).thenReturn("testuser");
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        SecurityContextHolder.setContext(securityContext);
+        Map<String, String> authenticated = contextExtractor.extractContext();
+
+        assertThat(anonymous).doesNotContainKey("userId");
+        assertThat(authenticated).containsEntry("userId", "testuser");
+    }
 }
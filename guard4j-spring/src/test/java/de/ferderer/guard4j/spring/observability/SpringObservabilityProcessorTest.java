@@ -1,21 +1,35 @@
 package de.ferderer.guard4j.spring.observability;
 
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
 import de.ferderer.guard4j.classification.Level;
 import de.ferderer.guard4j.observability.ContextConfig;
+import de.ferderer.guard4j.observability.ContextExtractor;
+import de.ferderer.guard4j.observability.EventType;
 import de.ferderer.guard4j.observability.ObservableEvent;
 import de.ferderer.guard4j.spring.autoconfigure.Guard4jProperties;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
 
 /**
  * Unit tests for SpringObservabilityProcessor with the new Emitter pattern.
@@ -56,16 +70,20 @@ class SpringObservabilityProcessorTest {
         ObservableEvent event = createTestEvent("test.event", 1);
 
         // When
-        processor.processWithLevel(event, Level.ERROR, "com.example.TestService");
+        processor.processTimed(event, 2_000_000, Level.ERROR, "com.example.TestService");
 
         // Then
         Counter counter = meterRegistry.find("test-app.events").counter();
         assertThat(counter).isNotNull();
         assertThat(counter.count()).isEqualTo(1.0);
 
-        Timer timer = meterRegistry.find("test-app.errors").timer();
+        Timer timer = meterRegistry.find("test-app.duration").timer();
         assertThat(timer).isNotNull();
         assertThat(timer.count()).isEqualTo(1);
+
+        Timer errorTimer = meterRegistry.find("test-app.errors").timer();
+        assertThat(errorTimer).isNotNull();
+        assertThat(errorTimer.count()).isEqualTo(1);
     }
 
     @Test
@@ -128,6 +146,217 @@ class SpringObservabilityProcessorTest {
         assertThat(MDC.get("guard4j.event.metric")).isNull();
     }
 
+    @Test
+    void shouldRestoreCallerMdcAndExtractContextOnce() {
+        // Given
+        ObservableEvent event = createTestEvent("test.event", 1);
+        AtomicInteger extractions = new AtomicInteger();
+        processor.setContextExtractor(new ContextExtractor() {
+            @Override
+            public Map<String, String> extractContext() {
+                extractions.incrementAndGet();
+                return Map.of("traceId", "trace-123");
+            }
+
+            @Override
+            public Optional<String> extractTraceId() {
+                return Optional.of("trace-123");
+            }
+
+            @Override
+            public Optional<String> extractUserId() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Optional<String> extractCorrelationId() {
+                return Optional.empty();
+            }
+        });
+        MDC.clear();
+        MDC.put("guard4j.context.traceId", "outer-trace");
+        MDC.put("guard4j.event.type", "outer.event");
+
+        // When
+        processor.processWithLevel(event, Level.INFO, "com.example.TestService");
+
+        // Then - extracted once, caller values restored, own keys removed
+        assertThat(extractions).hasValue(1);
+        assertThat(MDC.get("guard4j.context.traceId")).isEqualTo("outer-trace");
+        assertThat(MDC.get("guard4j.event.type")).isEqualTo("outer.event");
+        assertThat(MDC.get("guard4j.event.level")).isNull();
+        MDC.clear();
+    }
+
+    @Test
+    void shouldUseDefaultsWhenObservabilityIsNotConfigured() {
+        // Given
+        Guard4jProperties withoutObservability = new Guard4jProperties(
+            true, false, false, Map.of(), null, new Guard4jProperties.Web(true, true, -100));
+        processor = new SpringObservabilityProcessor(meterRegistry, withoutObservability, "test-app");
+        MDC.clear();
+
+        // When
+        processor.processWithLevel(createTestEvent("test.event", 1), Level.INFO, "com.example.TestService");
+
+        // Then - metrics recorded and logging with MDC did not fail
+        Counter counter = meterRegistry.find("test-app.events").counter();
+        assertThat(counter).isNotNull();
+        assertThat(counter.count()).isEqualTo(1.0);
+        assertThat(MDC.get("guard4j.event.type")).isNull();
+    }
+
+    @Test
+    void shouldApplyRefreshedConfiguration() {
+        // Given
+        ObservableEvent event = createTestEvent("test.event", 1);
+        processor.processWithLevel(event, Level.INFO, "com.example.TestService");
+
+        Guard4jProperties.Observability renamed = new Guard4jProperties.Observability(
+            true, "renamed", true, true, new ContextConfig());
+        Guard4jProperties metricsOff = new Guard4jProperties(
+            true, false, false, Map.of(),
+            new Guard4jProperties.Observability(false, "renamed", true, true, new ContextConfig()),
+            properties.web());
+
+        // When
+        processor.refresh(new Guard4jProperties(true, false, false, Map.of(), renamed, properties.web()));
+        processor.processWithLevel(event, Level.INFO, "com.example.TestService");
+        processor.refresh(metricsOff);
+        processor.processWithLevel(event, Level.INFO, "com.example.TestService");
+
+        // Then
+        assertThat(meterRegistry.find("test-app.events").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.find("renamed.events").counter().count()).isEqualTo(1.0);
+        assertThat(processor.effectiveLevel("com.example.TestService")).isNotEqualTo(Level.TRACE);
+    }
+
+    @Test
+    void shouldAttachKeyValuesWithoutTouchingMdc() {
+        // Given
+        ch.qos.logback.classic.Logger logger =
+            (ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.example.KeyValueService");
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        Guard4jProperties keyValueProperties = new Guard4jProperties(
+            true, false, false, Map.of(),
+            new Guard4jProperties.Observability(false, "test-app", true, true, new ContextConfig(),
+                Guard4jProperties.Observability.LoggingMode.KEY_VALUE),
+            properties.web());
+        processor = new SpringObservabilityProcessor(meterRegistry, keyValueProperties, "test-app");
+        MDC.clear();
+
+        try {
+            // When
+            processor.processWithLevel(createTestEvent("test.event", 3), Level.WARN, "com.example.KeyValueService");
+
+            // Then
+            assertThat(appender.list).hasSize(1);
+            ILoggingEvent logged = appender.list.get(0);
+            assertThat(logged.getKeyValuePairs())
+                .extracting(pair -> pair.key)
+                .contains("guard4j.app", "guard4j.event.type", "guard4j.event.level", "guard4j.event.metric");
+            assertThat(logged.getMDCPropertyMap()).doesNotContainKey("guard4j.event.type");
+        } finally {
+            logger.detachAppender(appender);
+        }
+    }
+
+    @Test
+    void shouldSkipContextExtractionForDisabledLogger() {
+        // Given
+        ch.qos.logback.classic.Logger logger =
+            (ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.example.QuietService");
+        logger.setLevel(ch.qos.logback.classic.Level.ERROR);
+        AtomicInteger extractions = new AtomicInteger();
+        processor.setContextExtractor(new ContextExtractor() {
+            @Override
+            public Map<String, String> extractContext() {
+                extractions.incrementAndGet();
+                return Map.of();
+            }
+
+            @Override
+            public Optional<String> extractTraceId() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Optional<String> extractUserId() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Optional<String> extractCorrelationId() {
+                return Optional.empty();
+            }
+        });
+
+        try {
+            // When
+            processor.processWithLevel(createTestEvent("test.event", 1), Level.INFO, "com.example.QuietService");
+
+            // Then
+            assertThat(extractions).hasValue(0);
+        } finally {
+            logger.setLevel(null);
+        }
+    }
+
+    @Test
+    void shouldPickUpLogbackLevelChangesForCachedLoggers() {
+        // Given
+        ch.qos.logback.classic.Logger logger =
+            (ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.example.ReconfiguredService");
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        logger.setLevel(ch.qos.logback.classic.Level.WARN);
+
+        try {
+            processor.processWithLevel(createTestEvent("test.event", 1), Level.INFO, "com.example.ReconfiguredService");
+            assertThat(appender.list).isEmpty();
+            assertThat(processor.effectiveLevel("com.example.ReconfiguredService")).isEqualTo(Level.TRACE);
+
+            // When
+            logger.setLevel(ch.qos.logback.classic.Level.DEBUG);
+            processor.processWithLevel(createTestEvent("test.event", 1), Level.INFO, "com.example.ReconfiguredService");
+            processor.processWithLevel(createTestEvent("test.event", 1), Level.TRACE, "com.example.ReconfiguredService");
+
+            // Then
+            assertThat(appender.list).hasSize(1);
+            assertThat(appender.list.get(0).getLevel()).isEqualTo(ch.qos.logback.classic.Level.INFO);
+        } finally {
+            logger.detachAppender(appender);
+            logger.setLevel(null);
+        }
+    }
+
+    @Test
+    void shouldReportLoggerLevelWhenOnlyLoggingIsEnabled() {
+        // Given
+        ch.qos.logback.classic.Logger logger =
+            (ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.example.LoggingOnlyService");
+        processor.refresh(new Guard4jProperties(
+            true, false, false, Map.of(),
+            new Guard4jProperties.Observability(false, "test-app", true, true, new ContextConfig()),
+            properties.web()));
+        logger.setLevel(ch.qos.logback.classic.Level.WARN);
+
+        try {
+            assertThat(processor.effectiveLevel("com.example.LoggingOnlyService")).isEqualTo(Level.WARN);
+
+            // When
+            logger.setLevel(ch.qos.logback.classic.Level.OFF);
+
+            // Then
+            assertThat(processor.effectiveLevel("com.example.LoggingOnlyService")).isNull();
+        } finally {
+            logger.setLevel(null);
+        }
+    }
+
     @Test
     void shouldProcessInfoEventWithoutTimer() {
         // Given
@@ -141,12 +370,15 @@ class SpringObservabilityProcessorTest {
         assertThat(counter).isNotNull();
         assertThat(counter.count()).isEqualTo(1.0);
 
-        Timer timer = meterRegistry.find("test-app.errors").timer();
-        assertThat(timer).isNull(); // Timer only for error events
+        Timer timer = meterRegistry.find("test-app.duration").timer();
+        assertThat(timer).isNull(); // Timer only for timed events
+
+        Timer errorTimer = meterRegistry.find("test-app.errors").timer();
+        assertThat(errorTimer).isNull(); // Timer only for error events
     }
 
     @Test
-    void shouldProcessWarnEventWithTimer() {
+    void shouldProcessWarnEventWithoutTimer() {
         // Given
         ObservableEvent event = createTestEvent("test.event", 1);
 
@@ -158,13 +390,12 @@ class SpringObservabilityProcessorTest {
         assertThat(counter).isNotNull();
         assertThat(counter.count()).isEqualTo(1.0);
 
-        Timer timer = meterRegistry.find("test-app.errors").timer();
-        assertThat(timer).isNotNull();
-        assertThat(timer.count()).isEqualTo(1);
+        assertThat(meterRegistry.find("test-app.errors").timer()).isNull(); // No measured duration
+        assertThat(meterRegistry.find("test-app.duration").timer()).isNull(); // Not timed
     }
 
     @Test
-    void shouldProcessFatalEventWithTimer() {
+    void shouldProcessFatalEventWithoutTimer() {
         // Given
         ObservableEvent event = createTestEvent("test.event", 1);
 
@@ -176,9 +407,78 @@ class SpringObservabilityProcessorTest {
         assertThat(counter).isNotNull();
         assertThat(counter.count()).isEqualTo(1.0);
 
-        Timer timer = meterRegistry.find("test-app.errors").timer();
+        assertThat(meterRegistry.find("test-app.errors").timer()).isNull(); // No measured duration
+    }
+
+    @Test
+    void shouldRecordUntimedErrorEventsWhenCompatibilityIsEnabled() {
+        // Given
+        Guard4jProperties compatibleProperties = new Guard4jProperties(
+            true, false, false, Map.of(),
+            new Guard4jProperties.Observability(true, "test-app", false, false, new ContextConfig(),
+                Guard4jProperties.Observability.LoggingMode.MDC, null, true),
+            properties.web());
+        processor = new SpringObservabilityProcessor(meterRegistry, compatibleProperties, "test-app");
+        ObservableEvent event = createTestEvent("test.event", 1);
+
+        // When
+        processor.processWithLevel(event, Level.WARN, "com.example.TestService");
+        processor.processWithLevel(event, Level.INFO, "com.example.TestService");
+        processor.processTimed(event, 2_000_000, Level.WARN, "com.example.TestService");
+
+        // Then
+        Timer errorTimer = meterRegistry.find("test-app.errors").tag("level", "warn").timer();
+        assertThat(errorTimer).isNotNull();
+        assertThat(errorTimer.count()).isEqualTo(2);
+        assertThat(errorTimer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2.0);
+        assertThat(meterRegistry.find("test-app.errors").tag("level", "info").timer()).isNull();
+    }
+
+    @Test
+    void shouldRecordMeasuredDurationOfTimedEvent() {
+        // Given
+        ObservableEvent event = createTestEvent("test.event", 1);
+
+        // When
+        processor.processTimed(event, 2_000_000, Level.FATAL, "com.example.TestService");
+        processor.processTimed(event, 4_000_000, Level.FATAL, "com.example.TestService");
+
+        // Then
+        Counter counter = meterRegistry.find("test-app.events").counter();
+        assertThat(counter).isNotNull();
+        assertThat(counter.count()).isEqualTo(2.0);
+
+        Timer timer = meterRegistry.find("test-app.duration").tag("level", "fatal").timer();
         assertThat(timer).isNotNull();
-        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(6.0);
+        assertThat(timer.max(TimeUnit.MILLISECONDS)).isEqualTo(4.0);
+
+        Timer errorTimer = meterRegistry.find("test-app.errors").tag("level", "fatal").timer();
+        assertThat(errorTimer).isNotNull();
+        assertThat(errorTimer.count()).isEqualTo(2);
+        assertThat(errorTimer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(6.0);
+    }
+
+    @Test
+    void shouldPublishConfiguredPercentilesAndSloBuckets() {
+        // Given
+        Guard4jProperties timerProperties = new Guard4jProperties(
+            true, false, false, Map.of(),
+            new Guard4jProperties.Observability(true, "test-app", false, false, new ContextConfig(),
+                Guard4jProperties.Observability.LoggingMode.MDC,
+                new Guard4jProperties.Observability.TimerConfig(
+                    List.of(0.5, 0.99), List.of(Duration.ofMillis(1), Duration.ofMillis(10)), false)),
+            properties.web());
+        processor = new SpringObservabilityProcessor(meterRegistry, timerProperties, "test-app");
+
+        // When
+        processor.processTimed(createTestEvent("test.event", 1), 2_000_000, Level.INFO, "com.example.TestService");
+
+        // Then
+        HistogramSnapshot snapshot = meterRegistry.find("test-app.duration").timer().takeSnapshot();
+        assertThat(snapshot.percentileValues()).extracting(ValueAtPercentile::percentile).containsExactly(0.5, 0.99);
+        assertThat(snapshot.histogramCounts()).extracting(CountAtBucket::count).containsExactly(0.0, 1.0);
     }
 
     @Test
@@ -203,16 +503,20 @@ class SpringObservabilityProcessorTest {
         ObservableEvent event = createTestEvent("test.event", 1);
 
         // When
-        processor.processWithLevel(event, Level.ERROR, "com.example.TestService");
+        processor.processTimed(event, 1_000_000, Level.ERROR, "com.example.TestService");
 
         // Then
         Counter counter = meterRegistry.find("custom.events").counter();
         assertThat(counter).isNotNull();
         assertThat(counter.count()).isEqualTo(1.0);
 
-        Timer timer = meterRegistry.find("custom.errors").timer();
+        Timer timer = meterRegistry.find("custom.duration").timer();
         assertThat(timer).isNotNull();
         assertThat(timer.count()).isEqualTo(1);
+
+        Timer errorTimer = meterRegistry.find("custom.errors").timer();
+        assertThat(errorTimer).isNotNull();
+        assertThat(errorTimer.count()).isEqualTo(1);
     }
 
     @Test
@@ -313,6 +617,23 @@ class SpringObservabilityProcessorTest {
         assertThat(counter.count()).isEqualTo(1.0);
     }
 
+    @Test
+    void shouldNotThrowForEventWithInvalidEventType() {
+        // Given
+        ObservableEvent event = new BlankTypeEvent();
+
+        // When / Then
+        assertThatCode(() -> processor.processWithLevel(event, Level.INFO, "com.example.TestService"))
+            .doesNotThrowAnyException();
+        assertThatCode(() -> processor.processTimed(event, 1_000, Level.ERROR, "com.example.TestService"))
+            .doesNotThrowAnyException();
+        assertThat(meterRegistry.find("test-app.events").counter()).isNull();
+    }
+
+    @EventType(" ")
+    private static final class BlankTypeEvent implements ObservableEvent {
+    }
+
     private ObservableEvent createTestEvent(String eventType, int metricValue) {
         return new ObservableEvent() {
             @Override